@@ -7,9 +7,12 @@ plugins {
 group = "com.glennsyj.rivals"
 version = "0.0.1-SNAPSHOT"
 
+// 가상 스레드 모드는 Java 21 이상 필요: ./gradlew bootRun -PjavaVersion=21
+val javaVersion = (findProperty("javaVersion") as String?)?.toInt() ?: 17
+
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(javaVersion)
 	}
 }
 
@@ -28,6 +31,7 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
 
 	implementation("io.hypersistence:hypersistence-utils-hibernate-63:3.7.3")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	testImplementation("org.testcontainers:testcontainers:1.19.7")
 	testImplementation("org.testcontainers:junit-jupiter:1.19.7")
 	testImplementation("org.testcontainers:mariadb:1.19.7")
@@ -1,5 +1,7 @@
 package com.glennsyj.rivals.api.common.client;
 
+import com.glennsyj.rivals.api.common.client.exception.RiotRateLimitException;
+import com.glennsyj.rivals.api.common.client.retry.RiotRetryPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -7,7 +9,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
 
@@ -17,47 +18,46 @@ import java.time.Duration;
 @Component
 public abstract class BaseRiotClient {
     private static final Logger logger = LoggerFactory.getLogger(BaseRiotClient.class);
-    private static final int MAX_RETRIES = 1;
-    private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(2);
-    
+
     protected final WebClient riotAsiaWebClient;
     protected final WebClient riotKorWebClient;
+    private final RiotRetryPolicy riotRetryPolicy;
 
-    protected BaseRiotClient(WebClient riotAsiaWebClient, WebClient riotKorWebClient) {
+    protected BaseRiotClient(WebClient riotAsiaWebClient, WebClient riotKorWebClient, RiotRetryPolicy riotRetryPolicy) {
         this.riotAsiaWebClient = riotAsiaWebClient;
         this.riotKorWebClient = riotKorWebClient;
+        this.riotRetryPolicy = riotRetryPolicy;
     }
 
-    protected <T> T handleApiCall(Mono<T> apiCall, String errorMessage) {
+    /**
+     * 재시도 정책이 적용된 호출을 동기적으로 기다림
+     * 대기 시간은 RiotRetryPolicy의 요청 당 기한으로 제한된다.
+     */
+    protected <T> T handleApiCall(String endpoint, Mono<T> apiCall, String errorMessage) {
         long startTime = System.currentTimeMillis();
         try {
-            return apiCall
-                    .retryWhen(Retry.backoff(MAX_RETRIES, INITIAL_BACKOFF)
-                            .filter(throwable -> shouldRetry(throwable))
-                            .doBeforeRetry(retrySignal -> 
-                                logger.warn("Retrying API call after error. Attempt {}/{}",
-                                    retrySignal.totalRetries() + 1, MAX_RETRIES)))
+            return withRetry(endpoint, apiCall)
                     .blockOptional()
                     .orElseThrow(() -> new IllegalStateException(errorMessage));
         } catch (WebClientResponseException e) {
             if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
                 String retryAfter = e.getHeaders().getFirst("Retry-After");
                 logger.error("Rate limit exceeded. Retry after {} seconds", retryAfter);
-                throw new IllegalStateException("Riot API 호출 횟수 제한 초과. " + retryAfter + "초 후에 다시 시도해주세요.", e);
+                Duration retryAfterDuration = RiotRetryPolicy.parseRetryAfter(retryAfter);
+                throw new RiotRateLimitException("Riot API 호출 횟수 제한 초과. " + retryAfter + "초 후에 다시 시도해주세요.",
+                        retryAfterDuration != null ? retryAfterDuration : Duration.ZERO, e);
             }
             throw new IllegalStateException("Riot API 호출 실패: " + e.getResponseBodyAsString(), e);
         } finally {
             long duration = System.currentTimeMillis() - startTime;
-            logger.info("Riot API call for '{}' completed in {}ms", this.getClass(), duration);
+            logger.info("Riot API call for '{}' completed in {}ms", endpoint, duration);
         }
     }
 
-    private boolean shouldRetry(Throwable throwable) {
-        if (throwable instanceof WebClientResponseException e) {
-            return e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS ||
-                   e.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE ||
-                   e.getStatusCode() == HttpStatus.GATEWAY_TIMEOUT;
-        }
-        return false;
+    /**
+     * 비동기 호출부에서 이용하는 재시도 정책 적용 Mono
+     */
+    protected <T> Mono<T> withRetry(String endpoint, Mono<T> apiCall) {
+        return riotRetryPolicy.apply(endpoint, apiCall);
     }
-}
\ No newline at end of file
+}
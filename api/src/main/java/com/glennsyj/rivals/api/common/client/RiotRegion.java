@@ -0,0 +1,9 @@
+package com.glennsyj.rivals.api.common.client;
+
+/*
+    Riot API는 라우팅 값(asia, kr 등) 별로 속도 제한이 따로 집계되므로 WebClient 단위로 구분
+ */
+public enum RiotRegion {
+    ASIA,
+    KOR
+}
@@ -0,0 +1,20 @@
+package com.glennsyj.rivals.api.common.client.exception;
+
+import java.time.Duration;
+
+/*
+    Riot API 호출 제한으로 요청 기한 내 응답을 받을 수 없는 경우
+    기존 호출부가 IllegalStateException으로 실패를 처리하므로 그대로 상속
+ */
+public class RiotRateLimitException extends IllegalStateException {
+    private final Duration retryAfter;
+
+    public RiotRateLimitException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,36 @@
+package com.glennsyj.rivals.api.common.client.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Riot 속도 제한 헤더의 "count:seconds" 한 쌍
+ * (X-App-Rate-Limit: 20:1,100:120 / X-App-Rate-Limit-Count: 3:1,45:120)
+ */
+record RateLimit(int count, long windowSeconds) {
+
+    long windowNanos() {
+        return TimeUnit.SECONDS.toNanos(windowSeconds);
+    }
+
+    static List<RateLimit> parse(String header) {
+        List<RateLimit> limits = new ArrayList<>();
+        if (header == null || header.isBlank()) {
+            return limits;
+        }
+
+        for (String pair : header.split(",")) {
+            String[] parts = pair.trim().split(":");
+            if (parts.length != 2) {
+                continue;
+            }
+            try {
+                limits.add(new RateLimit(Integer.parseInt(parts[0].trim()), Long.parseLong(parts[1].trim())));
+            } catch (NumberFormatException ignored) {
+                // 형식이 잘못된 값은 무시하고 나머지 창만 반영
+            }
+        }
+        return limits;
+    }
+}
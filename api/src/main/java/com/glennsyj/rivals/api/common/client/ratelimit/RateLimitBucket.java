@@ -0,0 +1,158 @@
+package com.glennsyj.rivals.api.common.client.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 개의 시간 창(예: 20:1, 100:120)을 동시에 만족시켜야 하는 토큰 버킷
+ *
+ * Riot API는 첫 요청 시점부터 창이 시작되고, 창이 끝나면 한 번에 초기화되는 고정 창 방식이므로
+ * 각 창의 토큰도 점진적으로 채우지 않고 창이 끝나는 시점에 한 번에 채운다.
+ * 동기화는 호출하는 쪽(RiotRateLimiter)에서 담당한다.
+ */
+class RateLimitBucket {
+
+    private final long paddingNanos;
+    private List<Window> windows = new ArrayList<>();
+
+    RateLimitBucket(List<RateLimit> limits, long paddingNanos) {
+        this.paddingNanos = paddingNanos;
+        reconfigure(limits);
+    }
+
+    /**
+     * @return 즉시 토큰을 얻을 수 있으면 0, 아니면 기다려야 하는 시간(ns)
+     */
+    long waitNanos(long now) {
+        long wait = 0;
+        for (Window window : windows) {
+            wait = Math.max(wait, window.waitNanos(now));
+        }
+        return wait;
+    }
+
+    void consume(long now) {
+        for (Window window : windows) {
+            window.consume(now);
+        }
+    }
+
+    /**
+     * X-App-Rate-Limit / X-Method-Rate-Limit 헤더로 받은 한도가 현재 설정과 다르면 교체한다.
+     * 같은 길이의 창은 남은 토큰과 초기화 시점을 그대로 유지한다.
+     */
+    void reconfigure(List<RateLimit> limits) {
+        if (limits.isEmpty() || sameLimits(limits)) {
+            return;
+        }
+
+        List<Window> newWindows = new ArrayList<>(limits.size());
+        for (RateLimit limit : limits) {
+            Window window = new Window(limit.count(), limit.windowNanos() + paddingNanos);
+            for (Window old : windows) {
+                if (old.durationNanos == window.durationNanos) {
+                    window.remaining = Math.min(old.remaining, window.limit);
+                    window.resetAt = old.resetAt;
+                }
+            }
+            newWindows.add(window);
+        }
+        this.windows = newWindows;
+    }
+
+    /**
+     * X-App-Rate-Limit-Count / X-Method-Rate-Limit-Count 헤더로 받은 Riot 측 사용량을 반영한다.
+     * Riot 측 집계가 더 많으면 그 값을 따르고, 적은 경우에는 보수적으로 로컬 값을 유지한다.
+     */
+    void syncCounts(List<RateLimit> counts, long now) {
+        for (RateLimit count : counts) {
+            for (Window window : windows) {
+                if (window.durationNanos == count.windowNanos() + paddingNanos) {
+                    window.sync(count.count(), now);
+                }
+            }
+        }
+    }
+
+    /**
+     * 429 응답의 Retry-After 동안 모든 창을 비워 요청이 나가지 않도록 한다.
+     */
+    void blockUntil(long until) {
+        for (Window window : windows) {
+            window.remaining = 0;
+            window.resetAt = Math.max(window.resetAt, until);
+        }
+    }
+
+    /**
+     * 가장 빡빡한 창 기준 남은 토큰 비율 (0.0 ~ 1.0)
+     */
+    double availableRatio(long now) {
+        double ratio = 1.0;
+        for (Window window : windows) {
+            window.refill(now);
+            ratio = Math.min(ratio, (double) window.remaining / window.limit);
+        }
+        return ratio;
+    }
+
+    private boolean sameLimits(List<RateLimit> limits) {
+        if (limits.size() != windows.size()) {
+            return false;
+        }
+        for (RateLimit limit : limits) {
+            boolean matched = windows.stream().anyMatch(window ->
+                    window.limit == limit.count() && window.durationNanos == limit.windowNanos() + paddingNanos);
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Window {
+        private final int limit;
+        private final long durationNanos;
+        private int remaining;
+        // 0이면 아직 창이 시작되지 않은 상태
+        private long resetAt;
+
+        private Window(int limit, long durationNanos) {
+            this.limit = limit;
+            this.durationNanos = durationNanos;
+            this.remaining = limit;
+            this.resetAt = 0;
+        }
+
+        private void refill(long now) {
+            if (resetAt != 0 && now >= resetAt) {
+                remaining = limit;
+                resetAt = 0;
+            }
+        }
+
+        private long waitNanos(long now) {
+            refill(now);
+            return remaining > 0 ? 0 : resetAt - now;
+        }
+
+        private void consume(long now) {
+            refill(now);
+            if (resetAt == 0) {
+                resetAt = now + durationNanos;
+            }
+            remaining--;
+        }
+
+        private void sync(int riotCount, long now) {
+            refill(now);
+            int riotRemaining = Math.max(0, limit - riotCount);
+            if (riotRemaining < remaining) {
+                remaining = riotRemaining;
+                if (resetAt == 0) {
+                    resetAt = now + durationNanos;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.glennsyj.rivals.api.common.client.ratelimit;
+
+import com.glennsyj.rivals.api.common.client.RiotRegion;
+import com.glennsyj.rivals.api.common.client.retry.RiotRetryPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모든 Riot API 호출이 공유하는 속도 제한기
+ *
+ * - 리전(WebClient) 별로 App Rate Limit 버킷을 하나씩 두고, 엔드포인트 별 Method Rate Limit 버킷을 추가로 둔다.
+ * - 요청 전 두 버킷 모두에서 토큰을 얻어야 요청이 나가며, 토큰이 없으면 Mono.delay로 기다린다(스레드를 점유하지 않음).
+ * - 응답의 X-*-Rate-Limit / X-*-Rate-Limit-Count 헤더로 한도와 사용량을 보정한다.
+ */
+@Component
+public class RiotRateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(RiotRateLimiter.class);
+
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    private final Map<RiotRegion, RegionLimits> regionLimits = new EnumMap<>(RiotRegion.class);
+    private final long paddingNanos;
+
+    public RiotRateLimiter(
+            @Value("${riot.api.rate-limit.app:20:10,100:120}") String defaultAppLimits,
+            @Value("${riot.api.rate-limit.padding-ms:100}") long paddingMillis) {
+        this.paddingNanos = Duration.ofMillis(paddingMillis).toNanos();
+        List<RateLimit> appLimits = RateLimit.parse(defaultAppLimits);
+        for (RiotRegion region : RiotRegion.values()) {
+            regionLimits.put(region, new RegionLimits(new RateLimitBucket(appLimits, paddingNanos)));
+        }
+    }
+
+    /**
+     * 해당 리전 WebClient에 등록할 필터. 구독(재시도 포함)마다 토큰을 하나씩 소비한다.
+     */
+    public ExchangeFilterFunction filterFor(RiotRegion region) {
+        return (request, next) -> {
+            String method = resolveMethodKey(request);
+            return acquire(region, method)
+                    .then(Mono.defer(() -> next.exchange(request)))
+                    .doOnNext(response -> {
+                        HttpHeaders headers = response.headers().asHttpHeaders();
+                        onResponse(region, method, headers);
+                        if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                            Duration retryAfter = RiotRetryPolicy.parseRetryAfter(headers.getFirst("Retry-After"));
+                            if (retryAfter != null) {
+                                blockFor(region, retryAfter);
+                            }
+                        }
+                    });
+        };
+    }
+
+    public Mono<Void> acquire(RiotRegion region, String method) {
+        return Mono.defer(() -> {
+            long waitNanos = regionLimits.get(region).tryAcquire(method, System.nanoTime());
+            if (waitNanos <= 0) {
+                return Mono.empty();
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(acquire(region, method));
+        });
+    }
+
+    public void onResponse(RiotRegion region, String method, HttpHeaders headers) {
+        regionLimits.get(region).adjust(method, headers, System.nanoTime());
+    }
+
+    /**
+     * 429 응답을 받은 경우 Retry-After 동안 해당 리전의 요청을 모두 멈춘다.
+     */
+    public void blockFor(RiotRegion region, Duration duration) {
+        logger.warn("Blocking Riot API calls on {} for {}ms", region, duration.toMillis());
+        regionLimits.get(region).blockUntil(System.nanoTime() + duration.toNanos());
+    }
+
+    /**
+     * 해당 리전의 App Rate Limit 중 가장 빡빡한 창의 남은 토큰 비율
+     */
+    public double availableRatio(RiotRegion region) {
+        return regionLimits.get(region).availableRatio(System.nanoTime());
+    }
+
+    private String resolveMethodKey(ClientRequest request) {
+        return request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                .map(Object::toString)
+                .orElseGet(() -> request.url().getPath());
+    }
+
+    private final class RegionLimits {
+        private final RateLimitBucket appBucket;
+        private final Map<String, RateLimitBucket> methodBuckets = new HashMap<>();
+
+        private RegionLimits(RateLimitBucket appBucket) {
+            this.appBucket = appBucket;
+        }
+
+        private synchronized long tryAcquire(String method, long now) {
+            RateLimitBucket methodBucket = methodBuckets.computeIfAbsent(method,
+                    key -> new RateLimitBucket(List.of(), paddingNanos));
+
+            long wait = Math.max(appBucket.waitNanos(now), methodBucket.waitNanos(now));
+            if (wait > 0) {
+                return wait;
+            }
+
+            appBucket.consume(now);
+            methodBucket.consume(now);
+            return 0;
+        }
+
+        private synchronized void adjust(String method, HttpHeaders headers, long now) {
+            appBucket.reconfigure(RateLimit.parse(headers.getFirst("X-App-Rate-Limit")));
+            appBucket.syncCounts(RateLimit.parse(headers.getFirst("X-App-Rate-Limit-Count")), now);
+
+            RateLimitBucket methodBucket = methodBuckets.computeIfAbsent(method,
+                    key -> new RateLimitBucket(List.of(), paddingNanos));
+            methodBucket.reconfigure(RateLimit.parse(headers.getFirst("X-Method-Rate-Limit")));
+            methodBucket.syncCounts(RateLimit.parse(headers.getFirst("X-Method-Rate-Limit-Count")), now);
+        }
+
+        private synchronized void blockUntil(long until) {
+            appBucket.blockUntil(until);
+        }
+
+        private synchronized double availableRatio(long now) {
+            return appBucket.availableRatio(now);
+        }
+    }
+}
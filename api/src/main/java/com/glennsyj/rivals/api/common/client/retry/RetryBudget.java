@@ -0,0 +1,42 @@
+package com.glennsyj.rivals.api.common.client.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트 별 재시도 예산
+ * 한 창(window) 동안 허용된 재시도 횟수를 모두 쓰면, 다음 창이 열릴 때까지 해당 엔드포인트는 재시도 없이 바로 실패한다.
+ * 장애 상황에서 재시도가 재시도를 부르는 폭주를 막기 위함
+ */
+class RetryBudget {
+
+    private final int maxRetriesPerWindow;
+    private final long windowNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    RetryBudget(int maxRetriesPerWindow, long windowNanos) {
+        this.maxRetriesPerWindow = maxRetriesPerWindow;
+        this.windowNanos = windowNanos;
+    }
+
+    boolean tryConsume(String endpoint, long now) {
+        return windows.computeIfAbsent(endpoint, key -> new Window()).tryConsume(now);
+    }
+
+    private final class Window {
+        private long startedAt = Long.MIN_VALUE;
+        private int used;
+
+        private synchronized boolean tryConsume(long now) {
+            if (startedAt == Long.MIN_VALUE || now - startedAt >= windowNanos) {
+                startedAt = now;
+                used = 0;
+            }
+            if (used >= maxRetriesPerWindow) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.glennsyj.rivals.api.common.client.retry;
+
+import com.glennsyj.rivals.api.common.client.exception.RiotRateLimitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Riot API 호출 재시도 정책
+ *
+ * - 429: Retry-After 헤더만큼 기다린 뒤 재시도
+ * - 5xx / 연결 오류: 지터를 준 지수 백오프로 재시도
+ * - 요청 당 기한(deadline)을 넘기는 대기가 필요하면 기다리지 않고 즉시 실패
+ * - 엔드포인트 별 재시도 예산을 넘으면 재시도하지 않음
+ *
+ * 대기는 Reactor 타이머(Mono.delay)로 예약되므로 대기 중에는 어떤 스레드도 점유하지 않는다.
+ */
+@Component
+public class RiotRetryPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(RiotRetryPolicy.class);
+
+    private final int maxRetries;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration deadline;
+    private final RetryBudget retryBudget;
+
+    public RiotRetryPolicy(
+            @Value("${riot.api.retry.max-retries:2}") int maxRetries,
+            @Value("${riot.api.retry.base-backoff-ms:300}") long baseBackoffMillis,
+            @Value("${riot.api.retry.max-backoff-ms:3000}") long maxBackoffMillis,
+            @Value("${riot.api.retry.deadline-ms:8000}") long deadlineMillis,
+            @Value("${riot.api.retry.budget-per-minute:20}") int budgetPerMinute) {
+        this.maxRetries = maxRetries;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.deadline = Duration.ofMillis(deadlineMillis);
+        this.retryBudget = new RetryBudget(budgetPerMinute, Duration.ofMinutes(1).toNanos());
+    }
+
+    public <T> Mono<T> apply(String endpoint, Mono<T> apiCall) {
+        return Mono.defer(() -> {
+            long deadlineAt = System.nanoTime() + deadline.toNanos();
+
+            return apiCall
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal ->
+                            scheduleRetry(endpoint, signal.failure(), signal.totalRetries(), deadlineAt))))
+                    .timeout(deadline)
+                    .onErrorMap(TimeoutException.class, e -> new RiotRateLimitException(
+                            "Riot API 응답 대기 시간 초과: " + endpoint, Duration.ZERO, e));
+        });
+    }
+
+    private Mono<Long> scheduleRetry(String endpoint, Throwable failure, long totalRetries, long deadlineAt) {
+        if (!isRetryable(failure) || totalRetries >= maxRetries) {
+            return Mono.error(failure);
+        }
+
+        Duration delay = retryAfter(failure);
+        if (delay == null) {
+            delay = jitteredBackoff(totalRetries);
+        }
+
+        if (System.nanoTime() + delay.toNanos() > deadlineAt) {
+            // 기한 내 재시도가 불가능하면 스레드를 붙잡아 두지 않고 바로 실패
+            return Mono.error(new RiotRateLimitException(
+                    "Riot API 호출 횟수 제한 초과. " + delay.toSeconds() + "초 후에 다시 시도해주세요.", delay, failure));
+        }
+
+        if (!retryBudget.tryConsume(endpoint, System.nanoTime())) {
+            logger.warn("Retry budget exhausted for '{}'", endpoint);
+            return Mono.error(failure);
+        }
+
+        logger.warn("Retrying '{}' in {}ms. Attempt {}/{}", endpoint, delay.toMillis(), totalRetries + 1, maxRetries);
+        return Mono.delay(delay);
+    }
+
+    private boolean isRetryable(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e) {
+            return e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS || e.getStatusCode().is5xxServerError();
+        }
+        return throwable instanceof WebClientRequestException;
+    }
+
+    /**
+     * 재시도를 마친 뒤에도 남은 실패 중 일시적인 것 (기한 초과, 호출 제한, 5xx, 연결 오류)
+     * 호출부는 이 경우에만 해당 요청을 건너뛰고 다음 갱신에서 다시 시도할 수 있다.
+     */
+    public static boolean isTransientFailure(Throwable throwable) {
+        if (throwable instanceof RiotRateLimitException || throwable instanceof TimeoutException) {
+            return true;
+        }
+        if (throwable instanceof WebClientResponseException e) {
+            return e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS || e.getStatusCode().is5xxServerError();
+        }
+        return throwable instanceof WebClientRequestException;
+    }
+
+    private Duration retryAfter(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException e
+                && e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+            return parseRetryAfter(e.getHeaders().getFirst("Retry-After"));
+        }
+        return null;
+    }
+
+    /**
+     * 0 ~ min(maxBackoff, baseBackoff * 2^n) 사이의 임의 값 (Full Jitter)
+     */
+    private Duration jitteredBackoff(long totalRetries) {
+        long cap = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(totalRetries, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    public static Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
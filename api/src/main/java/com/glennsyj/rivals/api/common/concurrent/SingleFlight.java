@@ -0,0 +1,57 @@
+package com.glennsyj.rivals.api.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나로 합치는 in-process single-flight
+ *
+ * 처음 들어온 호출(leader)만 실제 작업을 수행하고, 그 사이에 들어온 호출들은 leader의 CompletableFuture를 공유한다.
+ * 작업이 끝나면 키를 제거하므로 결과를 캐시하지는 않는다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V result = work.get();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error로 끝나더라도 future를 완료해야 대기 중인 호출들이 풀려남
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.glennsyj.rivals.api.common.config;
+
+import com.glennsyj.rivals.api.common.concurrent.MdcTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 갱신 요청의 Riot API 조회 단계 전용 스레드 풀
+ *
+ * 큐가 가득 차면 작업을 거절(TaskRejectedException)하여, 요청이 조용히 쌓이지 않고 503으로 바로 응답하도록 한다.
+ * ThreadPoolTaskExecutor 빈이므로 actuator가 executor.* 메트릭(name=renewExecutor)을 자동으로 등록한다.
+ *
+ * virtual-threads 프로필(Java 21 이상)에서는 같은 풀의 작업 스레드를 가상 스레드로 만든다.
+ * Riot API/DB 대기 중에 플랫폼 스레드를 점유하지 않으면서도 대기열 한도와 거절 정책은 그대로 유지된다.
+ */
+@Configuration
+public class RenewExecutorConfig {
+
+    public static final String RENEW_EXECUTOR = "renewExecutor";
+
+    @Bean(name = RENEW_EXECUTOR)
+    public ThreadPoolTaskExecutor renewExecutor(
+            @Value("${rivals.renew.executor.core-pool-size:8}") int corePoolSize,
+            @Value("${rivals.renew.executor.max-pool-size:16}") int maxPoolSize,
+            @Value("${rivals.renew.executor.queue-capacity:32}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("TftRenew-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
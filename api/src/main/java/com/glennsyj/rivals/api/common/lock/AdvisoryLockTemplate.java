@@ -0,0 +1,64 @@
+package com.glennsyj.rivals.api.common.lock;
+
+import com.glennsyj.rivals.api.common.lock.exception.LockAcquisitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * MariaDB GET_LOCK / RELEASE_LOCK 기반 분산 락
+ *
+ * GET_LOCK은 커넥션(세션) 단위로 잡히므로, 락을 잡은 커넥션을 작업이 끝날 때까지 붙잡고 있다가 같은 커넥션으로 해제한다.
+ * 작업 자체는 별도의 트랜잭션/커넥션에서 수행되므로 락을 이용하는 동안은 커넥션을 하나 더 사용한다.
+ * 따라서 외부 API 호출처럼 오래 걸리는 구간은 락 밖에서 수행하고, DB에 쓰는 구간만 감싸야 한다.
+ * 제한 시간 안에 락을 얻지 못하면 LockAcquisitionException을 던진다.
+ */
+@Component
+public class AdvisoryLockTemplate {
+    private static final Logger logger = LoggerFactory.getLogger(AdvisoryLockTemplate.class);
+
+    // MariaDB의 락 이름 최대 길이
+    private static final int MAX_LOCK_NAME_LENGTH = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AdvisoryLockTemplate(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public <T> T executeWithLock(String lockName, Duration timeout, Supplier<T> work) {
+        String name = lockName.length() > MAX_LOCK_NAME_LENGTH
+                ? lockName.substring(0, MAX_LOCK_NAME_LENGTH)
+                : lockName;
+
+        return jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+                statement.setString(1, name);
+                statement.setLong(2, timeout.toSeconds());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                        throw new LockAcquisitionException(name);
+                    }
+                }
+            }
+
+            try {
+                return work.get();
+            } finally {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    statement.setString(1, name);
+                    statement.executeQuery().close();
+                } catch (Exception e) {
+                    logger.warn("Failed to release advisory lock {}", name, e);
+                }
+            }
+        });
+    }
+}
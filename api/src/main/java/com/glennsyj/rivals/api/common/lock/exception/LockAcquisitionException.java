@@ -0,0 +1,18 @@
+package com.glennsyj.rivals.api.common.lock.exception;
+
+/*
+    분산 락을 제한 시간 안에 얻지 못한 경우 (다른 인스턴스가 같은 작업을 수행 중)
+    기존 호출부가 IllegalStateException으로 실패를 처리하므로 그대로 상속
+ */
+public class LockAcquisitionException extends IllegalStateException {
+    private final String lockName;
+
+    public LockAcquisitionException(String lockName) {
+        super("분산 락 획득 실패: " + lockName);
+        this.lockName = lockName;
+    }
+
+    public String getLockName() {
+        return lockName;
+    }
+}
@@ -0,0 +1,38 @@
+package com.glennsyj.rivals.api.common.web;
+
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * DB에 저장된 데이터와 그 데이터가 마지막으로 Riot API와 동기화된 시각
+ *
+ * 응답 시 X-Data-Age(초)와 Last-Modified 헤더로 신선도를 함께 전달한다.
+ * refreshedAt이 null이면 방금 Riot API에서 받아온 데이터로 취급한다.
+ */
+public record DataSnapshot<T>(T data, LocalDateTime refreshedAt) {
+
+    public static final String DATA_AGE_HEADER = "X-Data-Age";
+
+    public static <T> DataSnapshot<T> of(T data, LocalDateTime refreshedAt) {
+        return new DataSnapshot<>(data, refreshedAt);
+    }
+
+    public long ageSeconds(LocalDateTime now) {
+        if (refreshedAt == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(refreshedAt, now).toSeconds());
+    }
+
+    public ResponseEntity<T> toResponse() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastModified = refreshedAt == null ? now : refreshedAt;
+        return ResponseEntity.ok()
+                .header(DATA_AGE_HEADER, String.valueOf(ageSeconds(now)))
+                .lastModified(lastModified.atZone(ZoneId.systemDefault()))
+                .body(data);
+    }
+}
@@ -1,6 +1,7 @@
 package com.glennsyj.rivals.api.riot;
 
 import com.glennsyj.rivals.api.common.client.BaseRiotClient;
+import com.glennsyj.rivals.api.common.client.retry.RiotRetryPolicy;
 import com.glennsyj.rivals.api.riot.model.RiotAccountResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -8,12 +9,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Component
 public class RiotAccountClient extends BaseRiotClient {
 
-    public RiotAccountClient(WebClient riotAsiaWebClient, WebClient riotKorWebClient) {
-        super(riotAsiaWebClient, riotKorWebClient);
+    public RiotAccountClient(WebClient riotAsiaWebClient, WebClient riotKorWebClient, RiotRetryPolicy riotRetryPolicy) {
+        super(riotAsiaWebClient, riotKorWebClient, riotRetryPolicy);
     }
 
     public RiotAccountResponse getAccountInfo(String gameName, String tagLine) {
         return handleApiCall(
+                "account-by-riot-id",
                 riotAsiaWebClient.get()
                         .uri("/riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}",
                                 gameName, tagLine)
@@ -22,4 +24,15 @@ public class RiotAccountClient extends BaseRiotClient {
                 "소환사를 찾을 수 없습니다: " + gameName + "#" + tagLine
         );
     }
+
+    public RiotAccountResponse getAccountByPuuid(String puuid) {
+        return handleApiCall(
+                "account-by-puuid",
+                riotAsiaWebClient.get()
+                        .uri("/riot/account/v1/accounts/by-puuid/{puuid}", puuid)
+                        .retrieve()
+                        .bodyToMono(RiotAccountResponse.class),
+                "소환사를 찾을 수 없습니다: " + puuid
+        );
+    }
 }
@@ -1,5 +1,7 @@
 package com.glennsyj.rivals.api.riot;
 
+import com.glennsyj.rivals.api.common.client.RiotRegion;
+import com.glennsyj.rivals.api.common.client.ratelimit.RiotRateLimiter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,18 +20,20 @@ public class RiotApiConfig {
     private String riotKorUrl;
 
     @Bean
-    public WebClient riotAsiaWebClient() {
+    public WebClient riotAsiaWebClient(RiotRateLimiter riotRateLimiter) {
         return WebClient.builder()
                 .baseUrl(riotAsiaUrl)
                 .defaultHeader("X-Riot-Token", apiKey)
+                .filter(riotRateLimiter.filterFor(RiotRegion.ASIA))
                 .build();
     }
 
     @Bean
-    public WebClient riotKorWebClient() {
+    public WebClient riotKorWebClient(RiotRateLimiter riotRateLimiter) {
         return WebClient.builder()
                 .baseUrl(riotKorUrl)
                 .defaultHeader("X-Riot-Token", apiKey)
+                .filter(riotRateLimiter.filterFor(RiotRegion.KOR))
                 .build();
     }
 
@@ -0,0 +1,71 @@
+package com.glennsyj.rivals.api.riot.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glennsyj.rivals.api.riot.model.RiotAccountRef;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 정규화된 Riot ID(RiotAccount.riotIdKeyOf) -> 계정 식별 정보(RiotAccountRef) 인메모리 캐시
+ *
+ * 계정 엔티티는 updatedAt 등이 계속 바뀌므로 캐시하지 않고 바뀌지 않는 식별 정보만 보관한다.
+ * id, puuid만 필요한 조회는 적중 시 DB를 거치지 않으며, 엔티티가 필요한 조회만 PK로 다시 읽는다.
+ * Riot API에서 존재하지 않는다고 응답한 Riot ID는 negative-ttl 동안 기억해 같은 요청으로 API를 다시 호출하지 않는다.
+ * 적중률은 cache.gets{cache=riotAccounts|riotUnknownIds, result=hit|miss} 지표로 확인한다.
+ */
+@Component
+public class RiotIdCache {
+
+    private final Cache<String, RiotAccountRef> accounts;
+    private final Cache<String, Boolean> unknownIds;
+
+    public RiotIdCache(
+            MeterRegistry meterRegistry,
+            @Value("${rivals.riot.account-cache.max-size:10000}") long maxSize,
+            @Value("${rivals.riot.account-cache.ttl-minutes:30}") long ttlMinutes,
+            @Value("${rivals.riot.account-cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.unknownIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, "riotAccounts");
+        CaffeineCacheMetrics.monitor(meterRegistry, unknownIds, "riotUnknownIds");
+    }
+
+    public Optional<RiotAccountRef> findAccount(String riotIdKey) {
+        return Optional.ofNullable(accounts.getIfPresent(riotIdKey));
+    }
+
+    public boolean isUnknown(String riotIdKey) {
+        return unknownIds.getIfPresent(riotIdKey) != null;
+    }
+
+    public void put(String riotIdKey, RiotAccountRef account) {
+        accounts.put(riotIdKey, account);
+        unknownIds.invalidate(riotIdKey);
+    }
+
+    public void markUnknown(String riotIdKey) {
+        unknownIds.put(riotIdKey, Boolean.TRUE);
+    }
+
+    /**
+     * 이름이 바뀐 계정의 이전 Riot ID 등, 더 이상 유효하지 않은 키 제거
+     */
+    public void invalidate(String riotIdKey) {
+        accounts.invalidate(riotIdKey);
+        unknownIds.invalidate(riotIdKey);
+    }
+}
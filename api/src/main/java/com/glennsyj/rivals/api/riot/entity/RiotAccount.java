@@ -12,7 +12,9 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -21,8 +23,8 @@ import java.util.UUID;
         name = "riot_accounts",
         indexes = {
                 @Index(
-                        name = "idx_riot_accounts_game_name_tag_line",
-                        columnList = "game_name,tag_line"
+                        name = "idx_riot_accounts_riot_id_key",
+                        columnList = "riot_id_key"
                 )
         },
         uniqueConstraints = {
@@ -44,6 +46,10 @@ public class RiotAccount {
     @Column(name = "tag_line", nullable = false)
     private String tagLine;
 
+    // 대소문자/공백/유니코드 정규화를 거친 "gameName#tagLine" (조회용, riotIdKeyOf 참고)
+    @Column(name = "riot_id_key", nullable = false)
+    private String riotIdKey;
+
     // puuid 필드는 항상 nullable 하므로
     @Column(nullable = false, unique = true)
     private String puuid;
@@ -60,9 +66,22 @@ public class RiotAccount {
     public RiotAccount(String gameName, String tagLine, String puuid) {
         this.gameName = gameName;
         this.tagLine = tagLine;
+        this.riotIdKey = riotIdKeyOf(gameName, tagLine);
         this.puuid = puuid;
     }
 
+    /**
+     * Riot ID는 대소문자를 구분하지 않으므로 조회 키는 정규화해서 비교
+     * (앞뒤 공백 제거, NFC 정규화, 소문자 변환)
+     */
+    public static String riotIdKeyOf(String gameName, String tagLine) {
+        return normalize(gameName) + "#" + normalize(tagLine);
+    }
+
+    private static String normalize(String value) {
+        return Normalizer.normalize(value.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
     public long getId() {
         return id;
     }
@@ -79,6 +98,10 @@ public class RiotAccount {
         return tagLine;
     }
 
+    public String getRiotIdKey() {
+        return riotIdKey;
+    }
+
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 
     public String getFullGameName() {
@@ -88,6 +111,12 @@ public class RiotAccount {
     public void updateGameIdentity(String newGameName, String newTagLine) {
         this.gameName = newGameName;
         this.tagLine = newTagLine;
+        this.riotIdKey = riotIdKeyOf(newGameName, newTagLine);
+    }
+
+    // riot_id_key 컬럼 추가 전에 저장된 계정의 조회 키를 채움
+    public void refreshRiotIdKey() {
+        this.riotIdKey = riotIdKeyOf(gameName, tagLine);
     }
 
     public void renewUpdatedAt() {
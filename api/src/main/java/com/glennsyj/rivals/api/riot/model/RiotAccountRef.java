@@ -0,0 +1,23 @@
+package com.glennsyj.rivals.api.riot.model;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+
+/*
+    Riot ID 캐시에 보관하는 계정 식별 정보 (바뀌지 않는 id, puuid와 캐시 키가 된 Riot ID)
+    updatedAt처럼 갱신마다 바뀌는 값은 담지 않으므로, 그런 값이 필요한 곳에서만 엔티티를 조회한다.
+ */
+public record RiotAccountRef(
+        Long id,
+        String puuid,
+        String gameName,
+        String tagLine
+) {
+    public static RiotAccountRef from(RiotAccount account) {
+        return new RiotAccountRef(
+            account.getId(),
+            account.getPuuid(),
+            account.getGameName(),
+            account.getTagLine()
+        );
+    }
+}
@@ -2,10 +2,15 @@ package com.glennsyj.rivals.api.riot.repository;
 
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
 import com.glennsyj.rivals.api.rivalry.entity.Rivalry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +18,21 @@ import java.util.Optional;
 public interface RiotAccountRepository extends JpaRepository<RiotAccount, Long> {
     // 추후 성능 상 문제 발생할 시: Projection 변경 고려 (조회용)
     Optional<RiotAccount> findByGameNameAndTagLine(String gameName, String tagLine);
+    // RiotAccount.riotIdKeyOf로 정규화한 키로 조회 (대소문자가 달라도 같은 계정)
+    Optional<RiotAccount> findByRiotIdKey(String riotIdKey);
     Optional<RiotAccount> findByPuuid(String puuid);
+
+    // riot_id_key 컬럼 추가 전에 저장되어 조회 키가 비어 있는 계정 (RiotIdKeyBackfillRunner 참고)
+    @Query("SELECT a FROM RiotAccount a WHERE a.riotIdKey IS NULL OR a.riotIdKey = '' ORDER BY a.id")
+    List<RiotAccount> findAllWithoutRiotIdKey(Pageable pageable);
     List<RiotAccount> findAllByIdIn(List<Long> ids);
     List<RiotAccount> findAllByPuuidIn(List<String> puuids);
+
+    // 백그라운드 갱신 대상: 라이벌에 참여 중이면서 오래 갱신되지 않은 계정
+    @Query("SELECT DISTINCT a FROM RivalryParticipant rp JOIN rp.riotAccount a " +
+            "WHERE a.updatedAt IS NULL OR a.updatedAt < :staleBefore")
+    List<RiotAccount> findRivalryAccountsStaleBefore(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    @Query("SELECT DISTINCT rp.riotAccount.id FROM RivalryParticipant rp WHERE rp.riotAccount.id IN :accountIds")
+    List<Long> findRivalryAccountIdsIn(@Param("accountIds") Collection<Long> accountIds);
 }
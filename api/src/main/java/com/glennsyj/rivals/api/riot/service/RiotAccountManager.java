@@ -1,34 +1,75 @@
 package com.glennsyj.rivals.api.riot.service;
 
 import com.glennsyj.rivals.api.riot.RiotAccountClient;
+import com.glennsyj.rivals.api.riot.cache.RiotIdCache;
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.model.RiotAccountRef;
 import com.glennsyj.rivals.api.riot.model.RiotAccountResponse;
 import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.util.Optional;
 
+/**
+ * Riot ID -> 계정 조회는 모든 요청의 첫 단계이므로 아래 순서로 찾는다.
+ *
+ * 1. RiotIdCache: 정규화된 Riot ID -> 계정 식별 정보 (id, puuid만 필요하면 DB 조회 없음, 엔티티가 필요하면 PK 조회)
+ * 2. riot_accounts.riot_id_key: 대소문자가 다르게 입력되어도 같은 계정을 찾음
+ * 3. Riot API: 존재하지 않는 Riot ID는 네거티브 캐시에 기록해 반복 호출을 막음
+ *
+ * 다른 인스턴스에서 이름이 바뀐 계정은 식별 정보만 조회하는 경우 캐시 TTL 동안 이전 Riot ID로도 찾아질 수 있다.
+ * (id, puuid는 바뀌지 않으므로 같은 계정으로 처리됨)
+ */
 @Service
 public class RiotAccountManager {
     private final RiotAccountRepository riotAccountRepository;
     private final RiotAccountClient riotAccountClient;
+    private final RiotIdCache riotIdCache;
+    private final TransactionTemplate writeTransaction;
 
-    public RiotAccountManager(RiotAccountRepository riotAccountRepository, RiotAccountClient riotAccountClient) {
+    public RiotAccountManager(RiotAccountRepository riotAccountRepository, RiotAccountClient riotAccountClient,
+                              RiotIdCache riotIdCache, PlatformTransactionManager transactionManager) {
         this.riotAccountRepository = riotAccountRepository;
         this.riotAccountClient = riotAccountClient;
+        this.riotIdCache = riotIdCache;
+        // Riot API 응답을 받은 뒤 저장만 짧은 트랜잭션으로 처리
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
     }
 
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    /**
+     * Riot API 호출이 필요한 등록 경로도 호출은 트랜잭션 밖에서 하고 저장만 짧은 트랜잭션으로 처리
+     */
     public RiotAccount findOrRegisterAccount(String gameName, String tagLine) {
-        Optional<RiotAccount> existingAccount = riotAccountRepository.findByGameNameAndTagLine(gameName.trim(), tagLine.trim());
-        return existingAccount.orElseGet(() -> registerNewAccount(gameName, tagLine));
+        String riotIdKey = RiotAccount.riotIdKeyOf(gameName, tagLine);
+        return findByRiotIdKey(riotIdKey)
+                .orElseGet(() -> registerNewAccount(riotIdKey, gameName, tagLine));
+    }
+
+    /**
+     * id, puuid만 필요한 경우의 조회/등록 (캐시 적중 시 트랜잭션과 DB 조회 없음)
+     */
+    public RiotAccountRef findOrRegisterAccountRef(String gameName, String tagLine) {
+        String riotIdKey = RiotAccount.riotIdKeyOf(gameName, tagLine);
+        return findRefByRiotIdKey(riotIdKey)
+                .orElseGet(() -> RiotAccountRef.from(registerNewAccount(riotIdKey, gameName, tagLine)));
     }
 
     @Transactional(readOnly = true)
     public Optional<RiotAccount> findByGameNameAndTagLine(String gameName, String tagLine) {
-        return riotAccountRepository.findByGameNameAndTagLine(gameName.trim(), tagLine.trim());
+        return findByRiotIdKey(RiotAccount.riotIdKeyOf(gameName, tagLine));
+    }
+
+    /**
+     * 등록된 계정의 식별 정보 조회 (캐시 적중 시 트랜잭션과 DB 조회 없음)
+     */
+    public Optional<RiotAccountRef> findRefByGameNameAndTagLine(String gameName, String tagLine) {
+        return findRefByRiotIdKey(RiotAccount.riotIdKeyOf(gameName, tagLine));
     }
 
     @Transactional(readOnly = true)
@@ -36,24 +77,93 @@ public class RiotAccountManager {
         return riotAccountRepository.findById(accountId);
     }
 
-    @Transactional
+    /**
+     * 갱신 시 puuid 기준으로 현재 Riot ID를 확인하고, 이름이 바뀌었으면 이전 Riot ID 캐시를 무효화
+     * Riot API 호출 동안 커넥션을 점유하지 않도록 호출은 트랜잭션 밖에서 하고 변경만 짧은 트랜잭션으로 처리
+     */
     public RiotAccount renewAccount(String gameName, String tagLine) {
-        RiotAccount fetchedAccount = riotAccountRepository
-                .findByGameNameAndTagLine(gameName, tagLine)
+        RiotAccountRef ref = findRefByRiotIdKey(RiotAccount.riotIdKeyOf(gameName, tagLine))
                 .orElseThrow(() -> new IllegalStateException("Account not found"));
 
-        fetchedAccount.renewUpdatedAt();
-        return fetchedAccount;
+        RiotAccountResponse response = riotAccountClient.getAccountByPuuid(ref.puuid());
+
+        return writeTransaction.execute(status -> {
+            RiotAccount account = riotAccountRepository.findById(ref.id())
+                    .orElseThrow(() -> new IllegalStateException("Account not found"));
+            updateIdentityIfChanged(account, response);
+            account.renewUpdatedAt();
+            return account;
+        });
+    }
+
+    private Optional<RiotAccount> findByRiotIdKey(String riotIdKey) {
+        Optional<RiotAccountRef> cachedRef = riotIdCache.findAccount(riotIdKey);
+        if (cachedRef.isPresent()) {
+            Optional<RiotAccount> cached = riotAccountRepository.findById(cachedRef.get().id())
+                    .filter(account -> account.getRiotIdKey().equals(riotIdKey));
+            if (cached.isPresent()) {
+                return cached;
+            }
+            // 그 사이 삭제되었거나 다른 인스턴스에서 이름이 바뀐 계정
+            riotIdCache.invalidate(riotIdKey);
+        }
+
+        Optional<RiotAccount> account = riotAccountRepository.findByRiotIdKey(riotIdKey);
+        account.ifPresent(found -> riotIdCache.put(riotIdKey, RiotAccountRef.from(found)));
+        return account;
+    }
+
+    private Optional<RiotAccountRef> findRefByRiotIdKey(String riotIdKey) {
+        Optional<RiotAccountRef> cachedRef = riotIdCache.findAccount(riotIdKey);
+        if (cachedRef.isPresent()) {
+            return cachedRef;
+        }
+
+        Optional<RiotAccountRef> ref = riotAccountRepository.findByRiotIdKey(riotIdKey).map(RiotAccountRef::from);
+        ref.ifPresent(found -> riotIdCache.put(riotIdKey, found));
+        return ref;
+    }
+
+    private RiotAccount registerNewAccount(String riotIdKey, String gameName, String tagLine) {
+        if (riotIdCache.isUnknown(riotIdKey)) {
+            throw new IllegalStateException("소환사를 찾을 수 없습니다: " + gameName + "#" + tagLine);
+        }
+
+        RiotAccountResponse response;
+        try {
+            response = riotAccountClient.getAccountInfo(gameName.trim(), tagLine.trim());
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof WebClientResponseException.NotFound) {
+                riotIdCache.markUnknown(riotIdKey);
+            }
+            throw e;
+        }
+
+        // 이름을 바꾼 기존 계정이면 새로 만들지 않고 이름만 갱신
+        RiotAccount account = writeTransaction.execute(status -> riotAccountRepository.findByPuuid(response.puuid())
+                .map(existing -> {
+                    updateIdentityIfChanged(existing, response);
+                    return existing;
+                })
+                .orElseGet(() -> riotAccountRepository.save(new RiotAccount(
+                        // RiotAccount::updatedAt은 생성 시 자동으로 초기화
+                        response.gameName().trim(),
+                        response.tagLine().trim(),
+                        response.puuid()
+                ))));
+
+        riotIdCache.put(account.getRiotIdKey(), RiotAccountRef.from(account));
+        return account;
     }
 
-    private RiotAccount registerNewAccount(String gameName, String tagLine) {
-        RiotAccountResponse response = riotAccountClient.getAccountInfo(gameName.trim(), tagLine.trim());
-        // RiotAccount::updatedAt은 생성 시 자동으로 초기화
-        RiotAccount account = new RiotAccount(
-                response.gameName().trim(),
-                response.tagLine().trim(),
-                response.puuid()
-        );
-        return riotAccountRepository.save(account);
+    private void updateIdentityIfChanged(RiotAccount account, RiotAccountResponse response) {
+        String previousKey = account.getRiotIdKey();
+        String currentKey = RiotAccount.riotIdKeyOf(response.gameName(), response.tagLine());
+        if (previousKey.equals(currentKey)) {
+            return;
+        }
+        account.updateGameIdentity(response.gameName().trim(), response.tagLine().trim());
+        riotIdCache.invalidate(previousKey);
+        riotIdCache.put(currentKey, RiotAccountRef.from(account));
     }
 }
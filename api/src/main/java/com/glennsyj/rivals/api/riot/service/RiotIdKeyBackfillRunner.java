@@ -0,0 +1,52 @@
+package com.glennsyj.rivals.api.riot.service;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기동 시 riot_id_key가 비어 있는 기존 계정의 조회 키를 채움
+ * 정규화(RiotAccount.riotIdKeyOf)를 SQL로 옮길 수 없으므로 BATCH_SIZE개씩 읽어 애플리케이션에서 계산
+ */
+@Component
+@ConditionalOnProperty(prefix = "rivals.riot.riot-id-key", name = "backfill-on-startup", havingValue = "true")
+public class RiotIdKeyBackfillRunner implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(RiotIdKeyBackfillRunner.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final RiotAccountRepository riotAccountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RiotIdKeyBackfillRunner(RiotAccountRepository riotAccountRepository,
+                                   TransactionTemplate transactionTemplate) {
+        this.riotAccountRepository = riotAccountRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = 0;
+        while (true) {
+            // 채운 계정은 다음 조회에서 빠지므로 항상 첫 페이지를 읽음
+            Integer batch = transactionTemplate.execute(status -> {
+                List<RiotAccount> accounts = riotAccountRepository.findAllWithoutRiotIdKey(PageRequest.of(0, BATCH_SIZE));
+                accounts.forEach(RiotAccount::refreshRiotIdKey);
+                return accounts.size();
+            });
+            if (batch == null || batch == 0) {
+                break;
+            }
+            updated += batch;
+        }
+        logger.info("Backfilled riot_id_key for {} riot account(s)", updated);
+    }
+}
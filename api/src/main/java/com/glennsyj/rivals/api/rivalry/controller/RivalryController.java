@@ -2,8 +2,10 @@ package com.glennsyj.rivals.api.rivalry.controller;
 
 import com.glennsyj.rivals.api.rivalry.model.RivalryCreationDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryDetailDto;
+import com.glennsyj.rivals.api.rivalry.model.RivalryMatchPageDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryResultDto;
 import com.glennsyj.rivals.api.rivalry.service.RivalryService;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchCursor;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +16,7 @@ import java.net.URI;
 @RestController
 @RequestMapping("/api/v1/rivalries")
 public class RivalryController {
+    private static final int MAX_PAGE_SIZE = 50;
 
     private RivalryService rivalryService;
 
@@ -48,4 +51,25 @@ public class RivalryController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * 라이벌들이 함께한 매치 무한 스크롤: ?limit=N&before=gameCreation,id
+     * before 없이 호출하면 가장 최근 매치부터 조회하며, 응답의 nextCursor를 다음 요청의 before로 넘긴다.
+     */
+    @GetMapping("/{rivalryId}/matches")
+    public ResponseEntity<?> getSharedMatches(@PathVariable String rivalryId,
+                                              @RequestParam(required = false) String before,
+                                              @RequestParam(defaultValue = "20") int limit) {
+
+        try {
+            TftMatchCursor cursor = before == null ? null : TftMatchCursor.parse(before);
+            int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            RivalryMatchPageDto response = rivalryService.findSharedMatchPage(Long.valueOf(rivalryId), cursor, size);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.glennsyj.rivals.api.rivalry.entity;
+
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.*;
+
+/**
+ * 라이벌리 통계(RivalryStat)에 이미 반영된 매치 기록 (라이벌리, 매치당 1행, insert-only)
+ *
+ * 아웃박스 이벤트는 매치 id 순서대로 처리되지 않으므로 워터마크 대신 매치별로 반영 여부를 기록한다.
+ * 초기 집계(RivalryStat.aggregatedBefore 이전에 저장된 매치)에 포함된 매치는 기록하지 않는다.
+ * (rivalry_id, match_id) 유니크 제약으로 같은 매치가 동시에 두 번 반영되면 나중 트랜잭션이 롤백되어 재시도된다.
+ */
+@Entity
+@Table(name = "rivalry_applied_matches",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_rivalry_applied_matches", columnNames = {"rivalry_id", "match_id"})
+        })
+public class RivalryAppliedMatch {
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @Column(name = "rivalry_id", nullable = false)
+    private Long rivalryId;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;  // tft_matches.id
+
+    protected RivalryAppliedMatch() {}
+
+    public RivalryAppliedMatch(Long rivalryId, Long matchId) {
+        this.rivalryId = rivalryId;
+        this.matchId = matchId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRivalryId() {
+        return rivalryId;
+    }
+
+    public Long getMatchId() {
+        return matchId;
+    }
+}
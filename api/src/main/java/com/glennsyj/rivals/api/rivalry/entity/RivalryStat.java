@@ -0,0 +1,229 @@
+package com.glennsyj.rivals.api.rivalry.entity;
+
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 라이벌리 참가자별 누적 통계 (라이벌리 조회 시 집계 쿼리 없이 그대로 반환)
+ *
+ * 라이벌리 생성 시 저장된 전적으로 한 번 초기화하고, 이후에는 새로 저장된 매치와 갱신된 리그 엔트리만 반영한다.
+ * aggregatedBefore 이전에 저장된 매치는 초기 집계에 포함되어 있으므로 다시 반영하지 않고,
+ * 그 이후 저장된 매치만 라이벌리별 반영 기록(RivalryAppliedMatch)으로 중복 반영 여부를 판단한다.
+ * puuid, side는 참가자를 다시 조회하지 않고 맞대결을 계산하기 위해 함께 저장한다.
+ */
+@Entity
+@Table(name = "rivalry_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_rivalry_stats_participant", columnNames = "rivalry_participant_id")
+        },
+        indexes = {
+                @Index(name = "idx_rivalry_stats_rivalry", columnList = "rivalry_id"),
+                @Index(name = "idx_rivalry_stats_puuid", columnList = "puuid")
+        })
+public class RivalryStat {
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @Column(name = "rivalry_id", nullable = false)
+    private Long rivalryId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rivalry_participant_id", nullable = false)
+    private RivalryParticipant participant;
+
+    @Column(nullable = false)
+    private String puuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RivalSide side;
+
+    @Column(name = "match_count", nullable = false)
+    private int matchCount;
+
+    @Column(name = "placement_sum", nullable = false)
+    private long placementSum;
+
+    @Column(name = "top_four_count", nullable = false)
+    private int topFourCount;
+
+    @Column(name = "first_place_count", nullable = false)
+    private int firstPlaceCount;
+
+    // 상대 진영 참가자와 함께한 매치 수와, 함께한 상대별 순위 비교 결과
+    @Column(name = "shared_match_count", nullable = false)
+    private int sharedMatchCount;
+
+    @Column(name = "head_to_head_wins", nullable = false)
+    private int headToHeadWins;
+
+    @Column(name = "head_to_head_losses", nullable = false)
+    private int headToHeadLosses;
+
+    // 라이벌리 시작 시점과 현재의 랭크 점수 (TftLeagueEntry.getLadderPoints)
+    @Column(name = "baseline_ladder_points")
+    private Integer baselineLadderPoints;
+
+    @Column(name = "current_ladder_points")
+    private Integer currentLadderPoints;
+
+    // 초기 집계 기준 시각 (이 시각 이전에 저장된 매치는 초기 집계에 포함됨)
+    @Column(name = "aggregated_before")
+    private LocalDateTime aggregatedBefore;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    protected RivalryStat() {}
+
+    public RivalryStat(RivalryParticipant participant, String puuid, Integer ladderPoints) {
+        this.rivalryId = participant.getRivalry().getId();
+        this.participant = participant;
+        this.puuid = puuid;
+        this.side = participant.getSide();
+        this.baselineLadderPoints = ladderPoints;
+        this.currentLadderPoints = ladderPoints;
+    }
+
+    /**
+     * 저장된 전적으로 집계한 초기값 설정
+     *
+     * @param aggregatedBefore 초기 집계에 포함한 매치의 저장 시각 기준 (이 시각 이전에 저장된 매치만 집계)
+     */
+    public void initialize(int matchCount, long placementSum, int topFourCount, int firstPlaceCount,
+                           int sharedMatchCount, int headToHeadWins, int headToHeadLosses,
+                           LocalDateTime aggregatedBefore) {
+        this.matchCount = matchCount;
+        this.placementSum = placementSum;
+        this.topFourCount = topFourCount;
+        this.firstPlaceCount = firstPlaceCount;
+        this.sharedMatchCount = sharedMatchCount;
+        this.headToHeadWins = headToHeadWins;
+        this.headToHeadLosses = headToHeadLosses;
+        this.aggregatedBefore = aggregatedBefore;
+    }
+
+    /**
+     * 주어진 시각에 저장된 매치가 초기 집계에 이미 포함되었는지 확인
+     */
+    public boolean isAggregatedInitially(LocalDateTime matchStoredAt) {
+        return aggregatedBefore != null && matchStoredAt != null && matchStoredAt.isBefore(aggregatedBefore);
+    }
+
+    /**
+     * 새 매치 결과 반영 (매치당 한 번만 호출)
+     *
+     * @param placement          이 참가자의 순위
+     * @param opponentPlacements 같은 매치에 참가한 상대 진영 참가자들의 순위
+     */
+    public void applyMatch(int placement, Iterable<Integer> opponentPlacements) {
+        matchCount++;
+        placementSum += placement;
+        if (placement <= 4) {
+            topFourCount++;
+        }
+        if (placement == 1) {
+            firstPlaceCount++;
+        }
+
+        boolean shared = false;
+        for (Integer opponentPlacement : opponentPlacements) {
+            shared = true;
+            if (placement < opponentPlacement) {
+                headToHeadWins++;
+            } else if (placement > opponentPlacement) {
+                headToHeadLosses++;
+            }
+        }
+        if (shared) {
+            sharedMatchCount++;
+        }
+    }
+
+    /**
+     * 갱신된 랭크 점수 반영 (시작 시점에 랭크가 없었다면 첫 점수를 기준으로 삼음)
+     */
+    public void updateLadderPoints(int ladderPoints) {
+        if (baselineLadderPoints == null) {
+            baselineLadderPoints = ladderPoints;
+        }
+        currentLadderPoints = ladderPoints;
+    }
+
+    public Double getAveragePlacement() {
+        return matchCount == 0 ? null : (double) placementSum / matchCount;
+    }
+
+    public Double getTopFourRate() {
+        return matchCount == 0 ? null : (double) topFourCount / matchCount;
+    }
+
+    public Integer getLadderPointsDelta() {
+        if (baselineLadderPoints == null || currentLadderPoints == null) {
+            return null;
+        }
+        return currentLadderPoints - baselineLadderPoints;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRivalryId() {
+        return rivalryId;
+    }
+
+    public RivalryParticipant getParticipant() {
+        return participant;
+    }
+
+    public String getPuuid() {
+        return puuid;
+    }
+
+    public RivalSide getSide() {
+        return side;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public int getTopFourCount() {
+        return topFourCount;
+    }
+
+    public int getFirstPlaceCount() {
+        return firstPlaceCount;
+    }
+
+    public int getSharedMatchCount() {
+        return sharedMatchCount;
+    }
+
+    public int getHeadToHeadWins() {
+        return headToHeadWins;
+    }
+
+    public int getHeadToHeadLosses() {
+        return headToHeadLosses;
+    }
+
+    public Integer getBaselineLadderPoints() {
+        return baselineLadderPoints;
+    }
+
+    public Integer getCurrentLadderPoints() {
+        return currentLadderPoints;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
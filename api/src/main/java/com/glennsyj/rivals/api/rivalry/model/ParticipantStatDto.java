@@ -8,6 +8,7 @@ import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
 public record ParticipantStatDto(
         String id,
         String fullName,
-        TftStatusDto statistics
+        TftStatusDto statistics,
+        RivalryStatDto rivalryStats
 ) {
 }
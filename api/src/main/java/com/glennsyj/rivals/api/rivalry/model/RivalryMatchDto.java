@@ -0,0 +1,38 @@
+package com.glennsyj.rivals.api.rivalry.model;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchParticipantDto;
+
+import java.util.List;
+import java.util.Set;
+
+/*
+    라이벌들이 함께 참가한 매치, 각 진영 참가자의 결과만 포함
+ */
+public record RivalryMatchDto(
+        String id,
+        String matchId,
+        Long gameCreation,
+        Double gameLength,
+        String queueType,
+        List<TftMatchParticipantDto> leftParticipants,
+        List<TftMatchParticipantDto> rightParticipants
+) {
+    public static RivalryMatchDto from(TftMatch match, Set<String> leftPuuids, Set<String> rightPuuids) {
+        return new RivalryMatchDto(
+                match.getId().toString(),
+                match.getMatchId(),
+                match.getGameCreation(),
+                match.getGameLength(),
+                match.getTftGameType(),
+                match.getParticipants().stream()
+                        .filter(participant -> leftPuuids.contains(participant.getPuuid()))
+                        .map(TftMatchParticipantDto::from)
+                        .toList(),
+                match.getParticipants().stream()
+                        .filter(participant -> rightPuuids.contains(participant.getPuuid()))
+                        .map(TftMatchParticipantDto::from)
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.glennsyj.rivals.api.rivalry.model;
+
+import java.util.List;
+
+/*
+    라이벌 공통 매치 페이지 DTO, 다음 페이지가 없으면 nextCursor는 null
+ */
+public record RivalryMatchPageDto(
+        List<RivalryMatchDto> matches,
+        String nextCursor
+) {
+}
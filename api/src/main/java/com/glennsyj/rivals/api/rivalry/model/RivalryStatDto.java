@@ -0,0 +1,32 @@
+package com.glennsyj.rivals.api.rivalry.model;
+
+import com.glennsyj.rivals.api.rivalry.entity.RivalryStat;
+
+/*
+    라이벌리 참가자별 누적 통계
+    headToHead*: 상대 진영 참가자와 함께한 매치에서 상대별 순위 비교 결과
+    ladderPointsDelta: 라이벌리 시작 시점 대비 솔로 랭크 점수 변화량 (랭크 기록이 없으면 null)
+ */
+public record RivalryStatDto(
+        int matchCount,
+        Double averagePlacement,
+        Double topFourRate,
+        int firstPlaceCount,
+        int sharedMatchCount,
+        int headToHeadWins,
+        int headToHeadLosses,
+        Integer ladderPointsDelta
+) {
+    public static RivalryStatDto from(RivalryStat stat) {
+        return new RivalryStatDto(
+                stat.getMatchCount(),
+                stat.getAveragePlacement(),
+                stat.getTopFourRate(),
+                stat.getFirstPlaceCount(),
+                stat.getSharedMatchCount(),
+                stat.getHeadToHeadWins(),
+                stat.getHeadToHeadLosses(),
+                stat.getLadderPointsDelta()
+        );
+    }
+}
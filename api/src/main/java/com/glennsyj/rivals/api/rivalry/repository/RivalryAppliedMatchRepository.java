@@ -0,0 +1,19 @@
+package com.glennsyj.rivals.api.rivalry.repository;
+
+import com.glennsyj.rivals.api.rivalry.entity.RivalryAppliedMatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RivalryAppliedMatchRepository extends JpaRepository<RivalryAppliedMatch, Long> {
+
+    /**
+     * 주어진 매치 중 라이벌리 통계에 이미 반영된 매치 id
+     */
+    @Query("SELECT a.matchId FROM RivalryAppliedMatch a WHERE a.rivalryId = :rivalryId AND a.matchId IN :matchIds")
+    List<Long> findAppliedMatchIds(Long rivalryId, Collection<Long> matchIds);
+}
@@ -0,0 +1,83 @@
+package com.glennsyj.rivals.api.rivalry.repository;
+
+import com.glennsyj.rivals.api.rivalry.entity.RivalryStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RivalryStatRepository extends JpaRepository<RivalryStat, Long> {
+
+    List<RivalryStat> findAllByRivalryId(Long rivalryId);
+
+    List<RivalryStat> findAllByRivalryIdIn(Collection<Long> rivalryIds);
+
+    List<RivalryStat> findAllByPuuid(String puuid);
+
+    @Query("SELECT DISTINCT s.rivalryId FROM RivalryStat s WHERE s.puuid IN :puuids")
+    List<Long> findRivalryIdsByPuuidIn(Collection<String> puuids);
+
+    /**
+     * 라이벌리 생성 시 초기화용: 초기 집계 기준 시각 이후에 저장된 참가자들의 매치 id (직접 반영하고 반영 기록을 남길 대상)
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT DISTINCT i.match_id
+        FROM tft_player_match_index i
+        JOIN tft_matches m ON m.id = i.match_id
+        WHERE i.puuid IN (:puuids)
+          AND m.created_at >= :storedSince
+    """)
+    List<Long> findMatchIdsStoredSince(Collection<String> puuids, LocalDateTime storedSince);
+
+    /**
+     * 라이벌리 생성 시 초기화용: storedBefore 이전에 저장된 매치에 대한 참가자별 전적 집계 (tft_player_match_index 이용)
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT i.puuid AS puuid,
+               COUNT(*) AS matchCount,
+               SUM(i.placement) AS placementSum,
+               SUM(CASE WHEN i.placement <= 4 THEN 1 ELSE 0 END) AS topFourCount,
+               SUM(CASE WHEN i.placement = 1 THEN 1 ELSE 0 END) AS firstPlaceCount
+        FROM tft_player_match_index i
+        JOIN tft_matches m ON m.id = i.match_id
+        WHERE i.puuid IN (:puuids)
+          AND m.created_at < :storedBefore
+        GROUP BY i.puuid
+    """)
+    List<PlacementAggregate> aggregatePlacements(Collection<String> puuids, LocalDateTime storedBefore);
+
+    /**
+     * 라이벌리 생성 시 초기화용: storedBefore 이전에 저장된 매치 중 한 참가자와 상대 진영 참가자들이 함께한 매치의 맞대결 집계
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT COUNT(DISTINCT me.match_id) AS sharedMatchCount,
+               COALESCE(SUM(CASE WHEN me.placement < op.placement THEN 1 ELSE 0 END), 0) AS wins,
+               COALESCE(SUM(CASE WHEN me.placement > op.placement THEN 1 ELSE 0 END), 0) AS losses
+        FROM tft_player_match_index me
+        JOIN tft_player_match_index op ON op.match_id = me.match_id
+        JOIN tft_matches m ON m.id = me.match_id
+        WHERE me.puuid = :puuid
+          AND op.puuid IN (:opponentPuuids)
+          AND m.created_at < :storedBefore
+    """)
+    HeadToHeadAggregate aggregateHeadToHead(String puuid, Collection<String> opponentPuuids,
+                                            LocalDateTime storedBefore);
+
+    interface PlacementAggregate {
+        String getPuuid();
+        Long getMatchCount();
+        Long getPlacementSum();
+        Long getTopFourCount();
+        Long getFirstPlaceCount();
+    }
+
+    interface HeadToHeadAggregate {
+        Long getSharedMatchCount();
+        Long getWins();
+        Long getLosses();
+    }
+}
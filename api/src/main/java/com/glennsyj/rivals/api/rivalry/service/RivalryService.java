@@ -5,15 +5,23 @@ import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
 import com.glennsyj.rivals.api.rivalry.entity.RivalSide;
 import com.glennsyj.rivals.api.rivalry.entity.Rivalry;
 import com.glennsyj.rivals.api.rivalry.entity.RivalryParticipant;
+import com.glennsyj.rivals.api.rivalry.entity.RivalryStat;
 import com.glennsyj.rivals.api.rivalry.model.ParticipantStatDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryCreationDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryDetailDto;
+import com.glennsyj.rivals.api.rivalry.model.RivalryMatchDto;
+import com.glennsyj.rivals.api.rivalry.model.RivalryMatchPageDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryParticipantDto;
+import com.glennsyj.rivals.api.rivalry.model.RivalryStatDto;
 import com.glennsyj.rivals.api.rivalry.repository.RivalryRepository;
 import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchCursor;
 import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
 import com.glennsyj.rivals.api.tft.repository.TftLeagueEntryRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +33,19 @@ public class RivalryService {
     private RivalryRepository rivalryRepository;
     private RiotAccountRepository riotAccountRepository;
     private TftLeagueEntryRepository tftLeagueEntryRepository;
+    private RivalryStatService rivalryStatService;
+    private TftMatchRepository tftMatchRepository;
 
     public RivalryService(RivalryRepository rivalryRepository,
                           RiotAccountRepository riotAccountRepository,
-                          TftLeagueEntryRepository tftLeagueEntryRepository) {
+                          TftLeagueEntryRepository tftLeagueEntryRepository,
+                          RivalryStatService rivalryStatService,
+                          TftMatchRepository tftMatchRepository) {
         this.rivalryRepository = rivalryRepository;
         this.riotAccountRepository = riotAccountRepository;
         this.tftLeagueEntryRepository = tftLeagueEntryRepository;
+        this.rivalryStatService = rivalryStatService;
+        this.tftMatchRepository = tftMatchRepository;
     }
 
     @Transactional
@@ -68,6 +82,9 @@ public class RivalryService {
             throw new IllegalArgumentException("Some of accounts not found");
         }
 
+        // 참가자별 누적 통계는 생성 시 한 번만 집계하고 이후에는 새 매치만 반영
+        rivalryStatService.initialize(rivalry);
+
         return rivalry.getId();
     }
 
@@ -86,9 +103,14 @@ public class RivalryService {
         List<RiotAccount> accounts = riotAccountRepository.findAllById(participantsAccountIds);
         accounts.forEach(account -> nameCacheMap.put(account.getId(), account.getFullGameName()));
 
-        List<TftLeagueEntry> leagueEntries = tftLeagueEntryRepository.findAllByAccount_IdIn(participantsAccountIds);
+        // 라이벌 비교는 솔로 랭크 기준, 계정당 현재 엔트리 1행만 조회
+        List<TftLeagueEntry> leagueEntries = tftLeagueEntryRepository.findAllByAccount_IdInAndQueueType(
+                participantsAccountIds, TftLeagueEntry.QueueType.RANKED_TFT);
         leagueEntries.forEach(entry -> leagueEntryCacheMap.put(entry.getAccount().getId(), TftStatusDto.from(entry)));
 
+        // 참가자별 누적 통계 (집계 쿼리 없이 저장된 값 그대로 이용)
+        Map<Long, RivalryStat> statMap = rivalryStatService.findByRivalryId(id);
+
         // 3. RivalryDetailDto 생성 및 반환
         List<ParticipantStatDto> leftStats = new ArrayList<>();
         List<ParticipantStatDto> rightStats = new ArrayList<>();
@@ -97,7 +119,9 @@ public class RivalryService {
             Long participantId = participant.getId();
             String fullName = nameCacheMap.get(participant.getRiotAccount().getId());
             TftStatusDto status = leagueEntryCacheMap.get(participant.getRiotAccount().getId());
-            ParticipantStatDto participantStat = new ParticipantStatDto(participantId.toString(), fullName, status);
+            RivalryStat stat = statMap.get(participantId);
+            ParticipantStatDto participantStat = new ParticipantStatDto(participantId.toString(), fullName, status,
+                    stat != null ? RivalryStatDto.from(stat) : null);
 
             if (participant.getSide() == RivalSide.LEFT) {
                 leftStats.add(participantStat);
@@ -108,4 +132,49 @@ public class RivalryService {
 
         return new RivalryDetailDto(id.toString(), leftStats, rightStats, rivalry.getCreatedAt());
     }
+
+    /**
+     * 양 진영 참가자가 한 명 이상씩 함께한 매치를 keyset 커서 기준으로 limit개씩 조회
+     * 참가자별 전적을 모두 불러와 교집합을 구하지 않고 tft_player_match_index 조회만으로 매치 id를 찾는다.
+     */
+    @Transactional(readOnly = true)
+    public RivalryMatchPageDto findSharedMatchPage(Long id, TftMatchCursor before, int limit) {
+        Rivalry rivalry = rivalryRepository.findById(id).orElseThrow(EntityNotFoundException::new);
+
+        Set<String> leftPuuids = new HashSet<>();
+        Set<String> rightPuuids = new HashSet<>();
+        for (RivalryParticipant participant : rivalry.getParticipants()) {
+            String puuid = participant.getRiotAccount().getPuuid();
+            if (participant.getSide() == RivalSide.LEFT) {
+                leftPuuids.add(puuid);
+            } else {
+                rightPuuids.add(puuid);
+            }
+        }
+        if (leftPuuids.isEmpty() || rightPuuids.isEmpty()) {
+            return new RivalryMatchPageDto(List.of(), null);
+        }
+
+        // 다음 페이지 존재 여부를 확인하기 위해 하나 더 조회
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        List<Long> matchIds = before == null
+                ? tftMatchRepository.findSharedMatchIds(leftPuuids, rightPuuids, pageRequest)
+                : tftMatchRepository.findSharedMatchIdsBefore(leftPuuids, rightPuuids,
+                        before.gameCreation(), before.id(), pageRequest);
+        if (matchIds.isEmpty()) {
+            return new RivalryMatchPageDto(List.of(), null);
+        }
+
+        boolean hasNext = matchIds.size() > limit;
+        List<TftMatch> page = tftMatchRepository.findAllWithParticipantsByIdIn(
+                hasNext ? matchIds.subList(0, limit) : matchIds);
+
+        String nextCursor = hasNext ? TftMatchCursor.from(page.get(page.size() - 1)).encode() : null;
+        return new RivalryMatchPageDto(
+                page.stream()
+                        .map(match -> RivalryMatchDto.from(match, leftPuuids, rightPuuids))
+                        .toList(),
+                nextCursor
+        );
+    }
 }
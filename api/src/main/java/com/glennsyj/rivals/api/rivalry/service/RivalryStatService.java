@@ -0,0 +1,222 @@
+package com.glennsyj.rivals.api.rivalry.service;
+
+import com.glennsyj.rivals.api.rivalry.entity.Rivalry;
+import com.glennsyj.rivals.api.rivalry.entity.RivalryAppliedMatch;
+import com.glennsyj.rivals.api.rivalry.entity.RivalryParticipant;
+import com.glennsyj.rivals.api.rivalry.entity.RivalryStat;
+import com.glennsyj.rivals.api.rivalry.repository.RivalryAppliedMatchRepository;
+import com.glennsyj.rivals.api.rivalry.repository.RivalryStatRepository;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
+import com.glennsyj.rivals.api.tft.outbox.MatchesProcessedEvent;
+import com.glennsyj.rivals.api.tft.repository.TftLeagueEntryRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import com.glennsyj.rivals.api.tft.service.LeagueEntriesRenewedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 라이벌리 참가자별 누적 통계(rivalry_stats) 관리
+ *
+ * 1. 라이벌리 생성 시: 저장된 전적을 한 번 집계해 초기화
+ * 2. 아웃박스 워커가 새 매치를 처리할 때: 참가자가 포함된 매치 중 초기 집계 이후 저장되었고 아직 반영되지 않은 매치만 증분 반영
+ * 3. 리그 엔트리 갱신 시: 현재 랭크 점수 반영
+ *
+ * 2, 3은 발행한 쪽의 트랜잭션 안에서 동기적으로 처리되므로 통계 반영에 실패하면 원래 작업도 롤백되어 재시도된다.
+ */
+@Service
+public class RivalryStatService {
+
+    // 초기 집계는 이 시간보다 먼저 저장된 매치만 대상으로 함 (그 사이 커밋 중인 매치 저장 트랜잭션이 끝나기를 기다리는 여유)
+    private static final Duration SETTLE_MARGIN = Duration.ofMinutes(1);
+
+    private final RivalryStatRepository rivalryStatRepository;
+    private final RivalryAppliedMatchRepository rivalryAppliedMatchRepository;
+    private final TftLeagueEntryRepository tftLeagueEntryRepository;
+    private final TftMatchRepository tftMatchRepository;
+
+    public RivalryStatService(RivalryStatRepository rivalryStatRepository,
+                              RivalryAppliedMatchRepository rivalryAppliedMatchRepository,
+                              TftLeagueEntryRepository tftLeagueEntryRepository,
+                              TftMatchRepository tftMatchRepository) {
+        this.rivalryStatRepository = rivalryStatRepository;
+        this.rivalryAppliedMatchRepository = rivalryAppliedMatchRepository;
+        this.tftLeagueEntryRepository = tftLeagueEntryRepository;
+        this.tftMatchRepository = tftMatchRepository;
+    }
+
+    /**
+     * 새 라이벌리의 참가자별 통계를 저장된 전적으로 초기화
+     *
+     * 기준 시각(지금 - SETTLE_MARGIN) 이전에 저장된 매치는 집계 쿼리로 한 번에 반영하고, 기준 시각만 통계에 기록한다.
+     * 기준 시각 이후에 저장된 매치는 아웃박스 처리와 겹칠 수 있으므로 직접 반영하면서 반영 기록을 남긴다.
+     * 따라서 반영 기록은 전적 규모와 무관하게 최근 SETTLE_MARGIN 동안 저장된 매치 수만큼만 생긴다.
+     * 이후 커밋되는 매치는 라이벌리가 커밋된 뒤 아웃박스 처리에서 반영 기록을 확인해 한 번만 반영된다.
+     */
+    @Transactional
+    public void initialize(Rivalry rivalry) {
+        List<RivalryParticipant> participants = rivalry.getParticipants();
+        Set<String> puuids = participants.stream()
+                .map(participant -> participant.getRiotAccount().getPuuid())
+                .collect(Collectors.toSet());
+
+        LocalDateTime aggregatedBefore = LocalDateTime.now().minus(SETTLE_MARGIN);
+        Map<String, RivalryStatRepository.PlacementAggregate> placements =
+                rivalryStatRepository.aggregatePlacements(puuids, aggregatedBefore).stream()
+                        .collect(Collectors.toMap(RivalryStatRepository.PlacementAggregate::getPuuid, Function.identity()));
+
+        Map<Long, Integer> ladderPoints = new HashMap<>();
+        tftLeagueEntryRepository.findAllByAccount_IdInAndQueueType(participants.stream()
+                        .map(participant -> participant.getRiotAccount().getId())
+                        .toList(), TftLeagueEntry.QueueType.RANKED_TFT)
+                .forEach(entry -> ladderPoints.put(entry.getAccount().getId(), entry.getLadderPoints()));
+
+        List<RivalryStat> stats = participants.stream()
+                .map(participant -> {
+                    String puuid = participant.getRiotAccount().getPuuid();
+                    RivalryStat stat = new RivalryStat(participant, puuid,
+                            ladderPoints.get(participant.getRiotAccount().getId()));
+
+                    RivalryStatRepository.PlacementAggregate placement = placements.get(puuid);
+                    List<String> opponentPuuids = participants.stream()
+                            .filter(other -> other.getSide() != participant.getSide())
+                            .map(other -> other.getRiotAccount().getPuuid())
+                            .toList();
+                    RivalryStatRepository.HeadToHeadAggregate headToHead = placement == null || opponentPuuids.isEmpty()
+                            ? null
+                            : rivalryStatRepository.aggregateHeadToHead(puuid, opponentPuuids, aggregatedBefore);
+
+                    stat.initialize(
+                            placement == null ? 0 : placement.getMatchCount().intValue(),
+                            placement == null ? 0 : placement.getPlacementSum(),
+                            placement == null ? 0 : placement.getTopFourCount().intValue(),
+                            placement == null ? 0 : placement.getFirstPlaceCount().intValue(),
+                            headToHead == null ? 0 : headToHead.getSharedMatchCount().intValue(),
+                            headToHead == null ? 0 : headToHead.getWins().intValue(),
+                            headToHead == null ? 0 : headToHead.getLosses().intValue(),
+                            aggregatedBefore);
+                    return stat;
+                })
+                .toList();
+
+        List<Long> recentMatchIds = rivalryStatRepository.findMatchIdsStoredSince(puuids, aggregatedBefore);
+        List<RivalryAppliedMatch> applied = recentMatchIds.isEmpty()
+                ? List.of()
+                : tftMatchRepository.findAllWithParticipantsByIdIn(recentMatchIds).stream()
+                        .filter(match -> applyMatch(stats, match))
+                        .map(match -> new RivalryAppliedMatch(rivalry.getId(), match.getId()))
+                        .toList();
+
+        rivalryStatRepository.saveAll(stats);
+        if (!applied.isEmpty()) {
+            rivalryAppliedMatchRepository.saveAll(applied);
+        }
+    }
+
+    /**
+     * 참가자별 통계 조회 (key: rivalry_participants.id)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, RivalryStat> findByRivalryId(Long rivalryId) {
+        return rivalryStatRepository.findAllByRivalryId(rivalryId).stream()
+                .collect(Collectors.toMap(stat -> stat.getParticipant().getId(), Function.identity()));
+    }
+
+    /**
+     * 새로 처리된 매치 중 라이벌리 참가자가 포함되고 아직 반영되지 않은 매치를 참가자별 통계에 반영
+     * 초기 집계 기준 시각 이전에 저장된 매치는 이미 집계에 포함되어 있으므로 반영 기록을 조회하지 않고 건너뛰며,
+     * 매치의 처리 순서와 무관하게 라이벌리, 매치마다 한 번씩만 반영됨
+     */
+    @EventListener
+    @Transactional
+    public void onMatchesProcessed(MatchesProcessedEvent event) {
+        List<TftMatch> matches = event.matches();
+        Set<String> puuids = matches.stream()
+                .flatMap(match -> match.getParticipants().stream())
+                .map(TftMatchParticipant::getPuuid)
+                .collect(Collectors.toSet());
+        if (puuids.isEmpty()) {
+            return;
+        }
+
+        List<Long> rivalryIds = rivalryStatRepository.findRivalryIdsByPuuidIn(puuids);
+        if (rivalryIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<RivalryStat>> statsByRivalry = rivalryStatRepository.findAllByRivalryIdIn(rivalryIds).stream()
+                .collect(Collectors.groupingBy(RivalryStat::getRivalryId));
+
+        List<RivalryAppliedMatch> applied = new ArrayList<>();
+        statsByRivalry.forEach((rivalryId, stats) -> {
+            List<TftMatch> candidates = matches.stream()
+                    .filter(match -> !stats.get(0).isAggregatedInitially(match.getCreatedAt()))
+                    .toList();
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            Set<Long> alreadyApplied = new HashSet<>(rivalryAppliedMatchRepository.findAppliedMatchIds(
+                    rivalryId, candidates.stream().map(TftMatch::getId).toList()));
+            for (TftMatch match : candidates) {
+                if (!alreadyApplied.contains(match.getId()) && applyMatch(stats, match)) {
+                    applied.add(new RivalryAppliedMatch(rivalryId, match.getId()));
+                }
+            }
+        });
+        if (!applied.isEmpty()) {
+            rivalryAppliedMatchRepository.saveAll(applied);
+        }
+    }
+
+    /**
+     * 갱신된 솔로 랭크 점수를 해당 계정이 참가한 모든 라이벌리 통계에 반영
+     */
+    @EventListener
+    @Transactional
+    public void onLeagueEntriesRenewed(LeagueEntriesRenewedEvent event) {
+        event.entries().stream()
+                .filter(entry -> entry.getQueueType() == TftLeagueEntry.QueueType.RANKED_TFT)
+                .findFirst()
+                .ifPresent(entry -> rivalryStatRepository.findAllByPuuid(event.puuid())
+                        .forEach(stat -> stat.updateLadderPoints(entry.getLadderPoints())));
+    }
+
+    // 라이벌리 참가자가 한 명이라도 포함된 매치였는지 반환
+    private boolean applyMatch(List<RivalryStat> stats, TftMatch match) {
+        Map<String, Integer> placements = match.getParticipants().stream()
+                .filter(participant -> participant.getPlacement() != null)
+                .collect(Collectors.toMap(TftMatchParticipant::getPuuid, TftMatchParticipant::getPlacement,
+                        (first, second) -> first));
+
+        boolean participated = false;
+        for (RivalryStat stat : stats) {
+            Integer placement = placements.get(stat.getPuuid());
+            if (placement == null) {
+                continue;
+            }
+            participated = true;
+            List<Integer> opponentPlacements = stats.stream()
+                    .filter(other -> other.getSide() != stat.getSide())
+                    .map(other -> placements.get(other.getPuuid()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            stat.applyMatch(placement, opponentPlacements);
+        }
+        return participated;
+    }
+}
@@ -1,6 +1,7 @@
 package com.glennsyj.rivals.api.tft;
 
 import com.glennsyj.rivals.api.common.client.BaseRiotClient;
+import com.glennsyj.rivals.api.common.client.retry.RiotRetryPolicy;
 import com.glennsyj.rivals.api.tft.model.entry.TftLeagueEntryResponse;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchResponse;
 import org.springframework.core.ParameterizedTypeReference;
@@ -10,15 +11,17 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 
 @Component
 public class TftApiClient extends BaseRiotClient {
-    public TftApiClient(WebClient riotAsiaWebClient, WebClient riotKorWebClient) {
-        super(riotAsiaWebClient, riotKorWebClient);
+    public TftApiClient(WebClient riotAsiaWebClient, WebClient riotKorWebClient, RiotRetryPolicy riotRetryPolicy) {
+        super(riotAsiaWebClient, riotKorWebClient, riotRetryPolicy);
     }
 
     public List<TftLeagueEntryResponse> getLeagueEntries(String puuid) {
         return handleApiCall(
+                "tft-league-by-puuid",
                 riotKorWebClient.get()
                         .uri("/tft/league/v1/by-puuid/{puuid}", puuid)
                         .accept(MediaType.APPLICATION_JSON)
@@ -29,9 +32,10 @@ public class TftApiClient extends BaseRiotClient {
         );
     }
 
-    // 현재는 따로 Query Param 이용 없이 기본 값으로 이용 (20개)
+    // Query Param 없이 기본 값으로 이용 (최근 20개)
     public List<String> getMatchIdsFromPuuid(String puuid) {
         return handleApiCall(
+                "tft-match-ids-by-puuid",
                 riotAsiaWebClient.get()
                         .uri("/tft/match/v1/matches/by-puuid/{puuid}/ids", puuid)
                         .accept(MediaType.APPLICATION_JSON)
@@ -42,8 +46,31 @@ public class TftApiClient extends BaseRiotClient {
         );
     }
 
+    /**
+     * startTime(epoch seconds) 이후의 매치 ID를 최신순으로 start부터 count개 조회
+     * startTime이 null이면 시간 조건 없이 조회
+     */
+    public List<String> getMatchIdsFromPuuid(String puuid, Long startTime, int start, int count) {
+        return handleApiCall(
+                "tft-match-ids-by-puuid",
+                riotAsiaWebClient.get()
+                        // 템플릿 문자열을 함께 넘겨야 RiotRateLimiter가 메서드 단위로 묶을 수 있음
+                        .uri("/tft/match/v1/matches/by-puuid/{puuid}/ids", uriBuilder -> uriBuilder
+                                .queryParamIfPresent("startTime", Optional.ofNullable(startTime))
+                                .queryParam("start", start)
+                                .queryParam("count", count)
+                                .build(puuid))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<List<String>>() {
+                        }),
+                "소환사의 TFT 매치 ID 정보를 찾을 수 없습니다: " + puuid
+        );
+    }
+
     public TftMatchResponse getMatchResponseFromMatchId(String matchId) {
         return handleApiCall(
+                "tft-match-by-id",
                 riotAsiaWebClient.get()
                         .uri("/tft/match/v1/matches/{matchId}", matchId)
                         .accept(MediaType.APPLICATION_JSON)
@@ -54,10 +81,13 @@ public class TftApiClient extends BaseRiotClient {
     }
 
     public Mono<TftMatchResponse> getMatchResponseFromMatchIdMono(String matchId) {
-        return riotAsiaWebClient.get()
-            .uri("/tft/match/v1/matches/{matchId}", matchId)
-            .accept(MediaType.APPLICATION_JSON)
-            .retrieve()
-            .bodyToMono(TftMatchResponse.class);
+        return withRetry(
+                "tft-match-by-id",
+                riotAsiaWebClient.get()
+                        .uri("/tft/match/v1/matches/{matchId}", matchId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(TftMatchResponse.class)
+        );
     }
 }
@@ -0,0 +1,133 @@
+package com.glennsyj.rivals.api.tft.cache;
+
+import com.glennsyj.rivals.api.tft.TftApiClient;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchResponse;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * matchId 기준 매치 상세 정보 캐시 (모든 참가자가 공유)
+ *
+ * 1. tft_matches 테이블: 이미 저장된 매치는 다시 받아오지 않음
+ * 2. 메모리 LRU: 받아왔지만 아직 저장(커밋)되지 않은 매치를 다른 참가자의 갱신 요청이 재사용
+ * 3. 진행 중 요청 공유: 같은 매치를 동시에 요청하면 Riot 호출은 한 번만 수행
+ * 4. 404 네거티브 캐시: 존재하지 않는 매치는 일정 시간 동안 다시 요청하지 않음
+ */
+@Component
+public class TftMatchCache {
+    private static final Logger logger = LoggerFactory.getLogger(TftMatchCache.class);
+
+    private final TftApiClient tftApiClient;
+    private final TftMatchRepository tftMatchRepository;
+
+    private final Map<String, TftMatchResponse> lru;
+    private final Map<String, Long> notFoundUntil = new ConcurrentHashMap<>();
+    private final Map<String, Mono<TftMatchResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long negativeTtlNanos;
+
+    public TftMatchCache(TftApiClient tftApiClient,
+                         TftMatchRepository tftMatchRepository,
+                         @Value("${rivals.tft.match-cache.max-size:500}") int maxSize,
+                         @Value("${rivals.tft.match-cache.negative-ttl-seconds:600}") long negativeTtlSeconds) {
+        this.tftApiClient = tftApiClient;
+        this.tftMatchRepository = tftMatchRepository;
+        this.negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.lru = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TftMatchResponse> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 후보 matchId 중 DB에 아직 저장되지 않은 것만 순서를 유지해 반환
+     */
+    public List<String> findUnpersistedMatchIds(Collection<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return List.of();
+        }
+        Set<String> persisted = new HashSet<>(tftMatchRepository.findMatchIdsIn(matchIds));
+        return matchIds.stream()
+                .filter(matchId -> !persisted.contains(matchId))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 매치 상세 정보 조회. 존재하지 않는 매치(404)는 빈 Mono를 반환
+     */
+    public Mono<TftMatchResponse> get(String matchId) {
+        return Mono.defer(() -> {
+            TftMatchResponse cached = getCached(matchId);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            Long until = notFoundUntil.get(matchId);
+            if (until != null) {
+                if (System.nanoTime() < until) {
+                    return Mono.empty();
+                }
+                notFoundUntil.remove(matchId, until);
+            }
+
+            return inFlight.computeIfAbsent(matchId, this::fetch);
+        });
+    }
+
+    /**
+     * 404 응답을 받아 네거티브 캐시에 남아 있는 매치인지 확인
+     */
+    public boolean isNotFound(String matchId) {
+        Long until = notFoundUntil.get(matchId);
+        return until != null && System.nanoTime() < until;
+    }
+
+    public void evict(String matchId) {
+        synchronized (lru) {
+            lru.remove(matchId);
+        }
+    }
+
+    private Mono<TftMatchResponse> fetch(String matchId) {
+        // 끝난 뒤에는 자신이 등록한 요청만 제거 (그 사이 새로 시작된 같은 매치 요청은 남겨둠)
+        AtomicReference<Mono<TftMatchResponse>> self = new AtomicReference<>();
+        Mono<TftMatchResponse> mono = tftApiClient.getMatchResponseFromMatchIdMono(matchId)
+                .doOnNext(response -> {
+                    synchronized (lru) {
+                        lru.put(matchId, response);
+                    }
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    logger.debug("Match {} not found, caching negative result", matchId);
+                    notFoundUntil.put(matchId, System.nanoTime() + negativeTtlNanos);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> inFlight.remove(matchId, self.get()))
+                .cache();
+        self.set(mono);
+        return mono;
+    }
+
+    private TftMatchResponse getCached(String matchId) {
+        synchronized (lru) {
+            return lru.get(matchId);
+        }
+    }
+}
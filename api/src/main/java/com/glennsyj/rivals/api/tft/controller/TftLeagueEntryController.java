@@ -1,33 +1,38 @@
 package com.glennsyj.rivals.api.tft.controller;
 
-import com.glennsyj.rivals.api.riot.entity.RiotAccount;
-import com.glennsyj.rivals.api.riot.service.RiotAccountManager;
 import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
-import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
-import com.glennsyj.rivals.api.tft.service.TftLeagueEntryManager;
+import com.glennsyj.rivals.api.tft.facade.TftFacade;
+import com.glennsyj.rivals.api.tft.facade.TftSnapshotReader;
+import com.glennsyj.rivals.api.tft.facade.exception.TftRenewException;
+import com.glennsyj.rivals.api.tft.facade.exception.TftRenewRejectedException;
+import com.glennsyj.rivals.api.tft.model.entry.TftLeagueHistoryPointDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 @RequestMapping(path="/api/v1/tft/entries")
 public class TftLeagueEntryController {
 
-    private TftLeagueEntryManager tftLeagueEntryManager;
-    private RiotAccountManager riotAccountManager;
+    private static final int MAX_HISTORY_DAYS = 365;
+
+    private TftSnapshotReader tftSnapshotReader;
+    private TftFacade tftFacade;
 
     private final Logger log = LoggerFactory.getLogger(TftLeagueEntryController.class);
 
-    public TftLeagueEntryController(TftLeagueEntryManager tftLeagueEntryManager, RiotAccountManager riotAccountManager) {
-        this.tftLeagueEntryManager = tftLeagueEntryManager;
-        this.riotAccountManager = riotAccountManager;
+    public TftLeagueEntryController(TftSnapshotReader tftSnapshotReader, TftFacade tftFacade) {
+        this.tftSnapshotReader = tftSnapshotReader;
+        this.tftFacade = tftFacade;
     }
 
     @GetMapping(path="/{encodedFullName}")
@@ -42,16 +47,15 @@ public class TftLeagueEntryController {
         String tagLine = parts[1];
 
         try {
-            RiotAccount account = riotAccountManager.findOrRegisterAccount(gameName, tagLine);
-            List<TftLeagueEntry> entries = tftLeagueEntryManager.findOrCreateLeagueEntries(account.getId());
-
-            List<TftStatusDto> dtos = new ArrayList<>(entries.size());
-            for (TftLeagueEntry entry : entries) {
-                TftStatusDto dto = TftStatusDto.from(entry);
-                dtos.add(dto);
-            }
-
-            return ResponseEntity.ok(dtos);
+            return tftSnapshotReader.readLeagueEntries(gameName, tagLine).toResponse();
+        } catch (TftRenewRejectedException e) {
+            // 처음 조회 시의 동기 갱신이 거절된 경우: 잠시 후 재시도하도록 안내
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        } catch (TftRenewException e) {
+            log.error("Failed first sync of league entries for {}#{}", gameName, tagLine, e);
+            return ResponseEntity.internalServerError().build();
         } catch (IllegalStateException e) {
             return ResponseEntity.notFound().build();
         }
@@ -60,16 +64,40 @@ public class TftLeagueEntryController {
     @GetMapping(path="/{gameName}/{tagLine}")
     public ResponseEntity<?> getTftStatusFrom(@PathVariable String gameName, @PathVariable String tagLine) {
         try {
-            RiotAccount account = riotAccountManager.findOrRegisterAccount(gameName, tagLine);
-            List<TftLeagueEntry> entries = tftLeagueEntryManager.findOrCreateLeagueEntries(account.getId());
+            return tftSnapshotReader.readLeagueEntries(gameName, tagLine).toResponse();
+        } catch (TftRenewRejectedException e) {
+            // 처음 조회 시의 동기 갱신이 거절된 경우: 잠시 후 재시도하도록 안내
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        } catch (TftRenewException e) {
+            log.error("Failed first sync of league entries for {}#{}", gameName, tagLine, e);
+            return ResponseEntity.internalServerError().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
 
-            List<TftStatusDto> dtos = new ArrayList<>(entries.size());
-            for (TftLeagueEntry entry : entries) {
-                TftStatusDto dto = TftStatusDto.from(entry);
-                dtos.add(dto);
-            }
+    /**
+     * LP 그래프용 변화 기록: ?queueType=RANKED_TFT&days=30
+     * 7일이 지난 기록은 시간 단위, 90일이 지난 기록은 일 단위 마지막 값만 남아 있음
+     */
+    @GetMapping(path="/{gameName}/{tagLine}/history")
+    public ResponseEntity<?> getLeagueHistory(@PathVariable String gameName,
+                                              @PathVariable String tagLine,
+                                              @RequestParam(defaultValue = "RANKED_TFT") String queueType,
+                                              @RequestParam(defaultValue = "30") int days) {
+        TftLeagueEntry.QueueType parsedQueueType;
+        try {
+            parsedQueueType = TftLeagueEntry.QueueType.valueOf(queueType);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid queueType: " + queueType);
+        }
 
-            return ResponseEntity.ok(dtos);
+        try {
+            int range = Math.max(1, Math.min(days, MAX_HISTORY_DAYS));
+            List<TftLeagueHistoryPointDto> history = tftFacade.findLeagueHistory(gameName, tagLine, parsedQueueType, range);
+            return ResponseEntity.ok(history);
         } catch (IllegalStateException e) {
             return ResponseEntity.notFound().build();
         }
@@ -1,8 +1,14 @@
 package com.glennsyj.rivals.api.tft.controller;
 
 import com.glennsyj.rivals.api.tft.facade.TftFacade;
+import com.glennsyj.rivals.api.tft.facade.TftSnapshotReader;
+import com.glennsyj.rivals.api.tft.facade.exception.TftRenewException;
+import com.glennsyj.rivals.api.tft.facade.exception.TftRenewRejectedException;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchCursor;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchPageDto;
 import com.glennsyj.rivals.api.tft.model.match.TftRecentMatchDto;
-import org.apache.coyote.Response;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,21 +17,57 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/v1/tft/matches")
 public class TftMatchController {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final TftSnapshotReader tftSnapshotReader;
     private final TftFacade tftFacade;
 
-    public TftMatchController(TftFacade tftFacade) {
+    public TftMatchController(TftSnapshotReader tftSnapshotReader, TftFacade tftFacade) {
+        this.tftSnapshotReader = tftSnapshotReader;
         this.tftFacade = tftFacade;
     }
 
+    /**
+     * limit, before가 모두 없으면 최근 매치 목록을 그대로 응답하고(stale-while-revalidate),
+     * 둘 중 하나라도 있으면 전적 무한 스크롤 페이지로 응답: ?limit=N&before=gameCreation,id
+     * before 없이 호출하면 가장 최근 매치부터 조회하며, 응답의 nextCursor를 다음 요청의 before로 넘긴다.
+     */
     @GetMapping("/{gameName}/{tagLine}")
-    public ResponseEntity<List<TftRecentMatchDto>> getRecentMatches(
+    public ResponseEntity<?> getMatches(
             @PathVariable String gameName,
-            @PathVariable String tagLine) {
+            @PathVariable String tagLine,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
+        if (before == null && limit == null) {
+            return getRecentMatches(gameName, tagLine);
+        }
+        return getMatchPage(gameName, tagLine, before, limit == null ? DEFAULT_PAGE_SIZE : limit);
+    }
+
+    private ResponseEntity<List<TftRecentMatchDto>> getRecentMatches(String gameName, String tagLine) {
         try {
-            List<TftRecentMatchDto> dtos = tftFacade.findAndProcessMatches(gameName, tagLine);
-            return ResponseEntity.ok(dtos);
+            // DB 데이터를 바로 응답하고, 오래된 경우 백그라운드에서 갱신 (X-Data-Age, Last-Modified 헤더 포함)
+            return tftSnapshotReader.readRecentMatches(gameName, tagLine).toResponse();
+        } catch (TftRenewRejectedException e) {
+            // 처음 조회 시의 동기 갱신이 거절된 경우: 잠시 후 재시도하도록 안내
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        } catch (TftRenewException e) {
+            return ResponseEntity.internalServerError().build();
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    private ResponseEntity<TftMatchPageDto> getMatchPage(String gameName, String tagLine, String before, int limit) {
+        try {
+            TftMatchCursor cursor = before == null ? null : TftMatchCursor.parse(before);
+            int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            return ResponseEntity.ok(tftFacade.findMatchPage(gameName, tagLine, cursor, size));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
@@ -2,14 +2,30 @@ package com.glennsyj.rivals.api.tft.controller;
 
 import com.glennsyj.rivals.api.tft.facade.TftFacade;
 import com.glennsyj.rivals.api.tft.facade.exception.TftRenewException;
+import com.glennsyj.rivals.api.tft.facade.exception.TftRenewRejectedException;
+import com.glennsyj.rivals.api.tft.model.match.TftRecentMatchDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewRequestDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewResponseDto;
 import com.glennsyj.rivals.api.tft.model.renew.TftRenewDto;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/v1/tft/renew")
@@ -17,6 +33,9 @@ public class TftRenewController {
     private final TftFacade tftFacade;
     private final Logger log = LoggerFactory.getLogger(TftRenewController.class);
 
+    private static final String RENEW_FAILED_EVENT = "renew-failed";
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
     public TftRenewController(TftFacade tftFacade) {
         this.tftFacade = tftFacade;
     }
@@ -29,9 +48,80 @@ public class TftRenewController {
         try {
             TftRenewDto result = tftFacade.renewAllTftData(gameName, tagLine);
             return ResponseEntity.ok(result);
+        } catch (TftRenewRejectedException e) {
+            // 갱신 스레드 풀 포화 또는 Riot API 호출 제한: 잠시 후 재시도하도록 안내
+            log.warn("Rejected TFT renew for {}#{}: {}", gameName, tagLine, e.getMessage());
+            return serviceUnavailable(e);
         } catch (TftRenewException e) {
             log.error("Failed to renew TFT data for {}#{}", gameName, tagLine, e);
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 여러 소환사를 한 번에 갱신 (계정 간 겹치는 매치는 한 번만 조회)
+     * 일부 계정이 실패해도 200으로 응답하며 계정별 결과에 실패 여부를 담음
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<TftBulkRenewResponseDto> renewBulk(@Valid @RequestBody TftBulkRenewRequestDto requestDto) {
+        try {
+            return ResponseEntity.ok(tftFacade.renewBulk(requestDto.riotIds()));
+        } catch (TftRenewRejectedException e) {
+            log.warn("Rejected bulk TFT renew: {}", e.getMessage());
+            return serviceUnavailable(e);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk TFT renew request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 새로 저장된 매치를 저장되는 대로 NDJSON으로 스트리밍 (기존 갱신 API는 그대로 유지)
+     * 갱신 스레드 풀이 포화되면 첫 응답 전에 끝나므로 일반 갱신과 같이 503으로 응답
+     */
+    @GetMapping(value = "/{gameName}/{tagLine}/reactive", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TftRecentMatchDto> renewMatchesReactive(
+            @PathVariable String gameName,
+            @PathVariable String tagLine
+    ) {
+        return tftFacade.streamRenewedMatches(gameName, tagLine)
+                .doOnError(e -> !(e instanceof TftRenewRejectedException),
+                        e -> log.error("Failed to stream TFT renew for {}#{}", gameName, tagLine, e));
+    }
+
+    /**
+     * 갱신 진행 상황을 SSE로 스트리밍 (account-resolved, league-entries, match-ingested, badges-updated)
+     * 매치 조회가 길어져도 프록시 유휴 타임아웃에 걸리지 않도록 주기적으로 keep-alive 주석을 보냄
+     * 갱신 스레드 풀 포화로 거절되면 첫 이벤트 전에 끝나므로 renew-failed 이벤트 대신 503으로 응답
+     */
+    @GetMapping(value = "/{gameName}/{tagLine}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> renewStream(
+            @PathVariable String gameName,
+            @PathVariable String tagLine
+    ) {
+        Flux<ServerSentEvent<Object>> events = tftFacade.streamRenewProgress(gameName, tagLine)
+                .map(event -> ServerSentEvent.builder(event.data()).event(event.name()).build())
+                .onErrorResume(e -> !(e instanceof TftRenewRejectedException), e -> {
+                    log.error("Failed to stream TFT renew progress for {}#{}", gameName, tagLine, e);
+                    return Mono.just(ServerSentEvent.<Object>builder("갱신에 실패했습니다").event(RENEW_FAILED_EVENT).build());
+                });
+
+        Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<Object>builder().comment("keep-alive").build());
+
+        // 갱신 이벤트 스트림이 끝나면 keep-alive도 함께 종료
+        return events.publish(shared -> Flux.merge(shared, heartbeat.takeUntilOther(shared.then())));
+    }
+
+    @ExceptionHandler(TftRenewRejectedException.class)
+    public ResponseEntity<Void> handleRenewRejected(TftRenewRejectedException e) {
+        log.warn("Rejected streaming TFT renew: {}", e.getMessage());
+        return serviceUnavailable(e);
+    }
+
+    private <T> ResponseEntity<T> serviceUnavailable(TftRenewRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.glennsyj.rivals.api.tft.entity.achievement;
 
+// 선언 순서가 TftBadgeWindow 비트마스크의 비트 위치로 이용되므로 새 업적은 끝에 추가
 public enum AchievementType {
     MOST_EXPENSIVE_SQUAD,
     MOST_DAMAGE_DEALT,
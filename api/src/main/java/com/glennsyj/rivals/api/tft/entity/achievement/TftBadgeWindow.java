@@ -0,0 +1,137 @@
+package com.glennsyj.rivals.api.tft.entity.achievement;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.*;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 계정별 최근 N경기 업적 슬라이딩 윈도우
+ *
+ * 최근 N경기의 경기 id와 경기마다 달성한 업적(AchievementType 순서의 비트마스크, 1 byte)을 최신순으로 기록한다.
+ * 반영 여부를 워터마크가 아닌 경기 id로 판단하므로, 늦게 저장된 과거 경기도 최근 N경기 안이라면 윈도우에 들어온다.
+ */
+@Entity
+@Table(name = "tft_badge_windows",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_tft_badge_windows_account", columnNames = "riot_account_id")
+        })
+public class TftBadgeWindow {
+
+    public static final int CAPACITY = 20;
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "riot_account_id", nullable = false)
+    private RiotAccount riotAccount;
+
+    // 경기별 업적 비트마스크 (최신순, matchIds와 같은 위치)
+    @Column(nullable = false, length = CAPACITY)
+    private byte[] slots;
+
+    // 경기별 tft_matches.id (최신순, 8 byte씩)
+    @Column(name = "match_ids", nullable = false, length = CAPACITY * Long.BYTES)
+    private byte[] matchIds;
+
+    @Column(nullable = false)
+    private Integer size;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected TftBadgeWindow() {}
+
+    public TftBadgeWindow(RiotAccount riotAccount) {
+        this.riotAccount = riotAccount;
+        this.slots = new byte[CAPACITY];
+        this.matchIds = new byte[CAPACITY * Long.BYTES];
+        this.size = 0;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 이미 윈도우에 반영된 경기인지 확인
+     */
+    public boolean contains(Long matchId) {
+        return indexOf(matchId) >= 0;
+    }
+
+    /**
+     * 최근 경기 id 목록(최신순)으로 윈도우를 다시 구성
+     *
+     * 이미 반영된 경기는 기록된 비트마스크를 재사용하고, 처음 보는 경기만 maskCalculator로 계산한다.
+     * 윈도우 구성이 바뀌지 않았으면 아무것도 하지 않고 false를 반환한다.
+     */
+    public boolean sync(List<Long> recentMatchIds, ToIntFunction<Long> maskCalculator) {
+        List<Long> windowed = recentMatchIds.subList(0, Math.min(recentMatchIds.size(), CAPACITY));
+        if (windowed.equals(matchIdList())) {
+            return false;
+        }
+
+        byte[] nextSlots = new byte[CAPACITY];
+        ByteBuffer nextMatchIds = ByteBuffer.allocate(CAPACITY * Long.BYTES);
+        for (int i = 0; i < windowed.size(); i++) {
+            Long matchId = windowed.get(i);
+            int index = indexOf(matchId);
+            nextSlots[i] = index >= 0 ? slots[index] : (byte) maskCalculator.applyAsInt(matchId);
+            nextMatchIds.putLong(matchId);
+        }
+        // 변경 감지를 위해 배열을 새로 할당
+        this.slots = nextSlots;
+        this.matchIds = nextMatchIds.array();
+        this.size = windowed.size();
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /**
+     * 윈도우 내 경기 중 해당 업적을 달성한 경기 수
+     */
+    public int count(AchievementType type) {
+        int bit = maskOf(type);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if ((slots[i] & bit) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static int maskOf(AchievementType type) {
+        return 1 << type.ordinal();
+    }
+
+    private int indexOf(Long matchId) {
+        ByteBuffer buffer = ByteBuffer.wrap(matchIds);
+        for (int i = 0; i < size; i++) {
+            if (buffer.getLong(i * Long.BYTES) == matchId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private List<Long> matchIdList() {
+        ByteBuffer buffer = ByteBuffer.wrap(matchIds);
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(buffer.getLong(i * Long.BYTES));
+        }
+        return ids;
+    }
+
+    public Long getId() { return id; }
+    public RiotAccount getRiotAccount() { return riotAccount; }
+    public Integer getSize() { return size; }
+    public List<Long> getMatchIds() { return matchIdList(); }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -6,7 +6,12 @@ import io.hypersistence.utils.hibernate.id.Tsid;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "tft_match_achievements")
+@Table(name = "tft_match_achievements",
+        uniqueConstraints = {
+                // 같은 매치의 업적이 두 번 저장되어 뱃지 집계가 부풀려지지 않도록 함
+                @UniqueConstraint(name = "uk_tft_match_achievements_match_type_participant",
+                        columnNames = {"match_id", "type", "participant_id"})
+        })
 public class TftMatchAchievement {
     @Id
     @Tsid
@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(
-        name = "tft_league_entries"
+        name = "tft_league_entries",
+        uniqueConstraints = {
+                // 계정/큐타입별 현재 상태 한 행 (변화 기록은 tft_league_entry_snapshots)
+                @UniqueConstraint(name = "uk_tft_league_entries_account_queue", columnNames = {"account_id", "queue_type"})
+        }
 )
 public class TftLeagueEntry {
     @Id
@@ -125,6 +129,37 @@ public class TftLeagueEntry {
             new MiniSeries(response.miniSeries()) : null;
     }
 
+    /**
+     * 티어/랭크/LP를 하나의 점수로 환산 (LP 변화량 계산용)
+     * 디비전 하나를 100점으로 보고, 마스터 이상은 디비전 없이 LP가 누적되므로 마스터 시작 점수에 LP를 더함
+     */
+    public int getLadderPoints() {
+        return ladderPointsOf(tier, rank, leaguePoints);
+    }
+
+    public static int ladderPointsOf(Tier tier, Rank rank, int leaguePoints) {
+        int tierIndex = switch (tier) {
+            case IRON -> 0;
+            case BRONZE -> 1;
+            case SILVER -> 2;
+            case GOLD -> 3;
+            case PLATINUM -> 4;
+            case EMERALD -> 5;
+            case DIAMOND -> 6;
+            case MASTER, GRANDMASTER, CHALLENGER -> 7;
+        };
+        if (tierIndex == 7) {
+            return tierIndex * 400 + leaguePoints;
+        }
+        int divisionIndex = switch (rank) {
+            case IV -> 0;
+            case III -> 1;
+            case II -> 2;
+            case I -> 3;
+        };
+        return tierIndex * 400 + divisionIndex * 100 + leaguePoints;
+    }
+
     private void validatePuuid(RiotAccount account, TftLeagueEntryResponse response) {
         if (!account.getPuuid().equals(response.puuid())) {
             throw new IllegalArgumentException(
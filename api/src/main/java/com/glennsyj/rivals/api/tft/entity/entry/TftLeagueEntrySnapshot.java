@@ -0,0 +1,128 @@
+package com.glennsyj.rivals.api.tft.entity.entry;
+
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리그 엔트리 변화 기록 (LP 그래프용, append-only)
+ *
+ * tft_league_entries는 최신 상태로 덮어쓰므로, 갱신될 때마다 필요한 값만 이 테이블에 한 행씩 추가한다.
+ * 오래된 행은 다운샘플링으로 시간/일 단위 마지막 값만 남긴다. (resolution 참고)
+ * 행의 값은 바뀌지 않고 다운샘플링 시 resolution만 네이티브 UPDATE로 전환한다.
+ */
+@Entity
+@Immutable
+@Table(name = "tft_league_entry_snapshots",
+        indexes = {
+                @Index(name = "idx_league_entry_snapshots_account_queue_captured",
+                        columnList = "account_id, queue_type, captured_at")
+        })
+public class TftLeagueEntrySnapshot {
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "queue_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TftLeagueEntry.QueueType queueType;
+
+    @Enumerated(EnumType.STRING)
+    private TftLeagueEntry.Tier tier;
+
+    @Enumerated(EnumType.STRING)
+    private TftLeagueEntry.Rank rank;
+
+    @Column(name = "league_points")
+    private int leaguePoints;
+
+    private int wins;
+    private int losses;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Resolution resolution;
+
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+
+    protected TftLeagueEntrySnapshot() {}
+
+    public TftLeagueEntrySnapshot(TftLeagueEntry entry, LocalDateTime capturedAt) {
+        this.accountId = entry.getAccount().getId();
+        this.queueType = entry.getQueueType();
+        this.tier = entry.getTier();
+        this.rank = entry.getRank();
+        this.leaguePoints = entry.getLeaguePoints();
+        this.wins = entry.getWins();
+        this.losses = entry.getLosses();
+        this.resolution = Resolution.RAW;
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * 티어, 랭크, LP, 승/패가 엔트리와 모두 같은지 확인 (같으면 새로 기록하지 않음)
+     */
+    public boolean hasSameValues(TftLeagueEntry entry) {
+        return tier == entry.getTier()
+                && rank == entry.getRank()
+                && leaguePoints == entry.getLeaguePoints()
+                && wins == entry.getWins()
+                && losses == entry.getLosses();
+    }
+
+    /**
+     * RAW: 갱신될 때마다 기록된 값
+     * HOURLY: 시간 단위로 마지막 값만 남긴 행
+     * DAILY: 일 단위로 마지막 값만 남긴 행
+     */
+    public enum Resolution {
+        RAW, HOURLY, DAILY
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public TftLeagueEntry.QueueType getQueueType() {
+        return queueType;
+    }
+
+    public TftLeagueEntry.Tier getTier() {
+        return tier;
+    }
+
+    public TftLeagueEntry.Rank getRank() {
+        return rank;
+    }
+
+    public int getLeaguePoints() {
+        return leaguePoints;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public Resolution getResolution() {
+        return resolution;
+    }
+
+    public LocalDateTime getCapturedAt() {
+        return capturedAt;
+    }
+}
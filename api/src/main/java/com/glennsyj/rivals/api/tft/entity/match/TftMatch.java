@@ -112,6 +112,7 @@ public class TftMatch {
     public Integer getTftSetNumber() { return tftSetNumber; }
     public String getEndOfGameResult() { return endOfGameResult; }
     public List<TftMatchParticipant> getParticipants() { return participants; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
 
     public TftMatchParticipant getParticipantByPuuid(String puuid) {
         for (TftMatchParticipant participant : participants) {
@@ -0,0 +1,70 @@
+package com.glennsyj.rivals.api.tft.entity.match;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계정별 매치 동기화 커서
+ *
+ * lastGameCreation 이전(포함)의 매치는 모두 저장되었음을 의미하며,
+ * 다음 갱신에서는 이 시점 이후의 매치 ID만 Riot API에 요청한다.
+ */
+@Entity
+@Table(name = "tft_match_sync_cursors",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_tft_match_sync_cursors_account", columnNames = "riot_account_id")
+        })
+public class TftMatchSyncCursor {
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "riot_account_id", nullable = false)
+    private RiotAccount riotAccount;
+
+    @Column(name = "last_game_creation", nullable = false)
+    private Long lastGameCreation;  // epoch millis
+
+    @Column(name = "last_match_id", nullable = false)
+    private String lastMatchId;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+
+    protected TftMatchSyncCursor() {}
+
+    public TftMatchSyncCursor(RiotAccount riotAccount, Long lastGameCreation, String lastMatchId) {
+        this.riotAccount = riotAccount;
+        this.lastGameCreation = lastGameCreation;
+        this.lastMatchId = lastMatchId;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 커서는 앞으로만 이동
+     */
+    public void advance(Long gameCreation, String matchId) {
+        if (gameCreation < this.lastGameCreation) {
+            return;
+        }
+        this.lastGameCreation = gameCreation;
+        this.lastMatchId = matchId;
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    // Riot API의 startTime은 초 단위이므로 내림 처리 (같은 초의 매치는 lastMatchId와 DB 확인으로 제외)
+    public long getStartTimeSeconds() {
+        return lastGameCreation / 1000;
+    }
+
+    public Long getId() { return id; }
+    public RiotAccount getRiotAccount() { return riotAccount; }
+    public Long getLastGameCreation() { return lastGameCreation; }
+    public String getLastMatchId() { return lastMatchId; }
+    public LocalDateTime getSyncedAt() { return syncedAt; }
+}
@@ -0,0 +1,89 @@
+package com.glennsyj.rivals.api.tft.entity.match;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * puuid 기준 전적 조회용 비정규화 인덱스 (참가자 1명당 1행, insert-only)
+ *
+ * tft_matches와 tft_match_participants를 조인/정렬하지 않고
+ * (puuid, game_creation, match_id) 인덱스 범위 스캔만으로 최근 매치를 찾기 위해 이용한다.
+ * (match_id, puuid) 인덱스로 매치에 특정 계정들이 함께 참가했는지도 바로 확인할 수 있다.
+ */
+@Entity
+@Immutable
+@Table(name = "tft_player_match_index",
+        indexes = {
+                @Index(name = "idx_player_match_index_puuid_game_creation", columnList = "puuid, game_creation, match_id"),
+                // 역방향(match_id -> puuid) 조회용: 라이벌 간 공통 매치 탐색
+                @Index(name = "idx_player_match_index_match_puuid", columnList = "match_id, puuid")
+        })
+public class TftPlayerMatchIndex implements Persistable<Long> {
+
+    // TftMatchParticipant의 id를 그대로 이용
+    @Id
+    @Column(name = "participant_id")
+    private Long participantId;
+
+    @Column(nullable = false)
+    private String puuid;
+
+    @Column(name = "game_creation", nullable = false)
+    private Long gameCreation;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(nullable = false)
+    private Integer placement;
+
+    @Column(nullable = false)
+    private Integer level;
+
+    // id를 직접 할당하므로 save 시 merge(SELECT) 대신 바로 INSERT 하도록 표시
+    @Transient
+    private boolean isNew = true;
+
+    protected TftPlayerMatchIndex() {}
+
+    public TftPlayerMatchIndex(Long participantId, String puuid, Long gameCreation,
+                               Long matchId, Integer placement, Integer level) {
+        this.participantId = participantId;
+        this.puuid = puuid;
+        this.gameCreation = gameCreation;
+        this.matchId = matchId;
+        this.placement = placement;
+        this.level = level;
+    }
+
+    public static TftPlayerMatchIndex from(TftMatchParticipant participant) {
+        TftMatch match = participant.getMatch();
+        return new TftPlayerMatchIndex(
+                participant.getId(),
+                participant.getPuuid(),
+                match.getGameCreation(),
+                match.getId(),
+                participant.getPlacement(),
+                participant.getLevel()
+        );
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() { return participantId; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public String getPuuid() { return puuid; }
+    public Long getGameCreation() { return gameCreation; }
+    public Long getMatchId() { return matchId; }
+    public Integer getPlacement() { return placement; }
+    public Integer getLevel() { return level; }
+}
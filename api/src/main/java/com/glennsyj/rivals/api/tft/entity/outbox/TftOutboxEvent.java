@@ -0,0 +1,88 @@
+package com.glennsyj.rivals.api.tft.entity.outbox;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import io.hypersistence.utils.hibernate.id.Tsid;
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 매치 저장 후 처리(업적 계산, 캐시 정리 등)를 위한 트랜잭셔널 아웃박스 이벤트
+ *
+ * 매치와 같은 트랜잭션에서 기록되므로 매치가 커밋되면 이벤트도 반드시 남으며,
+ * TftOutboxProcessor가 처리한 뒤 processedAt을 기록한다.
+ */
+@Entity
+@Table(name = "tft_outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_pending", columnList = "processed_at, available_at")
+        })
+public class TftOutboxEvent {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TftOutboxEventType type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected TftOutboxEvent() {}
+
+    public TftOutboxEvent(TftOutboxEventType type, Long aggregateId) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    public static TftOutboxEvent matchIngested(TftMatch match) {
+        return new TftOutboxEvent(TftOutboxEventType.MATCH_INGESTED, match.getId());
+    }
+
+    public void markProcessed() {
+        this.attempts++;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 처리 실패 시 backoff 이후에 다시 시도하도록 미룸
+     */
+    public void markFailed(String error, Duration backoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        this.availableAt = LocalDateTime.now().plus(backoff.multipliedBy(attempts));
+    }
+
+    public Long getId() { return id; }
+    public TftOutboxEventType getType() { return type; }
+    public Long getAggregateId() { return aggregateId; }
+    public Integer getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+    public LocalDateTime getAvailableAt() { return availableAt; }
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
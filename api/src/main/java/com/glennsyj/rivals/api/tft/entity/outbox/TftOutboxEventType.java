@@ -0,0 +1,6 @@
+package com.glennsyj.rivals.api.tft.entity.outbox;
+
+public enum TftOutboxEventType {
+    // aggregateId: tft_matches.id
+    MATCH_INGESTED
+}
@@ -1,101 +1,512 @@
 package com.glennsyj.rivals.api.tft.facade;
 
+import com.glennsyj.rivals.api.common.client.exception.RiotRateLimitException;
+import com.glennsyj.rivals.api.common.concurrent.SingleFlight;
+import com.glennsyj.rivals.api.common.config.RenewExecutorConfig;
+import com.glennsyj.rivals.api.common.lock.AdvisoryLockTemplate;
+import com.glennsyj.rivals.api.common.lock.exception.LockAcquisitionException;
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.model.RiotAccountDto;
+import com.glennsyj.rivals.api.riot.model.RiotAccountRef;
 import com.glennsyj.rivals.api.riot.service.RiotAccountManager;
 import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
 import com.glennsyj.rivals.api.tft.facade.exception.TftRenewException;
+import com.glennsyj.rivals.api.tft.facade.exception.TftRenewRejectedException;
 import com.glennsyj.rivals.api.tft.model.badge.TftBadgeDto;
+import com.glennsyj.rivals.api.tft.model.entry.TftLeagueEntryResponse;
+import com.glennsyj.rivals.api.tft.model.entry.TftLeagueHistoryPointDto;
 import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
 import com.glennsyj.rivals.api.tft.model.match.MatchSyncResult;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchCursor;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchFetchResult;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchPageDto;
 import com.glennsyj.rivals.api.tft.model.match.TftRecentMatchDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewRequestDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewResponseDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewResultDto;
 import com.glennsyj.rivals.api.tft.model.renew.TftRenewDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftRenewEvent;
 import com.glennsyj.rivals.api.tft.service.TftBadgeService;
+import com.glennsyj.rivals.api.tft.service.TftLeagueEntryHistoryManager;
 import com.glennsyj.rivals.api.tft.service.TftLeagueEntryManager;
 import com.glennsyj.rivals.api.tft.service.TftMatchManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 @Component
 public class TftFacade {
     private static final Logger logger = LoggerFactory.getLogger(TftFacade.class);
     
     private final TftLeagueEntryManager tftLeagueEntryManager;
+    private final TftLeagueEntryHistoryManager tftLeagueEntryHistoryManager;
     private final TftMatchManager tftMatchManager;
     private final TftBadgeService tftBadgeService;
     private final RiotAccountManager riotAccountManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AdvisoryLockTemplate advisoryLockTemplate;
+    private final Timer fetchTimer;
+    private final Timer writeTimer;
+
+    // puuid 단위로 진행 중인 갱신 요청을 공유
+    private final SingleFlight<String, TftRenewDto> renewSingleFlight = new SingleFlight<>();
+    private final boolean distributedLockEnabled;
+    private final Duration distributedLockTimeout;
+    private final Executor renewExecutor;
+    private final Duration rejectedRetryAfter;
+    private final int bulkMaxSize;
 
     public TftFacade(
             TftLeagueEntryManager tftLeagueEntryManager,
+            TftLeagueEntryHistoryManager tftLeagueEntryHistoryManager,
             TftMatchManager tftMatchManager,
             TftBadgeService tftBadgeService,
-            RiotAccountManager riotAccountManager
+            RiotAccountManager riotAccountManager,
+            TransactionTemplate transactionTemplate,
+            AdvisoryLockTemplate advisoryLockTemplate,
+            MeterRegistry meterRegistry,
+            @Qualifier(RenewExecutorConfig.RENEW_EXECUTOR) Executor renewExecutor,
+            @Value("${rivals.renew.distributed-lock.enabled:false}") boolean distributedLockEnabled,
+            @Value("${rivals.renew.distributed-lock.timeout-seconds:10}") long distributedLockTimeoutSeconds,
+            @Value("${rivals.renew.executor.retry-after-seconds:5}") long rejectedRetryAfterSeconds,
+            @Value("${rivals.renew.bulk.max-size:8}") int bulkMaxSize
     ) {
         this.tftLeagueEntryManager = tftLeagueEntryManager;
+        this.tftLeagueEntryHistoryManager = tftLeagueEntryHistoryManager;
         this.tftMatchManager = tftMatchManager;
         this.tftBadgeService = tftBadgeService;
         this.riotAccountManager = riotAccountManager;
+        this.transactionTemplate = transactionTemplate;
+        this.advisoryLockTemplate = advisoryLockTemplate;
+        // 저장 단계의 시간이 곧 갱신 한 번이 커넥션을 점유하는 시간 (hikaricp.connections.usage와 함께 확인)
+        this.fetchTimer = Timer.builder("rivals.renew.phase")
+                .tag("phase", "fetch")
+                .description("Riot API fetch phase of a renew, without a transaction")
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("rivals.renew.phase")
+                .tag("phase", "write")
+                .description("Write transaction phase of a renew")
+                .register(meterRegistry);
+        this.distributedLockEnabled = distributedLockEnabled;
+        this.distributedLockTimeout = Duration.ofSeconds(distributedLockTimeoutSeconds);
+        this.renewExecutor = renewExecutor;
+        this.rejectedRetryAfter = Duration.ofSeconds(rejectedRetryAfterSeconds);
+        this.bulkMaxSize = bulkMaxSize;
     }
 
-    @Transactional
+    /**
+     * 같은 소환사에 대한 동시 갱신 요청은 하나로 합쳐 처리하고, 나머지 요청은 그 결과를 공유합니다.
+     * 트랜잭션은 실제 갱신을 수행하는 요청에서만 열어, 대기 중인 요청이 커넥션을 점유하지 않도록 합니다.
+     */
     public TftRenewDto renewAllTftData(String gameName, String tagLine) {
         try {
-            RiotAccount account = riotAccountManager.findOrRegisterAccount(gameName, tagLine);
+            RiotAccountRef account = riotAccountManager.findOrRegisterAccountRef(gameName, tagLine);
+            return renewCoalesced(account.id(), account.puuid());
+        } catch (TftRenewRejectedException e) {
+            throw e;
+        } catch (Exception e) {
+            String errorMessage = String.format("Failed to renew TFT data for %s#%s", gameName, tagLine);
+            RiotRateLimitException rateLimited = findRateLimitCause(e);
+            if (rateLimited != null) {
+                throw new TftRenewRejectedException(errorMessage, rateLimited.getRetryAfter(), e);
+            }
+            logger.error(errorMessage, e);
+            throw new TftRenewException(errorMessage, e);
+        }
+    }
+
+    /**
+     * 이미 등록된 계정 갱신 (백그라운드 갱신 스케줄러에서 이용)
+     */
+    public TftRenewDto renewAllTftData(RiotAccount account) {
+        try {
+            return renewCoalesced(account.getId(), account.getPuuid());
+        } catch (TftRenewRejectedException e) {
+            throw e;
+        } catch (Exception e) {
+            String errorMessage = String.format("Failed to renew TFT data for %s", account.getFullGameName());
+            RiotRateLimitException rateLimited = findRateLimitCause(e);
+            if (rateLimited != null) {
+                throw new TftRenewRejectedException(errorMessage, rateLimited.getRetryAfter(), e);
+            }
+            throw new TftRenewException(errorMessage, e);
+        }
+    }
+
+    // CompletableFuture 등으로 감싸진 예외 중 Riot API 호출 제한으로 인한 실패를 찾음
+    private RiotRateLimitException findRateLimitCause(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RiotRateLimitException rateLimited) {
+                return rateLimited;
+            }
+        }
+        return null;
+    }
+
+    private TftRenewDto renewCoalesced(Long accountId, String puuid) {
+        return renewSingleFlight.execute(puuid, () -> renewInPhases(accountId));
+    }
+
+    /**
+     * 여러 인스턴스에서 같은 계정의 데이터를 동시에 쓰지 않도록 분산 락 안에서 수행 (설정된 경우)
+     * 락은 커넥션을 붙잡고 있으므로 Riot API 호출이 없는 저장 구간만 감싸고,
+     * 다른 인스턴스가 락을 오래 쥐고 있으면 기다리지 않고 TftRenewRejectedException(503)으로 거절
+     */
+    private <T> T withRenewLock(Long accountId, Supplier<T> work) {
+        if (!distributedLockEnabled) {
+            return work.get();
+        }
+        try {
+            return advisoryLockTemplate.executeWithLock("tft-renew:" + accountId, distributedLockTimeout, work);
+        } catch (LockAcquisitionException e) {
+            throw new TftRenewRejectedException("다른 서버에서 같은 소환사를 갱신 중입니다", rejectedRetryAfter, e);
+        }
+    }
+
+    /**
+     * 1. 조회 단계 (트랜잭션 없음): 리그 엔트리와 새 매치를 Riot API에서 병렬로 받아옴
+     * 2. 저장 단계 (짧은 트랜잭션, 분산 락): 받아온 데이터 저장, 뱃지 갱신, 최근 매치 조회
+     *
+     * 외부 호출 동안 커넥션을 점유하지 않으므로 커넥션 풀 크기가 갱신 동시성을 제한하지 않습니다.
+     */
+    private TftRenewDto renewInPhases(Long accountId) {
+        RiotAccount account = riotAccountManager.findByAccountId(accountId)
+                .orElseThrow(() -> new IllegalStateException("계정을 찾을 수 없습니다: " + accountId));
+
+        Timer.Sample fetchSample = Timer.start();
+        CompletableFuture<List<TftLeagueEntryResponse>> leagueEntriesFuture;
+        CompletableFuture<TftMatchFetchResult> matchesFuture;
+        try {
+            // 전용 스레드 풀과 대기열이 모두 가득 차면 기다리지 않고 바로 거절
+            leagueEntriesFuture = CompletableFuture
+                    .supplyAsync(() -> tftLeagueEntryManager.fetchLeagueEntries(account.getPuuid()), renewExecutor);
+            matchesFuture = CompletableFuture
+                    .supplyAsync(() -> tftMatchManager.fetchNewMatches(account.getId(), account.getPuuid()), renewExecutor);
+        } catch (TaskRejectedException e) {
+            throw new TftRenewRejectedException("갱신 요청이 많아 처리할 수 없습니다", rejectedRetryAfter, e);
+        }
 
-            CompletableFuture<List<TftLeagueEntry>> leagueEntriesFuture = CompletableFuture
-                    .supplyAsync(() -> tftLeagueEntryManager.renewEntry(account.getId(), account.getPuuid()));
+        // 모든 조회 작업 완료 대기
+        CompletableFuture.allOf(leagueEntriesFuture, matchesFuture).join();
+        fetchSample.stop(fetchTimer);
 
-            // DTO 변환을 비동기 작업 내부로 이동
-            CompletableFuture<List<TftRecentMatchDto>> matchesFuture = CompletableFuture
-                    .supplyAsync(() -> {
-                        List<TftMatch> matches = tftMatchManager.renewRecentTftMatches(account.getPuuid());
-                        return matches.stream()
-                                .map(match -> TftRecentMatchDto.from(account.getPuuid(), match))
-                                .toList();
-                    });
+        return writeRenewed(accountId, leagueEntriesFuture.join(), matchesFuture.join());
+    }
 
-            CompletableFuture<List<TftBadgeDto>> badgesFuture = matchesFuture
-                    .thenApply(matches -> tftBadgeService.renewAccountBadges(account));
+    /**
+     * 저장 단계: 조회 단계에서 받아온 데이터 저장, 뱃지 갱신, 최근 매치 조회를 하나의 짧은 트랜잭션으로 처리
+     */
+    private TftRenewDto writeRenewed(Long accountId, List<TftLeagueEntryResponse> leagueEntryResponses,
+                                     TftMatchFetchResult fetchedMatches) {
+        return withRenewLock(accountId, () -> writeTimer.record(() -> transactionTemplate.execute(status -> {
+            RiotAccount managedAccount = riotAccountManager.findByAccountId(accountId)
+                    .orElseThrow(() -> new IllegalStateException("계정을 찾을 수 없습니다: " + accountId));
 
-            account.renewUpdatedAt();
+            List<TftLeagueEntry> leagueEntries = tftLeagueEntryManager.saveRenewedEntries(
+                    accountId, leagueEntryResponses);
 
-            // 모든 비동기 작업 완료 대기
-            CompletableFuture.allOf(
-                    leagueEntriesFuture,
-                    matchesFuture,
-                    badgesFuture
-            ).join();
+            tftMatchManager.saveFetchedMatches(accountId, fetchedMatches);
+            List<TftMatch> matches = tftMatchManager.findStoredRecentMatches(managedAccount.getPuuid());
+
+            // 뱃지 윈도우에 아직 반영되지 않은 매치만 반영
+            List<TftBadgeDto> badges = tftBadgeService.renewAccountBadges(managedAccount, matches);
+
+            managedAccount.renewUpdatedAt();
 
             // 응답 데이터 구성
             return new TftRenewDto(
-                    leagueEntriesFuture.join().stream().map(TftStatusDto::from).toList(),
-                    matchesFuture.join(),
-                    badgesFuture.join(),
-                    account.getUpdatedAt());
+                    leagueEntries.stream().map(TftStatusDto::from).toList(),
+                    matches.stream()
+                            .map(match -> TftRecentMatchDto.from(managedAccount.getPuuid(), match))
+                            .toList(),
+                    badges,
+                    managedAccount.getUpdatedAt());
+        })));
+    }
 
-        } catch (Exception e) {
-            String errorMessage = String.format("Failed to renew TFT data for %s#%s", gameName, tagLine);
-            logger.error(errorMessage, e);
-            throw new TftRenewException(errorMessage, e);
+    /**
+     * 여러 소환사 일괄 갱신 (라이벌 페이지 등)
+     * 1. 계정별로 계정 확인, 리그 엔트리, 후보 매치 ID를 전용 스레드 풀에서 병렬 조회
+     * 2. 모든 계정의 새 매치 ID를 합쳐 서로 다른 매치만 한 번씩 상세 조회
+     * 3. 계정별로 짧은 트랜잭션에서 저장하며, 한 계정의 실패는 해당 계정의 결과에만 반영
+     */
+    public TftBulkRenewResponseDto renewBulk(List<TftBulkRenewRequestDto.RiotId> riotIds) {
+        List<TftBulkRenewRequestDto.RiotId> distinctIds = riotIds.stream().distinct().toList();
+        if (distinctIds.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("한 번에 갱신할 수 있는 소환사는 최대 " + bulkMaxSize + "명입니다");
+        }
+
+        Map<TftBulkRenewRequestDto.RiotId, CompletableFuture<BulkFetch>> futures = new LinkedHashMap<>();
+        try {
+            for (TftBulkRenewRequestDto.RiotId riotId : distinctIds) {
+                futures.put(riotId, CompletableFuture.supplyAsync(() -> fetchForBulk(riotId), renewExecutor));
+            }
+        } catch (TaskRejectedException e) {
+            throw new TftRenewRejectedException("갱신 요청이 많아 처리할 수 없습니다", rejectedRetryAfter, e);
         }
+
+        Map<TftBulkRenewRequestDto.RiotId, BulkFetch> fetched = new LinkedHashMap<>();
+        Map<TftBulkRenewRequestDto.RiotId, TftBulkRenewResultDto> failures = new HashMap<>();
+        futures.forEach((riotId, future) -> {
+            try {
+                fetched.put(riotId, future.join());
+            } catch (CompletionException e) {
+                failures.put(riotId, bulkFailure(riotId, e.getCause()));
+            }
+        });
+
+        Map<Long, List<String>> candidateMatchIdsByAccount = new LinkedHashMap<>();
+        fetched.values().forEach(fetch ->
+                candidateMatchIdsByAccount.putIfAbsent(fetch.account().id(), fetch.candidateMatchIds()));
+        Map<Long, TftMatchFetchResult> fetchedMatches = tftMatchManager.fetchNewMatchesForAccounts(candidateMatchIdsByAccount);
+
+        List<TftBulkRenewResultDto> results = distinctIds.stream()
+                .map(riotId -> {
+                    if (failures.containsKey(riotId)) {
+                        return failures.get(riotId);
+                    }
+                    BulkFetch fetch = fetched.get(riotId);
+                    try {
+                        return TftBulkRenewResultDto.success(riotId, writeRenewed(fetch.account().id(),
+                                fetch.leagueEntries(), fetchedMatches.get(fetch.account().id())));
+                    } catch (Exception e) {
+                        return bulkFailure(riotId, e);
+                    }
+                })
+                .toList();
+
+        int fetchedMatchCount = (int) fetchedMatches.values().stream()
+                .flatMap(result -> result.responses().stream())
+                .map(response -> response.metadata().match_id())
+                .distinct()
+                .count();
+        return new TftBulkRenewResponseDto(results, fetchedMatchCount);
+    }
+
+    private BulkFetch fetchForBulk(TftBulkRenewRequestDto.RiotId riotId) {
+        RiotAccountRef account = riotAccountManager.findOrRegisterAccountRef(riotId.gameName(), riotId.tagLine());
+        return new BulkFetch(
+                account,
+                tftLeagueEntryManager.fetchLeagueEntries(account.puuid()),
+                tftMatchManager.findCandidateMatchIds(account.id(), account.puuid()));
+    }
+
+    private TftBulkRenewResultDto bulkFailure(TftBulkRenewRequestDto.RiotId riotId, Throwable e) {
+        logger.warn("Failed to renew TFT data for {}#{} in bulk: {}", riotId.gameName(), riotId.tagLine(), e.getMessage());
+        return TftBulkRenewResultDto.failed(riotId, e.getMessage());
+    }
+
+    private record BulkFetch(
+            RiotAccountRef account,
+            List<TftLeagueEntryResponse> leagueEntries,
+            List<String> candidateMatchIds
+    ) {
+    }
+
+    /**
+     * 반응형 갱신: 새 매치를 저장되는 대로 하나씩 내보내고, 스트림이 끝나면 리그 엔트리와 뱃지를 갱신합니다.
+     * 응답 전체를 모아두지 않으므로 백필할 매치가 많아도 메모리와 스레드 사용량이 일정합니다.
+     * 같은 소환사의 갱신이 이미 진행 중이면 새로 갱신하지 않고, 그 갱신이 끝난 뒤의 최근 매치를 내보냅니다.
+     */
+    public Flux<TftRecentMatchDto> streamRenewedMatches(String gameName, String tagLine) {
+        return streamCoalesced(gameName, tagLine,
+                (account, sink, cancelled) -> {
+                    tftMatchManager.streamNewMatches(account.getId(), account.getPuuid())
+                            .map(match -> TftRecentMatchDto.from(account.getPuuid(), match))
+                            .takeUntilOther(cancelled)
+                            .doOnNext(sink::next)
+                            .blockLast();
+                    return renewBadges(account.getId(), renewLeagueEntries(account));
+                },
+                (account, renewed, sink) -> renewed.matches().forEach(sink::next));
+    }
+
+    /**
+     * 갱신 진행 상황 스트리밍: 각 단계가 끝나는 대로 이벤트를 내보냅니다.
+     * 계정 확인 → 리그 엔트리 → 새 매치(저장될 때마다) → 뱃지 순서로 전송되어
+     * 첫 응답까지의 시간이 전체 갱신 시간이 아닌 첫 Riot API 호출 시간으로 줄어듭니다.
+     * 일반 갱신과 같은 소환사별 single-flight와 갱신 스레드 풀을 거칩니다.
+     */
+    public Flux<TftRenewEvent> streamRenewProgress(String gameName, String tagLine) {
+        return streamCoalesced(gameName, tagLine,
+                (account, sink, cancelled) -> {
+                    sink.next(TftRenewEvent.accountResolved(RiotAccountDto.from(account)));
+                    List<TftStatusDto> statuses = renewLeagueEntries(account);
+                    sink.next(TftRenewEvent.leagueEntries(statuses));
+                    tftMatchManager.streamNewMatches(account.getId(), account.getPuuid())
+                            .map(match -> TftRenewEvent.matchIngested(TftRecentMatchDto.from(account.getPuuid(), match)))
+                            .takeUntilOther(cancelled)
+                            .doOnNext(sink::next)
+                            .blockLast();
+                    TftRenewDto renewed = renewBadges(account.getId(), statuses);
+                    sink.next(TftRenewEvent.badgesUpdated(renewed.badges()));
+                    return renewed;
+                },
+                // 이미 진행 중이던 갱신의 결과를 공유받은 경우 새로 저장된 매치는 구분할 수 없으므로 매치 이벤트는 생략
+                (account, renewed, sink) -> {
+                    sink.next(TftRenewEvent.accountResolved(RiotAccountDto.from(account)));
+                    sink.next(TftRenewEvent.leagueEntries(renewed.statuses()));
+                    sink.next(TftRenewEvent.badgesUpdated(renewed.badges()));
+                });
+    }
+
+    /**
+     * 스트리밍 갱신도 일반 갱신과 같은 소환사별 single-flight와 전용 스레드 풀을 거치도록 감쌉니다.
+     * 분산 락은 리그 엔트리/뱃지 저장 구간에서만 잡습니다. (매치 배치 저장은 INSERT IGNORE로 인스턴스 간에도 멱등)
+     * 갱신은 renewExecutor 스레드에서 수행하며, 스레드 풀과 대기열이 가득 차면 TftRenewRejectedException으로 바로 끝납니다.
+     * 같은 소환사의 갱신이 이미 진행 중이면 renew 대신 그 결과를 joined로 내보냅니다.
+     *
+     * 갱신 스레드가 sink에 밀어 넣는 구조라 구독자의 요청량(demand)은 매치 조회 속도에 반영되지 않고,
+     * 느린 구독자 몫은 sink 버퍼에 쌓입니다. 대신 구독이 취소되면 cancelled가 완료되어 남은 매치 조회를 중단합니다.
+     * 이미 저장된 배치는 유지되고, 커서는 이동하지 않으므로 나머지 매치는 다음 갱신에서 받아옵니다.
+     */
+    private <T> Flux<T> streamCoalesced(String gameName, String tagLine,
+                                        StreamRenewer<T> renew,
+                                        StreamJoiner<T> joined) {
+        return Flux.create(sink -> {
+            Sinks.Empty<Void> cancelled = Sinks.empty();
+            sink.onCancel(cancelled::tryEmitEmpty);
+            try {
+                renewExecutor.execute(() -> {
+                    try {
+                        RiotAccount account = riotAccountManager.findOrRegisterAccount(gameName, tagLine);
+                        AtomicBoolean leader = new AtomicBoolean(false);
+                        TftRenewDto renewed = renewSingleFlight.execute(account.getPuuid(), () -> {
+                            leader.set(true);
+                            return renew.renew(account, sink, cancelled.asMono());
+                        });
+                        if (!leader.get()) {
+                            joined.emit(account, renewed, sink);
+                        }
+                        sink.complete();
+                    } catch (Throwable e) {
+                        RiotRateLimitException rateLimited = findRateLimitCause(e);
+                        sink.error(rateLimited != null
+                                ? new TftRenewRejectedException("Riot API 호출 제한으로 갱신할 수 없습니다",
+                                        rateLimited.getRetryAfter(), e)
+                                : e);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                sink.error(new TftRenewRejectedException("갱신 요청이 많아 처리할 수 없습니다", rejectedRetryAfter, e));
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface StreamRenewer<T> {
+        TftRenewDto renew(RiotAccount account, FluxSink<T> sink, Mono<Void> cancelled);
+    }
+
+    @FunctionalInterface
+    private interface StreamJoiner<T> {
+        void emit(RiotAccount account, TftRenewDto renewed, FluxSink<T> sink);
+    }
+
+    // 리그 엔트리는 트랜잭션 밖에서 받아오고 저장만 짧은 트랜잭션으로 처리
+    private List<TftStatusDto> renewLeagueEntries(RiotAccount account) {
+        List<TftLeagueEntryResponse> responses = tftLeagueEntryManager.fetchLeagueEntries(account.getPuuid());
+        return withRenewLock(account.getId(), () -> transactionTemplate.execute(status -> tftLeagueEntryManager
+                .saveRenewedEntries(account.getId(), responses).stream()
+                .map(TftStatusDto::from)
+                .toList()));
+    }
+
+    // 저장된 최근 매치 기준으로 뱃지를 갱신하고 갱신 시각을 기록 (같은 소환사를 기다리던 요청에 공유할 결과를 구성)
+    private TftRenewDto renewBadges(Long accountId, List<TftStatusDto> statuses) {
+        return withRenewLock(accountId, () -> transactionTemplate.execute(status -> {
+            RiotAccount managedAccount = riotAccountManager.findByAccountId(accountId)
+                    .orElseThrow(() -> new IllegalStateException("계정을 찾을 수 없습니다: " + accountId));
+
+            List<TftMatch> matches = tftMatchManager.findStoredRecentMatches(managedAccount.getPuuid());
+            List<TftBadgeDto> badges = tftBadgeService.renewAccountBadges(managedAccount, matches);
+            managedAccount.renewUpdatedAt();
+            return new TftRenewDto(
+                    statuses,
+                    matches.stream()
+                            .map(match -> TftRecentMatchDto.from(managedAccount.getPuuid(), match))
+                            .toList(),
+                    badges,
+                    managedAccount.getUpdatedAt());
+        }));
+    }
+
+    /**
+     * Riot API 호출 없이 DB에 저장된 최근 매치만 DTO로 변환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<TftRecentMatchDto> findStoredMatches(RiotAccount account) {
+        return tftMatchManager.findStoredRecentMatches(account.getPuuid()).stream()
+            .map(match -> TftRecentMatchDto.from(account.getPuuid(), match))
+            .toList();
+    }
+
+    /**
+     * 저장된 전적을 keyset 커서 기준으로 limit개씩 조회합니다. (Riot API 호출 없음)
+     */
+    @Transactional(readOnly = true)
+    public TftMatchPageDto findMatchPage(String gameName, String tagLine, TftMatchCursor before, int limit) {
+        RiotAccountRef account = riotAccountManager.findRefByGameNameAndTagLine(gameName, tagLine)
+            .orElseThrow(() -> new IllegalStateException("계정을 찾을 수 없습니다: " + gameName + "#" + tagLine));
+
+        // 다음 페이지 존재 여부를 확인하기 위해 하나 더 조회
+        List<TftMatch> matches = tftMatchManager.findMatchPage(account.puuid(), before, limit + 1);
+        boolean hasNext = matches.size() > limit;
+        List<TftMatch> page = hasNext ? matches.subList(0, limit) : matches;
+
+        String nextCursor = hasNext ? TftMatchCursor.from(page.get(page.size() - 1)).encode() : null;
+        return new TftMatchPageDto(
+            page.stream()
+                .map(match -> TftRecentMatchDto.from(account.puuid(), match))
+                .toList(),
+            nextCursor
+        );
+    }
+
+    /**
+     * 최근 days일 동안의 LP 변화 기록을 조회합니다. (Riot API 호출 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<TftLeagueHistoryPointDto> findLeagueHistory(String gameName, String tagLine,
+                                                            TftLeagueEntry.QueueType queueType, int days) {
+        RiotAccountRef account = riotAccountManager.findRefByGameNameAndTagLine(gameName, tagLine)
+            .orElseThrow(() -> new IllegalStateException("계정을 찾을 수 없습니다: " + gameName + "#" + tagLine));
+
+        return tftLeagueEntryHistoryManager
+            .findHistory(account.id(), queueType, LocalDateTime.now().minusDays(days)).stream()
+            .map(TftLeagueHistoryPointDto::from)
+            .toList();
     }
 
     /**
      * 매치 데이터를 조회하고, 필요한 경우 업적/뱃지를 동기적으로 처리합니다.
+     * Riot API 호출 동안 커넥션을 점유하지 않도록 전체를 하나의 트랜잭션으로 묶지 않습니다.
      */
-    @Transactional
-    public List<TftRecentMatchDto> findAndProcessMatches(String gameName, String tagLine) {
-        RiotAccount account = riotAccountManager.findOrRegisterAccount(gameName, tagLine);
-        
+    public List<TftRecentMatchDto> findAndProcessMatches(RiotAccount account) {
         List<TftMatch> matches;
         // updatedAt이 null인 경우에만 매치 데이터 조회 및 처리 진행
         if (account.getUpdatedAt() == null) {
@@ -105,18 +516,15 @@ public class TftFacade {
                 account.getPuuid()
             );
 
-            // 2. 새로운 매치가 있는 경우 동기적으로 배지 처리
+            // 2. 새로운 매치가 있는 경우 동기적으로 배지 처리 (업적은 아웃박스 워커가 커밋 후 기록)
             if (syncResult.hasNewMatches()) {
-                for (TftMatch match : syncResult.newMatches()) {
-                    tftBadgeService.processMatchAchievements(match);
-                }
-                tftBadgeService.renewAccountBadges(account);
+                tftBadgeService.renewAccountBadges(account, syncResult.allMatches());
             }
 
             matches = syncResult.allMatches();
         } else {
-            // updatedAt이 null이 아닌 경우 DB에서 최근 20개 매치 조회
-            matches = tftMatchManager.findOrCreateRecentTftMatches(account.getId(), account.getPuuid()).allMatches();
+            // updatedAt이 null이 아닌 경우 Riot API 호출 없이 DB에서 최근 20개 매치 조회
+            matches = tftMatchManager.findStoredRecentMatches(account.getPuuid());
         }
         
         return matches.stream()
@@ -0,0 +1,49 @@
+package com.glennsyj.rivals.api.tft.facade;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오래된 데이터를 응답한 뒤 백그라운드에서 갱신 (stale-while-revalidate)
+ *
+ * 같은 계정의 재검증이 이미 대기/진행 중이면 새로 등록하지 않아 비동기 큐를 점유하지 않는다.
+ */
+@Component
+public class TftRevalidator {
+    private static final Logger logger = LoggerFactory.getLogger(TftRevalidator.class);
+
+    private final TftFacade tftFacade;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public TftRevalidator(TftFacade tftFacade) {
+        this.tftFacade = tftFacade;
+    }
+
+    /**
+     * 이미 재검증 중인 계정이면 false
+     */
+    public boolean tryMarkPending(Long accountId) {
+        return pending.add(accountId);
+    }
+
+    public void release(Long accountId) {
+        pending.remove(accountId);
+    }
+
+    @Async
+    public void revalidate(RiotAccount account) {
+        try {
+            tftFacade.renewAllTftData(account);
+        } catch (Exception e) {
+            logger.warn("Revalidation failed for {}: {}", account.getFullGameName(), e.getMessage());
+        } finally {
+            release(account.getId());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.glennsyj.rivals.api.tft.facade;
+
+import com.glennsyj.rivals.api.common.web.DataSnapshot;
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.service.RiotAccountManager;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
+import com.glennsyj.rivals.api.tft.model.match.TftRecentMatchDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftRenewDto;
+import com.glennsyj.rivals.api.tft.scheduler.RenewPriorityQueue;
+import com.glennsyj.rivals.api.tft.service.TftLeagueEntryManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 소환사 페이지 조회용 stale-while-revalidate 읽기 경로
+ *
+ * 한 번이라도 갱신된 계정은 Riot API를 기다리지 않고 DB 데이터를 바로 응답하고(비어 있더라도), 마지막 갱신 후 ttl이 지났다면
+ * 비동기로 전체 갱신을 요청한다. 한 번도 갱신되지 않은 계정의 처음 조회만 전체 갱신을 동기적으로 수행한다.
+ */
+@Component
+public class TftSnapshotReader {
+    private static final Logger logger = LoggerFactory.getLogger(TftSnapshotReader.class);
+
+    private final TftFacade tftFacade;
+    private final TftLeagueEntryManager tftLeagueEntryManager;
+    private final RiotAccountManager riotAccountManager;
+    private final TftRevalidator tftRevalidator;
+    private final RenewPriorityQueue renewPriorityQueue;
+
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public TftSnapshotReader(
+            TftFacade tftFacade,
+            TftLeagueEntryManager tftLeagueEntryManager,
+            RiotAccountManager riotAccountManager,
+            TftRevalidator tftRevalidator,
+            RenewPriorityQueue renewPriorityQueue,
+            @Value("${rivals.read.stale-while-revalidate.enabled:true}") boolean enabled,
+            @Value("${rivals.read.stale-while-revalidate.ttl-seconds:300}") long ttlSeconds) {
+        this.tftFacade = tftFacade;
+        this.tftLeagueEntryManager = tftLeagueEntryManager;
+        this.riotAccountManager = riotAccountManager;
+        this.tftRevalidator = tftRevalidator;
+        this.renewPriorityQueue = renewPriorityQueue;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public DataSnapshot<List<TftRecentMatchDto>> readRecentMatches(String gameName, String tagLine) {
+        RiotAccount account = riotAccountManager.findOrRegisterAccount(gameName, tagLine);
+        renewPriorityQueue.recordLookup(account.getId());
+
+        if (!enabled) {
+            return DataSnapshot.of(tftFacade.findAndProcessMatches(account), null);
+        }
+
+        if (needsFirstSync(account)) {
+            TftRenewDto renewed = tftFacade.renewAllTftData(account);
+            return DataSnapshot.of(renewed.matches(), renewed.renewedAt());
+        }
+
+        List<TftRecentMatchDto> stored = tftFacade.findStoredMatches(account);
+        revalidateIfStale(account);
+        return DataSnapshot.of(stored, account.getUpdatedAt());
+    }
+
+    public DataSnapshot<List<TftStatusDto>> readLeagueEntries(String gameName, String tagLine) {
+        RiotAccount account = riotAccountManager.findOrRegisterAccount(gameName, tagLine);
+        renewPriorityQueue.recordLookup(account.getId());
+
+        if (!enabled) {
+            return DataSnapshot.of(toStatusDtos(tftLeagueEntryManager.findOrCreateLeagueEntries(account.getId())), null);
+        }
+
+        if (needsFirstSync(account)) {
+            TftRenewDto renewed = tftFacade.renewAllTftData(account);
+            return DataSnapshot.of(renewed.statuses(), renewed.renewedAt());
+        }
+
+        List<TftStatusDto> stored = toStatusDtos(tftLeagueEntryManager.findStoredLeagueEntries(account.getId()));
+        revalidateIfStale(account);
+        return DataSnapshot.of(stored, account.getUpdatedAt());
+    }
+
+    /**
+     * 전체 갱신이 한 번도 끝나지 않은 계정 (updatedAt은 갱신 저장 단계에서만 기록됨)
+     * 저장된 데이터가 비어 있는지로 판단하면 랭크가 없거나 매치가 없는 계정은 조회할 때마다 Riot API를 호출하게 된다.
+     */
+    boolean needsFirstSync(RiotAccount account) {
+        return account.getUpdatedAt() == null;
+    }
+
+    boolean isStale(RiotAccount account, LocalDateTime now) {
+        return account.getUpdatedAt() == null || account.getUpdatedAt().plus(ttl).isBefore(now);
+    }
+
+    private void revalidateIfStale(RiotAccount account) {
+        if (!isStale(account, LocalDateTime.now()) || !tftRevalidator.tryMarkPending(account.getId())) {
+            return;
+        }
+        try {
+            tftRevalidator.revalidate(account);
+        } catch (TaskRejectedException e) {
+            // 비동기 큐가 가득 찬 경우 이번 재검증은 건너뛰고 다음 조회에서 다시 시도
+            tftRevalidator.release(account.getId());
+            logger.warn("Revalidation rejected for {}: {}", account.getFullGameName(), e.getMessage());
+        }
+    }
+
+    private List<TftStatusDto> toStatusDtos(List<TftLeagueEntry> entries) {
+        return entries.stream().map(TftStatusDto::from).toList();
+    }
+}
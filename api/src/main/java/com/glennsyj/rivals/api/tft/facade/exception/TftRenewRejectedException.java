@@ -0,0 +1,25 @@
+package com.glennsyj.rivals.api.tft.facade.exception;
+
+import java.time.Duration;
+
+/**
+ * 갱신 스레드 풀이 가득 찼거나 Riot API 호출 제한에 걸려 지금은 갱신할 수 없는 경우 (503 + Retry-After)
+ */
+public class TftRenewRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public TftRenewRejectedException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    // Retry-After 헤더는 초 단위 정수이므로 올림 처리 (최소 1초)
+    public long getRetryAfterSeconds() {
+        long seconds = retryAfter.toSeconds();
+        return retryAfter.toNanosPart() > 0 ? seconds + 1 : Math.max(seconds, 1);
+    }
+}
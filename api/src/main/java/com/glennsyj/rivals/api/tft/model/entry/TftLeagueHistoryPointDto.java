@@ -0,0 +1,36 @@
+package com.glennsyj.rivals.api.tft.model.entry;
+
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot;
+
+import java.time.LocalDateTime;
+
+/**
+ * LP 그래프의 한 점
+ * ladderPoints: 티어/랭크/LP를 하나로 환산한 점수 (그래프의 y축으로 이용)
+ * resolution: RAW(갱신 시점 그대로), HOURLY/DAILY(해당 시간/일의 마지막 값)
+ */
+public record TftLeagueHistoryPointDto(
+        String tier,
+        String rank,
+        int leaguePoints,
+        int ladderPoints,
+        int wins,
+        int losses,
+        String resolution,
+        LocalDateTime capturedAt
+) {
+
+    public static TftLeagueHistoryPointDto from(TftLeagueEntrySnapshot snapshot) {
+        return new TftLeagueHistoryPointDto(
+                snapshot.getTier().name(),
+                snapshot.getRank().name(),
+                snapshot.getLeaguePoints(),
+                TftLeagueEntry.ladderPointsOf(snapshot.getTier(), snapshot.getRank(), snapshot.getLeaguePoints()),
+                snapshot.getWins(),
+                snapshot.getLosses(),
+                snapshot.getResolution().name(),
+                snapshot.getCapturedAt()
+        );
+    }
+}
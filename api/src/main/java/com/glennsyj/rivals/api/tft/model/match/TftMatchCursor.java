@@ -0,0 +1,29 @@
+package com.glennsyj.rivals.api.tft.model.match;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+
+/**
+ * 전적 keyset 페이지네이션 커서 ("gameCreation,id" 형식)
+ */
+public record TftMatchCursor(Long gameCreation, Long id) {
+
+    public static TftMatchCursor parse(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+        try {
+            return new TftMatchCursor(Long.parseLong(parts[0].trim()), Long.parseLong(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value, e);
+        }
+    }
+
+    public static TftMatchCursor from(TftMatch match) {
+        return new TftMatchCursor(match.getGameCreation(), match.getId());
+    }
+
+    public String encode() {
+        return gameCreation + "," + id;
+    }
+}
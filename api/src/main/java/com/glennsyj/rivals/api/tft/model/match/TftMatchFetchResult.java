@@ -0,0 +1,25 @@
+package com.glennsyj.rivals.api.tft.model.match;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 트랜잭션 밖에서 Riot API로 받아온 매치 동기화 결과 (저장 단계로 전달)
+ *
+ * @param candidateMatchIds 동기화 커서 이후의 후보 매치 ID (최신순)
+ * @param responses         새로 받아온 매치 상세 정보
+ * @param missingMatchIds   일시적인 실패로 받아오지 못해 커서가 넘어가면 안 되는 매치 ID
+ */
+public record TftMatchFetchResult(
+    List<String> candidateMatchIds,
+    List<TftMatchResponse> responses,
+    Set<String> missingMatchIds
+) {
+    public static TftMatchFetchResult empty() {
+        return new TftMatchFetchResult(List.of(), List.of(), Set.of());
+    }
+
+    public boolean hasCandidates() {
+        return !candidateMatchIds.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.glennsyj.rivals.api.tft.model.match;
+
+import java.util.List;
+
+/*
+    전적 무한 스크롤용 페이지 DTO, 다음 페이지가 없으면 nextCursor는 null
+ */
+public record TftMatchPageDto(
+    List<TftRecentMatchDto> matches,
+    String nextCursor
+) { }
@@ -0,0 +1,15 @@
+package com.glennsyj.rivals.api.tft.model.renew;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record TftBulkRenewRequestDto(
+    @NotEmpty(message = "Riot IDs cannot be empty")
+    List<RiotId> riotIds
+) {
+    public record RiotId(
+        String gameName,
+        String tagLine
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.glennsyj.rivals.api.tft.model.renew;
+
+import java.util.List;
+
+/*
+    fetchedMatchCount: 계정들의 새 매치를 합친 뒤 실제로 상세 정보를 받아온 서로 다른 매치 수
+ */
+public record TftBulkRenewResponseDto(
+    List<TftBulkRenewResultDto> results,
+    int fetchedMatchCount
+) {
+}
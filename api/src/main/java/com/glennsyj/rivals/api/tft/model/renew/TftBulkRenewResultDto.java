@@ -0,0 +1,26 @@
+package com.glennsyj.rivals.api.tft.model.renew;
+
+/*
+    여러 소환사 일괄 갱신 시 계정별 결과
+    일부 계정이 실패해도 나머지 계정의 결과는 그대로 반환
+ */
+public record TftBulkRenewResultDto(
+    String gameName,
+    String tagLine,
+    Status status,
+    TftRenewDto data,
+    String error
+) {
+    public enum Status {
+        SUCCESS,
+        FAILED
+    }
+
+    public static TftBulkRenewResultDto success(TftBulkRenewRequestDto.RiotId riotId, TftRenewDto data) {
+        return new TftBulkRenewResultDto(riotId.gameName(), riotId.tagLine(), Status.SUCCESS, data, null);
+    }
+
+    public static TftBulkRenewResultDto failed(TftBulkRenewRequestDto.RiotId riotId, String error) {
+        return new TftBulkRenewResultDto(riotId.gameName(), riotId.tagLine(), Status.FAILED, null, error);
+    }
+}
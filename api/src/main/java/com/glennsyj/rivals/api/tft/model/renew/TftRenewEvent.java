@@ -0,0 +1,38 @@
+package com.glennsyj.rivals.api.tft.model.renew;
+
+import com.glennsyj.rivals.api.riot.model.RiotAccountDto;
+import com.glennsyj.rivals.api.tft.model.badge.TftBadgeDto;
+import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
+import com.glennsyj.rivals.api.tft.model.match.TftRecentMatchDto;
+
+import java.util.List;
+
+/*
+    갱신 진행 상황 스트리밍(SSE)에 이용될 이벤트
+    name은 SSE의 event 필드, data는 해당 단계의 결과
+ */
+public record TftRenewEvent(
+    String name,
+    Object data
+) {
+    public static final String ACCOUNT_RESOLVED = "account-resolved";
+    public static final String LEAGUE_ENTRIES = "league-entries";
+    public static final String MATCH_INGESTED = "match-ingested";
+    public static final String BADGES_UPDATED = "badges-updated";
+
+    public static TftRenewEvent accountResolved(RiotAccountDto account) {
+        return new TftRenewEvent(ACCOUNT_RESOLVED, account);
+    }
+
+    public static TftRenewEvent leagueEntries(List<TftStatusDto> statuses) {
+        return new TftRenewEvent(LEAGUE_ENTRIES, statuses);
+    }
+
+    public static TftRenewEvent matchIngested(TftRecentMatchDto match) {
+        return new TftRenewEvent(MATCH_INGESTED, match);
+    }
+
+    public static TftRenewEvent badgesUpdated(List<TftBadgeDto> badges) {
+        return new TftRenewEvent(BADGES_UPDATED, badges);
+    }
+}
@@ -0,0 +1,7 @@
+package com.glennsyj.rivals.api.tft.outbox;
+
+/**
+ * 새 매치가 저장되어 아웃박스 이벤트가 기록되었음을 알림 (커밋 후 워커를 바로 깨우기 위한 용도)
+ */
+public record MatchesIngestedEvent(int matchCount) {
+}
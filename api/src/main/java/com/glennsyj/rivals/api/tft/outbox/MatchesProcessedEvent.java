@@ -0,0 +1,12 @@
+package com.glennsyj.rivals.api.tft.outbox;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+
+import java.util.List;
+
+/**
+ * 아웃박스 워커가 새 매치의 후속 처리를 마쳤음을 알림
+ * 이벤트 처리 트랜잭션 안에서 발행되므로, 동기 리스너의 변경은 이벤트 처리 완료와 함께 커밋되거나 함께 롤백된다.
+ */
+public record MatchesProcessedEvent(List<TftMatch> matches) {
+}
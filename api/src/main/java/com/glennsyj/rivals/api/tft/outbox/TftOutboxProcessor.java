@@ -0,0 +1,193 @@
+package com.glennsyj.rivals.api.tft.outbox;
+
+import com.glennsyj.rivals.api.tft.cache.TftMatchCache;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.entity.outbox.TftOutboxEvent;
+import com.glennsyj.rivals.api.tft.entity.outbox.TftOutboxEventType;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import com.glennsyj.rivals.api.tft.repository.TftOutboxEventRepository;
+import com.glennsyj.rivals.api.tft.service.TftBadgeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * tft_outbox_events를 소비해 매치 저장 후 처리를 수행하는 워커
+ *
+ * 1. 커밋 직후: MatchesIngestedEvent를 받아 AsyncConfig의 스레드 풀에서 바로 처리
+ * 2. 주기적 폴링: 이벤트 발행이 누락되었거나 실패 후 재시도 대기 중인 이벤트를 처리
+ *
+ * 이벤트는 FOR UPDATE SKIP LOCKED로 가져오므로 여러 인스턴스가 동시에 소비해도 같은 이벤트를 중복 처리하지 않으며,
+ * 처리 결과와 processedAt은 같은 트랜잭션에서 커밋된다.
+ */
+@Component
+public class TftOutboxProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(TftOutboxProcessor.class);
+
+    private final TftOutboxEventRepository tftOutboxEventRepository;
+    private final TftMatchRepository tftMatchRepository;
+    private final TftBadgeService tftBadgeService;
+    private final TftMatchCache tftMatchCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retention;
+
+    // 인스턴스 안에서는 한 번에 하나의 워커만 소비 (진행 중인 워커가 남은 이벤트를 이어서 처리)
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public TftOutboxProcessor(
+            TftOutboxEventRepository tftOutboxEventRepository,
+            TftMatchRepository tftMatchRepository,
+            TftBadgeService tftBadgeService,
+            TftMatchCache tftMatchCache,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${rivals.tft.outbox.batch-size:100}") int batchSize,
+            @Value("${rivals.tft.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${rivals.tft.outbox.retry-backoff-seconds:30}") long retryBackoffSeconds,
+            @Value("${rivals.tft.outbox.retention-hours:24}") long retentionHours) {
+        this.tftOutboxEventRepository = tftOutboxEventRepository;
+        this.tftMatchRepository = tftMatchRepository;
+        this.tftBadgeService = tftBadgeService;
+        this.tftMatchCache = tftMatchCache;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMatchesIngested(MatchesIngestedEvent event) {
+        drain();
+    }
+
+    @Scheduled(
+            initialDelayString = "${rivals.tft.outbox.initial-delay-ms:10000}",
+            fixedDelayString = "${rivals.tft.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        drain();
+    }
+
+    @Scheduled(fixedDelayString = "${rivals.tft.outbox.purge-interval-ms:3600000}")
+    public void purgeProcessed() {
+        int deleted = tftOutboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            logger.debug("Purged {} processed outbox event(s)", deleted);
+        }
+    }
+
+    /**
+     * 대기 중인 이벤트가 없을 때까지 batchSize개씩 처리
+     */
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int processed;
+            do {
+                processed = processBatch();
+            } while (processed >= batchSize);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    public long pendingCount() {
+        return tftOutboxEventRepository.countByProcessedAtIsNull();
+    }
+
+    private int processBatch() {
+        try {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<TftOutboxEvent> events = tftOutboxEventRepository.claimPending(
+                        LocalDateTime.now(), maxAttempts, batchSize);
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                handle(events);
+                events.forEach(TftOutboxEvent::markProcessed);
+                return events.size();
+            });
+            return processed == null ? 0 : processed;
+        } catch (Exception e) {
+            // 배치 중 하나라도 실패하면 전체가 롤백되므로, 실패한 이벤트만 골라내기 위해 하나씩 다시 처리
+            logger.warn("Outbox batch failed, retrying events one by one: {}", e.getMessage());
+            return processOneByOne();
+        }
+    }
+
+    private int processOneByOne() {
+        int handled = 0;
+        for (int i = 0; i < batchSize; i++) {
+            AtomicReference<Long> claimedId = new AtomicReference<>();
+            try {
+                Integer processed = transactionTemplate.execute(status -> {
+                    List<TftOutboxEvent> events = tftOutboxEventRepository.claimPending(
+                            LocalDateTime.now(), maxAttempts, 1);
+                    if (events.isEmpty()) {
+                        return 0;
+                    }
+                    claimedId.set(events.get(0).getId());
+                    handle(events);
+                    events.get(0).markProcessed();
+                    return 1;
+                });
+                if (processed == null || processed == 0) {
+                    break;
+                }
+            } catch (Exception e) {
+                Long eventId = claimedId.get();
+                if (eventId == null) {
+                    logger.warn("Failed to claim outbox events: {}", e.getMessage());
+                    break;
+                }
+                logger.warn("Outbox event {} failed, will retry later", eventId, e);
+                transactionTemplate.executeWithoutResult(status -> tftOutboxEventRepository.findById(eventId)
+                        .ifPresent(event -> event.markFailed(e.getMessage(), retryBackoff)));
+            }
+            handled++;
+        }
+        return handled;
+    }
+
+    private void handle(List<TftOutboxEvent> events) {
+        List<Long> matchIds = events.stream()
+                .filter(event -> event.getType() == TftOutboxEventType.MATCH_INGESTED)
+                .map(TftOutboxEvent::getAggregateId)
+                .toList();
+        if (matchIds.isEmpty()) {
+            return;
+        }
+
+        List<TftMatch> matches = tftMatchRepository.findAllWithParticipantsByIdIn(matchIds);
+
+        // 업적 계산 (매치당 한 번, 이벤트 처리 완료와 같은 트랜잭션)
+        tftBadgeService.processMatchAchievements(matches);
+        // 라이벌리 통계 등 매치 단위로 누적하는 집계도 같은 트랜잭션에서 반영
+        eventPublisher.publishEvent(new MatchesProcessedEvent(matches));
+
+        // 저장이 끝난 매치는 더 이상 메모리 캐시에서 공유할 필요 없음
+        matches.forEach(match -> tftMatchCache.evict(match.getMatchId()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.achievement.TftBadgeWindow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TftBadgeWindowRepository extends JpaRepository<TftBadgeWindow, Long> {
+
+    Optional<TftBadgeWindow> findByRiotAccountId(Long riotAccountId);
+}
@@ -2,17 +2,14 @@ package com.glennsyj.rivals.api.tft.repository;
 
 import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import jakarta.persistence.LockModeType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TftLeagueEntryRepository extends JpaRepository<TftLeagueEntry, Long> {
+public interface TftLeagueEntryRepository extends JpaRepository<TftLeagueEntry, Long>, TftLeagueEntryUpsertRepository {
 
     /**
      * RiotAccount의 puuid로 TFT 리그 정보 조회
@@ -27,19 +24,16 @@ public interface TftLeagueEntryRepository extends JpaRepository<TftLeagueEntry,
     Optional<TftLeagueEntry> findByAccount_Id(Long account_id);
 
     List<TftLeagueEntry> findAllByAccount_IdIn(List<Long> accountIds);
-    
+
     Optional<TftLeagueEntry> findFirstByAccount_IdOrderByUpdatedAtDesc(Long accountId);
 
-    @Query("""
-        SELECT e1 FROM TftLeagueEntry e1
-        WHERE e1.account.id = :accountId
-        AND e1.updatedAt = (
-            SELECT MAX(e2.updatedAt)
-            FROM TftLeagueEntry e2
-            WHERE e2.account.id = e1.account.id
-            AND e2.queueType = e1.queueType
-        )
-    """)
-    @Lock(LockModeType.OPTIMISTIC)
-    List<TftLeagueEntry> findLatestEntriesForEachQueueTypeByAccountId(@Param("accountId") Long accountId);
+    /**
+     * 계정의 큐타입별 현재 엔트리 조회 ((account_id, queue_type) 유니크 인덱스 범위 조회)
+     */
+    List<TftLeagueEntry> findAllByAccount_Id(Long accountId);
+
+    /**
+     * 여러 계정의 특정 큐타입 현재 엔트리를 한 번에 조회 (계정당 최대 1행)
+     */
+    List<TftLeagueEntry> findAllByAccount_IdInAndQueueType(Collection<Long> accountIds, TftLeagueEntry.QueueType queueType);
 }
@@ -0,0 +1,59 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TftLeagueEntrySnapshotRepository extends JpaRepository<TftLeagueEntrySnapshot, Long> {
+
+    // (account_id, queue_type, captured_at) 인덱스 범위 스캔
+    List<TftLeagueEntrySnapshot> findAllByAccountIdAndQueueTypeAndCapturedAtGreaterThanEqualOrderByCapturedAtAsc(
+            Long accountId, TftLeagueEntry.QueueType queueType, LocalDateTime from);
+
+    // 같은 인덱스를 역순으로 읽어 가장 최근 기록 한 행만 조회
+    Optional<TftLeagueEntrySnapshot> findFirstByAccountIdAndQueueTypeOrderByCapturedAtDesc(
+            Long accountId, TftLeagueEntry.QueueType queueType);
+
+    /**
+     * before 이전의 resolution 행 중 같은 버킷(bucketFormat으로 자른 시각)에 더 나중 행이 있는 행 삭제
+     * 버킷마다 마지막 값 하나만 남음 (id는 TSID라 기록 순서와 같음)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        DELETE s FROM tft_league_entry_snapshots s
+        JOIN tft_league_entry_snapshots t
+          ON t.account_id = s.account_id
+         AND t.queue_type = s.queue_type
+         AND t.resolution = s.resolution
+         AND DATE_FORMAT(t.captured_at, :bucketFormat) = DATE_FORMAT(s.captured_at, :bucketFormat)
+         AND t.id > s.id
+        WHERE s.resolution = :resolution
+        AND s.captured_at < :before
+    """)
+    int deleteSupersededInBucket(@Param("resolution") String resolution,
+                                 @Param("bucketFormat") String bucketFormat,
+                                 @Param("before") LocalDateTime before);
+
+    /**
+     * before 이전의 from 행을 to 해상도로 전환
+     * 엔티티는 @Immutable이므로 JPQL 대신 네이티브 UPDATE로 처리
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        UPDATE tft_league_entry_snapshots SET resolution = :to
+        WHERE resolution = :from
+        AND captured_at < :before
+    """)
+    int promote(@Param("from") String from,
+                @Param("to") String to,
+                @Param("before") LocalDateTime before);
+}
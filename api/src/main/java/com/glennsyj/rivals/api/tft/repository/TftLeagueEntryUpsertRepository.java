@@ -0,0 +1,18 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+
+import java.util.List;
+
+/**
+ * (account_id, queue_type) 기준 리그 엔트리 upsert (TftLeagueEntryRepository에 함께 노출)
+ */
+public interface TftLeagueEntryUpsertRepository {
+
+    /**
+     * 계정/큐타입별 현재 엔트리를 한 번의 배치로 삽입하거나 덮어씀
+     * 여러 계정의 엔트리를 함께 넘길 수 있으며, 넘긴 엔트리 객체는 영속화되지 않으므로 저장 후 다시 조회해서 사용한다.
+     * JDBC로 직접 실행하므로 같은 트랜잭션에서 이미 조회해 둔 엔트리 객체에는 반영되지 않는다.
+     */
+    void upsertAll(List<TftLeagueEntry> entries);
+}
@@ -0,0 +1,92 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.model.entry.TftLeagueEntryResponse;
+import io.hypersistence.tsid.TSID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MariaDB INSERT ... ON DUPLICATE KEY UPDATE 기반 구현
+ *
+ * uk_tft_league_entries_account_queue에 걸리면 id는 그대로 두고 나머지 값과 version만 갱신한다.
+ * 조회 후 변경(SELECT + UPDATE) 대신 한 문장으로 처리하므로 낙관적 락 충돌 재시도가 필요 없다.
+ */
+public class TftLeagueEntryUpsertRepositoryImpl implements TftLeagueEntryUpsertRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO tft_league_entries (
+            id, version, account_id, puuid, league_id, summoner_id, queue_type, tier, `rank`,
+            league_points, wins, losses, hot_streak, veteran, fresh_blood, inactive,
+            mini_series_losses, mini_series_target, mini_series_wins, mini_series_progress, updated_at
+        ) VALUES (?, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            version = version + 1,
+            puuid = VALUES(puuid),
+            league_id = VALUES(league_id),
+            summoner_id = VALUES(summoner_id),
+            tier = VALUES(tier),
+            `rank` = VALUES(`rank`),
+            league_points = VALUES(league_points),
+            wins = VALUES(wins),
+            losses = VALUES(losses),
+            hot_streak = VALUES(hot_streak),
+            veteran = VALUES(veteran),
+            fresh_blood = VALUES(fresh_blood),
+            inactive = VALUES(inactive),
+            mini_series_losses = VALUES(mini_series_losses),
+            mini_series_target = VALUES(mini_series_target),
+            mini_series_wins = VALUES(mini_series_wins),
+            mini_series_progress = VALUES(mini_series_progress),
+            updated_at = VALUES(updated_at)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TftLeagueEntryUpsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(List<TftLeagueEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = entries.stream()
+                .map(entry -> toArgs(entry, now))
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+
+    private Object[] toArgs(TftLeagueEntry entry, LocalDateTime now) {
+        TftLeagueEntryResponse.MiniSeries miniSeries = entry.getMiniSeries() != null
+                ? entry.getMiniSeries().toResponse()
+                : null;
+        return new Object[] {
+                // 새로 삽입될 때만 이용됨
+                TSID.fast().toLong(),
+                entry.getAccount().getId(),
+                entry.getPuuid(),
+                entry.getLeagueId(),
+                entry.getSummonerId(),
+                entry.getQueueType().name(),
+                entry.getTier().name(),
+                entry.getRank().name(),
+                entry.getLeaguePoints(),
+                entry.getWins(),
+                entry.getLosses(),
+                entry.isHotStreak(),
+                entry.isVeteran(),
+                entry.isFreshBlood(),
+                entry.isInactive(),
+                miniSeries != null ? miniSeries.losses() : null,
+                miniSeries != null ? miniSeries.target() : null,
+                miniSeries != null ? miniSeries.wins() : null,
+                miniSeries != null ? miniSeries.progress() : null,
+                now
+        };
+    }
+}
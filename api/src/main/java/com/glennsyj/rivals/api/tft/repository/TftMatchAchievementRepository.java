@@ -6,28 +6,45 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 @Repository
 public interface TftMatchAchievementRepository extends JpaRepository<TftMatchAchievement, Long> {
-    
+
+    /**
+     * 최근 N경기 내 업적 달성 횟수를 업적 종류별로 한 번에 집계
+     */
     @Query(nativeQuery = true, value = """
-        WITH recent_matches AS (
-            SELECT m.id
-            FROM tft_matches m
-            JOIN tft_match_participants p ON m.id = p.match_id
-            WHERE p.puuid = :puuid
-            ORDER BY m.game_creation DESC
+        WITH recent_participants AS (
+            SELECT i.participant_id
+            FROM tft_player_match_index i
+            WHERE i.puuid = :puuid
+            ORDER BY i.game_creation DESC
             LIMIT :recentCount
         )
-        SELECT COUNT(*)
+        SELECT a.type AS type, COUNT(*) AS count
         FROM tft_match_achievements a
-        JOIN tft_match_participants p ON a.participant_id = p.id
-        WHERE p.puuid = :puuid
-        AND a.type = :achievementType
-        AND a.match_id IN (SELECT id FROM recent_matches)
+        JOIN recent_participants r ON a.participant_id = r.participant_id
+        GROUP BY a.type
     """)
-    int countRecentAchievements(
+    List<AchievementTypeCount> countRecentAchievementsGroupByType(
         String puuid,
-        String achievementType,
         int recentCount
     );
-} 
\ No newline at end of file
+
+    // 달성 기록이 없는 업적 종류는 결과에 포함되지 않음
+    default Map<AchievementType, Integer> countRecentAchievementsByType(String puuid, int recentCount) {
+        Map<AchievementType, Integer> counts = new EnumMap<>(AchievementType.class);
+        for (AchievementTypeCount row : countRecentAchievementsGroupByType(puuid, recentCount)) {
+            counts.put(AchievementType.valueOf(row.getType()), row.getCount().intValue());
+        }
+        return counts;
+    }
+
+    interface AchievementTypeCount {
+        String getType();
+        Long getCount();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * matchId 중복을 무시하는 매치 삽입 (TftMatchRepository에 함께 노출)
+ */
+public interface TftMatchInsertRepository {
+
+    /**
+     * 매치 행만 INSERT IGNORE로 삽입하고, 이번 호출에서 실제로 삽입된 매치의 matchId -> id를 반환
+     * 같은 matchId를 다른 트랜잭션이 먼저 삽입했다면 그 트랜잭션이 끝날 때까지 기다린 뒤 건너뛰므로 예외로 롤백되지 않는다.
+     * 참가자는 삽입하지 않으며, 넘긴 매치 객체는 영속화되지 않으므로 반환된 id로 다시 조회해서 사용한다.
+     */
+    Map<String, Long> insertIgnoringDuplicates(List<TftMatch> matches);
+}
@@ -0,0 +1,85 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import io.hypersistence.tsid.TSID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MariaDB INSERT IGNORE 기반 구현
+ *
+ * 영향받은 행 수는 드라이버의 배치 방식에 따라 알 수 없을 수 있으므로,
+ * 삽입 후 저장된 id가 이번에 생성한 id와 같은 매치만 이번 호출에서 삽입한 것으로 본다.
+ */
+public class TftMatchInsertRepositoryImpl implements TftMatchInsertRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT IGNORE INTO tft_matches (
+            id, match_id, data_version, end_of_game_result, game_creation, game_id, game_date_time,
+            game_length, game_version, map_id, game_variation, queue_id, tft_game_type,
+            tft_set_core_name, tft_set_number, created_at
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TftMatchInsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, Long> insertIgnoringDuplicates(List<TftMatch> matches) {
+        if (matches.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> generatedIds = new LinkedHashMap<>();
+        List<Object[]> batchArgs = matches.stream()
+                .filter(match -> generatedIds.putIfAbsent(match.getMatchId(), TSID.fast().toLong()) == null)
+                .map(match -> toArgs(match, generatedIds.get(match.getMatchId()), now))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+
+        String placeholders = String.join(", ", Collections.nCopies(generatedIds.size(), "?"));
+        Map<String, Long> storedIds = new HashMap<>();
+        jdbcTemplate.query("SELECT match_id, id FROM tft_matches WHERE match_id IN (" + placeholders + ")",
+                        (rs, rowNum) -> Map.entry(rs.getString(1), rs.getLong(2)),
+                        generatedIds.keySet().toArray())
+                .forEach(entry -> storedIds.put(entry.getKey(), entry.getValue()));
+
+        Map<String, Long> inserted = new LinkedHashMap<>();
+        generatedIds.forEach((matchId, id) -> {
+            if (id.equals(storedIds.get(matchId))) {
+                inserted.put(matchId, id);
+            }
+        });
+        return inserted;
+    }
+
+    private Object[] toArgs(TftMatch match, Long id, LocalDateTime now) {
+        return new Object[] {
+                id,
+                match.getMatchId(),
+                match.getDataVersion(),
+                match.getEndOfGameResult(),
+                match.getGameCreation(),
+                match.getGameId(),
+                match.getGameDateTime(),
+                match.getGameLength(),
+                match.getGameVersion(),
+                match.getMapId(),
+                match.getGameVariation(),
+                match.getQueueId(),
+                match.getTftGameType(),
+                match.getTftSetCoreName(),
+                match.getTftSetNumber(),
+                now
+        };
+    }
+}
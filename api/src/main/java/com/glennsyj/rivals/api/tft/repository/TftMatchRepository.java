@@ -1,14 +1,105 @@
 package com.glennsyj.rivals.api.tft.repository;
 
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface TftMatchRepository extends JpaRepository<TftMatch, Long> {
+public interface TftMatchRepository extends JpaRepository<TftMatch, Long>, TftMatchInsertRepository {
 
     List<TftMatch> findTop20ByParticipantsPuuidOrderByGameCreationDesc(String puuid);
-    
-    List<TftMatch> findByMatchIdIn(List<String> matchIds);
+
+    // 1단계: puuid 기준 최근 매치의 id만 페이지 단위로 조회 (tft_player_match_index 범위 스캔)
+    @Query("""
+        SELECT i.matchId FROM TftPlayerMatchIndex i
+        WHERE i.puuid = :puuid
+        ORDER BY i.gameCreation DESC, i.matchId DESC
+    """)
+    List<Long> findRecentMatchIdsByPuuid(@Param("puuid") String puuid, Pageable pageable);
+
+    // keyset 페이지네이션: (gameCreation, id) 커서보다 오래된 매치 id를 OFFSET 없이 조회
+    @Query("""
+        SELECT i.matchId FROM TftPlayerMatchIndex i
+        WHERE i.puuid = :puuid
+        AND (i.gameCreation < :gameCreation
+             OR (i.gameCreation = :gameCreation AND i.matchId < :matchId))
+        ORDER BY i.gameCreation DESC, i.matchId DESC
+    """)
+    List<Long> findMatchIdsByPuuidBefore(@Param("puuid") String puuid,
+                                        @Param("gameCreation") Long gameCreation,
+                                        @Param("matchId") Long matchId,
+                                        Pageable pageable);
+
+    // 양 진영 참가자가 함께한 매치 id 조회: 왼쪽 진영의 전적 범위 스캔 후 (match_id, puuid) 인덱스로 오른쪽 진영 참가 여부 확인
+    @Query("""
+        SELECT l.matchId FROM TftPlayerMatchIndex l
+        WHERE l.puuid IN :leftPuuids
+        AND EXISTS (
+            SELECT 1 FROM TftPlayerMatchIndex r
+            WHERE r.matchId = l.matchId AND r.puuid IN :rightPuuids
+        )
+        GROUP BY l.matchId, l.gameCreation
+        ORDER BY l.gameCreation DESC, l.matchId DESC
+    """)
+    List<Long> findSharedMatchIds(@Param("leftPuuids") Collection<String> leftPuuids,
+                                  @Param("rightPuuids") Collection<String> rightPuuids,
+                                  Pageable pageable);
+
+    @Query("""
+        SELECT l.matchId FROM TftPlayerMatchIndex l
+        WHERE l.puuid IN :leftPuuids
+        AND (l.gameCreation < :gameCreation
+             OR (l.gameCreation = :gameCreation AND l.matchId < :matchId))
+        AND EXISTS (
+            SELECT 1 FROM TftPlayerMatchIndex r
+            WHERE r.matchId = l.matchId AND r.puuid IN :rightPuuids
+        )
+        GROUP BY l.matchId, l.gameCreation
+        ORDER BY l.gameCreation DESC, l.matchId DESC
+    """)
+    List<Long> findSharedMatchIdsBefore(@Param("leftPuuids") Collection<String> leftPuuids,
+                                        @Param("rightPuuids") Collection<String> rightPuuids,
+                                        @Param("gameCreation") Long gameCreation,
+                                        @Param("matchId") Long matchId,
+                                        Pageable pageable);
+
+    // 2단계: 조회한 id의 매치와 참가자를 한 번에 fetch join
+    @Query("""
+        SELECT DISTINCT m FROM TftMatch m
+        JOIN FETCH m.participants
+        WHERE m.id IN :ids
+        ORDER BY m.gameCreation DESC, m.id DESC
+    """)
+    List<TftMatch> findAllWithParticipantsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 최근 매치를 참가자와 함께 조회 (페이지 크기와 무관하게 쿼리 2번)
+     * 컬렉션 fetch join에 페이징을 걸면 메모리에서 잘라내므로 id 조회와 fetch join을 분리한다.
+     */
+    default List<TftMatch> findRecentMatchesWithParticipants(String puuid, int limit) {
+        List<Long> ids = findRecentMatchIdsByPuuid(puuid, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return findAllWithParticipantsByIdIn(ids);
+    }
+
+    // 동기화 커서 이동용: 엔티티/참가자 로딩 없이 저장된 매치의 gameCreation만 조회
+    @Query("SELECT m.matchId AS matchId, m.gameCreation AS gameCreation FROM TftMatch m WHERE m.matchId IN :matchIds")
+    List<MatchCreation> findGameCreationsByMatchIdIn(@Param("matchIds") Collection<String> matchIds);
+
+    // 존재 여부 확인용: 엔티티/참가자 로딩 없이 matchId만 조회
+    @Query("SELECT m.matchId FROM TftMatch m WHERE m.matchId IN :matchIds")
+    List<String> findMatchIdsIn(@Param("matchIds") Collection<String> matchIds);
+
+    interface MatchCreation {
+        String getMatchId();
+        Long getGameCreation();
+    }
 
 }
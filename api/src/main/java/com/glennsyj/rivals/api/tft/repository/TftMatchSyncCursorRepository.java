@@ -0,0 +1,13 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchSyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TftMatchSyncCursorRepository extends JpaRepository<TftMatchSyncCursor, Long> {
+
+    Optional<TftMatchSyncCursor> findByRiotAccountId(Long riotAccountId);
+}
@@ -0,0 +1,37 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.outbox.TftOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TftOutboxEventRepository extends JpaRepository<TftOutboxEvent, Long> {
+
+    /**
+     * 처리 대기 중인 이벤트를 잠그고 가져옴
+     * 다른 워커(인스턴스)가 잠근 행은 건너뛰므로 여러 워커가 서로 다른 이벤트를 처리함 (트랜잭션 안에서 호출)
+     */
+    @Query(nativeQuery = true, value = """
+        SELECT * FROM tft_outbox_events
+        WHERE processed_at IS NULL
+        AND available_at <= :now
+        AND attempts < :maxAttempts
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """)
+    List<TftOutboxEvent> claimPending(LocalDateTime now, int maxAttempts, int limit);
+
+    long countByProcessedAtIsNull();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TftOutboxEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(LocalDateTime before);
+}
@@ -0,0 +1,27 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.tft.entity.match.TftPlayerMatchIndex;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TftPlayerMatchIndexRepository extends JpaRepository<TftPlayerMatchIndex, Long> {
+
+    /**
+     * 인덱스 행이 없는 기존 참가자 데이터를 한 번에 채움 (이미 있는 행은 건너뜀)
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO tft_player_match_index (participant_id, puuid, game_creation, match_id, placement, level)
+        SELECT p.id, p.puuid, m.game_creation, m.id, p.placement, p.level
+        FROM tft_match_participants p
+        JOIN tft_matches m ON m.id = p.match_id
+        LEFT JOIN tft_player_match_index i ON i.participant_id = p.id
+        WHERE i.participant_id IS NULL
+    """)
+    int backfillMissingRows();
+}
@@ -0,0 +1,177 @@
+package com.glennsyj.rivals.api.tft.scheduler;
+
+import com.glennsyj.rivals.api.common.client.RiotRegion;
+import com.glennsyj.rivals.api.common.client.ratelimit.RiotRateLimiter;
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
+import com.glennsyj.rivals.api.tft.facade.TftFacade;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 남는 Riot API 호출 여유분으로 자주 조회되는 계정을 미리 갱신하는 스케줄러
+ *
+ * 사용자 요청이 우선이므로 모든 리전의 남은 토큰 비율이 minSpareRatio 이상일 때만 갱신하며,
+ * 한 번의 실행에서 batchSize개까지만 갱신한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rivals.renew.scheduler", name = "enabled", havingValue = "true")
+public class BackgroundRenewScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundRenewScheduler.class);
+
+    private final RenewPriorityQueue renewPriorityQueue;
+    private final RiotAccountRepository riotAccountRepository;
+    private final RiotRateLimiter riotRateLimiter;
+    private final TftFacade tftFacade;
+
+    private final int batchSize;
+    private final int rivalryScanSize;
+    private final double minSpareRatio;
+    private final Duration staleAfter;
+
+    private final AtomicBoolean paused = new AtomicBoolean(false);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong renewedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong skippedForBudgetCount = new AtomicLong();
+    private volatile LocalDateTime lastRunAt;
+
+    public BackgroundRenewScheduler(
+            RenewPriorityQueue renewPriorityQueue,
+            RiotAccountRepository riotAccountRepository,
+            RiotRateLimiter riotRateLimiter,
+            TftFacade tftFacade,
+            @Value("${rivals.renew.scheduler.batch-size:2}") int batchSize,
+            @Value("${rivals.renew.scheduler.rivalry-scan-size:50}") int rivalryScanSize,
+            @Value("${rivals.renew.scheduler.min-spare-ratio:0.5}") double minSpareRatio,
+            @Value("${rivals.renew.scheduler.stale-after-minutes:30}") long staleAfterMinutes) {
+        this.renewPriorityQueue = renewPriorityQueue;
+        this.riotAccountRepository = riotAccountRepository;
+        this.riotRateLimiter = riotRateLimiter;
+        this.tftFacade = tftFacade;
+        this.batchSize = batchSize;
+        this.rivalryScanSize = rivalryScanSize;
+        this.minSpareRatio = minSpareRatio;
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+    }
+
+    @Scheduled(
+            initialDelayString = "${rivals.renew.scheduler.initial-delay-ms:60000}",
+            fixedDelayString = "${rivals.renew.scheduler.interval-ms:30000}")
+    public void run() {
+        if (paused.get()) {
+            return;
+        }
+        lastRunAt = LocalDateTime.now();
+
+        if (!hasSpareBudget()) {
+            skippedForBudgetCount.incrementAndGet();
+            return;
+        }
+
+        for (RiotAccount account : selectAccounts(lastRunAt)) {
+            // 갱신 도중 사용자 요청이 몰리면 남은 계정은 다음 실행으로 미룸
+            if (paused.get() || !hasSpareBudget()) {
+                break;
+            }
+            renew(account);
+        }
+    }
+
+    public void pause() {
+        paused.set(true);
+        logger.info("Background renew scheduler paused");
+    }
+
+    public void resume() {
+        paused.set(false);
+        logger.info("Background renew scheduler resumed");
+    }
+
+    /**
+     * 새 갱신을 멈추고 대기 중인 조회 기록을 비움. 진행 중인 갱신은 끝까지 수행된다.
+     */
+    public void drain() {
+        paused.set(true);
+        renewPriorityQueue.clear();
+        logger.info("Background renew scheduler drained ({} renew(s) still in flight)", inFlight.get());
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("paused", paused.get());
+        status.put("inFlight", inFlight.get());
+        status.put("trackedAccounts", renewPriorityQueue.size());
+        status.put("renewed", renewedCount.get());
+        status.put("failed", failedCount.get());
+        status.put("skippedForBudget", skippedForBudgetCount.get());
+        status.put("lastRunAt", lastRunAt);
+        Map<String, Double> spare = new LinkedHashMap<>();
+        for (RiotRegion region : RiotRegion.values()) {
+            spare.put(region.name(), riotRateLimiter.availableRatio(region));
+        }
+        status.put("spareRatio", spare);
+        return status;
+    }
+
+    private List<RiotAccount> selectAccounts(LocalDateTime now) {
+        Set<Long> trackedIds = renewPriorityQueue.trackedAccountIds();
+
+        Map<Long, RiotAccount> candidates = new LinkedHashMap<>();
+        if (!trackedIds.isEmpty()) {
+            riotAccountRepository.findAllByIdIn(List.copyOf(trackedIds))
+                    .forEach(account -> candidates.put(account.getId(), account));
+        }
+
+        List<RiotAccount> staleRivals = riotAccountRepository.findRivalryAccountsStaleBefore(
+                now.minus(staleAfter), PageRequest.of(0, rivalryScanSize));
+        staleRivals.forEach(account -> candidates.putIfAbsent(account.getId(), account));
+
+        Set<Long> rivalryAccountIds = new HashSet<>();
+        staleRivals.forEach(account -> rivalryAccountIds.add(account.getId()));
+        if (!trackedIds.isEmpty()) {
+            rivalryAccountIds.addAll(riotAccountRepository.findRivalryAccountIdsIn(trackedIds));
+        }
+
+        return renewPriorityQueue.poll(candidates.values(), rivalryAccountIds, batchSize, now);
+    }
+
+    private void renew(RiotAccount account) {
+        inFlight.incrementAndGet();
+        try {
+            tftFacade.renewAllTftData(account);
+            renewedCount.incrementAndGet();
+            logger.debug("Background renew completed for {}", account.getFullGameName());
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            logger.warn("Background renew failed for {}: {}", account.getFullGameName(), e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private boolean hasSpareBudget() {
+        for (RiotRegion region : RiotRegion.values()) {
+            if (riotRateLimiter.availableRatio(region) < minSpareRatio) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,129 @@
+package com.glennsyj.rivals.api.tft.scheduler;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 백그라운드 갱신 대상 우선순위 계산
+ *
+ * 우선순위 = 최근 조회 수(반감기 적용) * lookupWeight + 라이벌 참여 여부 * rivalryWeight + 오래된 정도(시간)
+ * 같은 계정이 계속 뽑히지 않도록 한 번 뽑힌 계정은 cooldown 동안 제외한다.
+ */
+@Component
+public class RenewPriorityQueue {
+
+    private final Map<Long, LookupDemand> demands = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> lastScheduledAt = new ConcurrentHashMap<>();
+
+    private final long lookupHalfLifeMillis;
+    private final int maxTrackedAccounts;
+    private final double lookupWeight;
+    private final double rivalryWeight;
+    private final Duration staleAfter;
+    private final Duration cooldown;
+
+    public RenewPriorityQueue(
+            @Value("${rivals.renew.scheduler.lookup-half-life-minutes:30}") long lookupHalfLifeMinutes,
+            @Value("${rivals.renew.scheduler.max-tracked-accounts:1000}") int maxTrackedAccounts,
+            @Value("${rivals.renew.scheduler.lookup-weight:2.0}") double lookupWeight,
+            @Value("${rivals.renew.scheduler.rivalry-weight:3.0}") double rivalryWeight,
+            @Value("${rivals.renew.scheduler.stale-after-minutes:30}") long staleAfterMinutes,
+            @Value("${rivals.renew.scheduler.cooldown-minutes:10}") long cooldownMinutes) {
+        this.lookupHalfLifeMillis = Duration.ofMinutes(lookupHalfLifeMinutes).toMillis();
+        this.maxTrackedAccounts = maxTrackedAccounts;
+        this.lookupWeight = lookupWeight;
+        this.rivalryWeight = rivalryWeight;
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+        this.cooldown = Duration.ofMinutes(cooldownMinutes);
+    }
+
+    public void recordLookup(Long accountId) {
+        long now = System.currentTimeMillis();
+        demands.compute(accountId, (id, demand) -> demand == null
+                ? new LookupDemand(1.0, now)
+                : new LookupDemand(demand.decayedCount(now, lookupHalfLifeMillis) + 1.0, now));
+
+        if (demands.size() > maxTrackedAccounts) {
+            evictColdest(now);
+        }
+    }
+
+    public Set<Long> trackedAccountIds() {
+        return Set.copyOf(demands.keySet());
+    }
+
+    /**
+     * 후보 계정 중 우선순위가 높은 순으로 limit개를 뽑고, 뽑힌 계정은 cooldown을 시작한다.
+     * 갱신된 지 staleAfter가 지나지 않았거나 cooldown 중인 계정은 제외한다.
+     */
+    public List<RiotAccount> poll(Collection<RiotAccount> candidates, Set<Long> rivalryAccountIds,
+                                  int limit, LocalDateTime now) {
+        long nowMillis = System.currentTimeMillis();
+        lastScheduledAt.values().removeIf(scheduledAt -> !scheduledAt.plus(cooldown).isAfter(now));
+
+        List<RiotAccount> selected = candidates.stream()
+                .filter(account -> isStale(account, now))
+                .filter(account -> !isCoolingDown(account.getId(), now))
+                .sorted(Comparator.comparingDouble(
+                        (RiotAccount account) -> score(account, rivalryAccountIds, now, nowMillis)).reversed())
+                .limit(limit)
+                .toList();
+
+        selected.forEach(account -> lastScheduledAt.put(account.getId(), now));
+        return selected;
+    }
+
+    double score(RiotAccount account, Set<Long> rivalryAccountIds, LocalDateTime now, long nowMillis) {
+        LookupDemand demand = demands.get(account.getId());
+        double lookups = demand == null ? 0.0 : demand.decayedCount(nowMillis, lookupHalfLifeMillis);
+        double rivalry = rivalryAccountIds.contains(account.getId()) ? 1.0 : 0.0;
+
+        // 한 번도 갱신되지 않은 계정은 하루 동안 방치된 것으로 취급
+        double staleHours = account.getUpdatedAt() == null
+                ? 24.0
+                : Math.min(24.0, Duration.between(account.getUpdatedAt(), now).toMinutes() / 60.0);
+
+        return lookups * lookupWeight + rivalry * rivalryWeight + staleHours;
+    }
+
+    public int size() {
+        return demands.size();
+    }
+
+    public void clear() {
+        demands.clear();
+        lastScheduledAt.clear();
+    }
+
+    private boolean isStale(RiotAccount account, LocalDateTime now) {
+        return account.getUpdatedAt() == null || account.getUpdatedAt().plus(staleAfter).isBefore(now);
+    }
+
+    private boolean isCoolingDown(Long accountId, LocalDateTime now) {
+        LocalDateTime scheduledAt = lastScheduledAt.get(accountId);
+        return scheduledAt != null && scheduledAt.plus(cooldown).isAfter(now);
+    }
+
+    private void evictColdest(long now) {
+        demands.entrySet().stream()
+                .min(Comparator.comparingDouble(entry -> entry.getValue().decayedCount(now, lookupHalfLifeMillis)))
+                .ifPresent(entry -> demands.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private record LookupDemand(double count, long updatedAtMillis) {
+        double decayedCount(long now, long halfLifeMillis) {
+            long elapsed = Math.max(0, now - updatedAtMillis);
+            return count * Math.pow(0.5, (double) elapsed / halfLifeMillis);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.glennsyj.rivals.api.tft.scheduler;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 백그라운드 갱신 스케줄러 관리용 actuator 엔드포인트
+ *
+ * GET  /actuator/renewscheduler          상태 조회
+ * POST /actuator/renewscheduler/{action} pause | resume | drain
+ *
+ * actuator 경로에는 인증이 없으므로 기본 설정에서는 웹 노출에서 제외하고(management.endpoints.web.exposure.exclude),
+ * JMX(spring.jmx.enabled=true)로 조작한다. 웹으로 열려면 인증을 먼저 붙여야 한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rivals.renew.scheduler", name = "enabled", havingValue = "true")
+@Endpoint(id = "renewscheduler")
+public class RenewSchedulerEndpoint {
+
+    private final BackgroundRenewScheduler backgroundRenewScheduler;
+
+    public RenewSchedulerEndpoint(BackgroundRenewScheduler backgroundRenewScheduler) {
+        this.backgroundRenewScheduler = backgroundRenewScheduler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return backgroundRenewScheduler.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(@Selector String action) {
+        switch (action) {
+            case "pause" -> backgroundRenewScheduler.pause();
+            case "resume" -> backgroundRenewScheduler.resume();
+            case "drain" -> backgroundRenewScheduler.drain();
+            default -> throw new IllegalArgumentException("지원하지 않는 동작입니다: " + action);
+        }
+        return backgroundRenewScheduler.status();
+    }
+}
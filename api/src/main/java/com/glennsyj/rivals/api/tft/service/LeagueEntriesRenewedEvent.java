@@ -0,0 +1,11 @@
+package com.glennsyj.rivals.api.tft.service;
+
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+
+import java.util.List;
+
+/**
+ * 계정의 리그 엔트리가 저장(최초 생성 또는 갱신)되었음을 알림 (저장 트랜잭션 안에서 발행)
+ */
+public record LeagueEntriesRenewedEvent(String puuid, List<TftLeagueEntry> entries) {
+}
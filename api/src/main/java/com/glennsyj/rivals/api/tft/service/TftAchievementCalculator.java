@@ -0,0 +1,98 @@
+package com.glennsyj.rivals.api.tft.service;
+
+import com.glennsyj.rivals.api.tft.entity.achievement.AchievementType;
+import com.glennsyj.rivals.api.tft.entity.achievement.TftBadgeWindow;
+import com.glennsyj.rivals.api.tft.entity.achievement.TftMatchAchievement;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 매치 참가자 정보만으로 업적을 계산 (DB 접근 없음)
+ */
+public final class TftAchievementCalculator {
+
+    private TftAchievementCalculator() {}
+
+    public static List<TftMatchAchievement> calculate(TftMatch match) {
+        List<TftMatchParticipant> participants = match.getParticipants();
+        List<TftMatchAchievement> achievements = new ArrayList<>();
+
+        // 가장 비싼 스쿼드 찾기
+        TftMatchParticipant mostExpensive = findMostExpensiveSquad(participants);
+        achievements.add(new TftMatchAchievement(match, AchievementType.MOST_EXPENSIVE_SQUAD,
+            mostExpensive, calculateSquadValue(mostExpensive)));
+
+        // 최대 데미지
+        TftMatchParticipant mostDamage = findHighestDamageDealer(participants);
+        achievements.add(new TftMatchAchievement(match, AchievementType.MOST_DAMAGE_DEALT,
+            mostDamage, mostDamage.getTotalDamageToPlayers()));
+
+        // 최다 처치
+        TftMatchParticipant mostEliminations = findMostEliminations(participants);
+        achievements.add(new TftMatchAchievement(match, AchievementType.MOST_ELIMINATIONS,
+            mostEliminations, mostEliminations.getPlayersEliminated()));
+
+        // 1등
+        participants.stream()
+            .filter(p -> p.getPlacement() == 1)
+            .findFirst()
+            .ifPresent(winner -> achievements.add(
+                new TftMatchAchievement(match, AchievementType.FIRST_PLACE, winner, 1)));
+
+        // 상위 4등
+        participants.stream()
+            .filter(p -> p.getPlacement() <= 4)
+            .map(p -> new TftMatchAchievement(match, AchievementType.TOP_FOUR, p, p.getPlacement()))
+            .forEach(achievements::add);
+
+        return achievements;
+    }
+
+    /**
+     * 해당 매치에서 puuid 참가자가 달성한 업적의 비트마스크
+     */
+    public static int achievementMaskOf(TftMatch match, String puuid) {
+        int mask = 0;
+        for (TftMatchAchievement achievement : calculate(match)) {
+            if (puuid.equals(achievement.getAchiever().getPuuid())) {
+                mask |= TftBadgeWindow.maskOf(achievement.getType());
+            }
+        }
+        return mask;
+    }
+
+    private static TftMatchParticipant findMostExpensiveSquad(List<TftMatchParticipant> participants) {
+        return Collections.max(participants, Comparator.comparing(TftAchievementCalculator::calculateSquadValue));
+    }
+
+    private static int calculateSquadValue(TftMatchParticipant participant) {
+        return participant.getUnits().stream()
+            .mapToInt(unit -> {
+                int basePrice = switch (unit.rarity()) {
+                    case 0 -> 1;  // 1원 유닛
+                    case 1 -> 2;  // 2원 유닛
+                    case 2 -> 3;  // 3원 유닛
+                    case 4 -> 4;  // 4원 유닛
+                    case 6 -> 5;  // 5원 유닛
+                    default -> 0;
+                };
+                return basePrice * (int) Math.pow(3, unit.tier() - 1);
+            })
+            .sum();
+    }
+
+    private static TftMatchParticipant findHighestDamageDealer(List<TftMatchParticipant> participants) {
+        return Collections.max(participants,
+            Comparator.comparing(TftMatchParticipant::getTotalDamageToPlayers));
+    }
+
+    private static TftMatchParticipant findMostEliminations(List<TftMatchParticipant> participants) {
+        return Collections.max(participants,
+            Comparator.comparing(TftMatchParticipant::getPlayersEliminated));
+    }
+}
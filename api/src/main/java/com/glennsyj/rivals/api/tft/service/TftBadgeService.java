@@ -2,15 +2,16 @@ package com.glennsyj.rivals.api.tft.service;
 
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
 import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
-import com.glennsyj.rivals.api.tft.entity.achievement.AchievementType;
 import com.glennsyj.rivals.api.tft.entity.achievement.TftBadgeProgress;
+import com.glennsyj.rivals.api.tft.entity.achievement.TftBadgeWindow;
 import com.glennsyj.rivals.api.tft.entity.achievement.TftMatchAchievement;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
-import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
 import com.glennsyj.rivals.api.tft.model.badge.TftBadgeBulkResponseDto;
 import com.glennsyj.rivals.api.tft.model.badge.TftBadgeDto;
 import com.glennsyj.rivals.api.tft.repository.TftBadgeProgressRepository;
+import com.glennsyj.rivals.api.tft.repository.TftBadgeWindowRepository;
 import com.glennsyj.rivals.api.tft.repository.TftMatchAchievementRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
 import com.glennsyj.rivals.api.riot.service.RiotAccountManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,128 +22,85 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 public class TftBadgeService {
-    private static final int RECENT_MATCHES_COUNT = 20;
-
     private final TftMatchAchievementRepository achievementRepository;
     private final TftBadgeProgressRepository badgeProgressRepository;
+    private final TftBadgeWindowRepository badgeWindowRepository;
+    private final TftMatchRepository tftMatchRepository;
     private final RiotAccountManager riotAccountManager;
     private final RiotAccountRepository riotAccountRepository;
 
     public TftBadgeService(
             TftMatchAchievementRepository achievementRepository,
             TftBadgeProgressRepository badgeProgressRepository,
+            TftBadgeWindowRepository badgeWindowRepository,
+            TftMatchRepository tftMatchRepository,
             RiotAccountManager riotAccountManager, RiotAccountRepository riotAccountRepository) {
         this.achievementRepository = achievementRepository;
         this.badgeProgressRepository = badgeProgressRepository;
+        this.badgeWindowRepository = badgeWindowRepository;
+        this.tftMatchRepository = tftMatchRepository;
         this.riotAccountManager = riotAccountManager;
         this.riotAccountRepository = riotAccountRepository;
     }
 
+    /**
+     * 새로 저장된 매치들의 업적을 계산해 한 번에 저장합니다.
+     * 아웃박스 이벤트 처리 시 매치당 한 번 호출되며, (match_id, type, participant_id) 유니크 제약으로 중복 저장을 막습니다.
+     */
     @Transactional
-    public void processMatchAchievements(TftMatch match) {
-        // 1. 매치 내 업적 계산 및 저장
-        calculateAndSaveAchievements(match);
-    }
+    public void processMatchAchievements(List<TftMatch> newMatches) {
+        List<TftMatchAchievement> achievements = newMatches.stream()
+            .flatMap(match -> TftAchievementCalculator.calculate(match).stream())
+            .toList();
 
-    private void calculateAndSaveAchievements(TftMatch match) {
-        List<TftMatchParticipant> participants = match.getParticipants();
-        List<TftMatchAchievement> achievements = new ArrayList<>();
-
-        // 가장 비싼 스쿼드 찾기
-        TftMatchParticipant mostExpensive = findMostExpensiveSquad(participants);
-        achievements.add(createAchievement(match, AchievementType.MOST_EXPENSIVE_SQUAD, 
-            mostExpensive, calculateSquadValue(mostExpensive)));
-
-        // 최대 데미지
-        TftMatchParticipant mostDamage = findHighestDamageDealer(participants);
-        achievements.add(createAchievement(match, AchievementType.MOST_DAMAGE_DEALT, 
-            mostDamage, mostDamage.getTotalDamageToPlayers()));
-
-        // 최다 처치
-        TftMatchParticipant mostEliminations = findMostEliminations(participants);
-        achievements.add(createAchievement(match, AchievementType.MOST_ELIMINATIONS, 
-            mostEliminations, mostEliminations.getPlayersEliminated()));
-
-        // 1등
-        participants.stream()
-            .filter(p -> p.getPlacement() == 1)
-            .findFirst()
-            .ifPresent(winner -> achievements.add(
-                createAchievement(match, AchievementType.FIRST_PLACE, winner, 1)));
-
-        // 상위 4등
-        participants.stream()
-            .filter(p -> p.getPlacement() <= 4)
-            .map(p -> createAchievement(match, AchievementType.TOP_FOUR, p, p.getPlacement()))
-            .forEach(achievements::add);
-
-        // 한 번에 모든 업적 저장
-        achievementRepository.saveAll(achievements);
-    }
-
-    private TftMatchAchievement createAchievement(TftMatch match, AchievementType type, 
-        TftMatchParticipant achiever, Integer value) {
-        return new TftMatchAchievement(match, type, achiever, value);
+        if (!achievements.isEmpty()) {
+            achievementRepository.saveAll(achievements);
+        }
     }
 
+    /**
+     * 최근 매치로 뱃지 윈도우를 다시 구성해 뱃지 진행도를 갱신합니다.
+     * 윈도우에 없던 매치만 업적을 계산하므로 업적 집계 쿼리 없이 새 매치 수에 비례하는 비용만 듭니다.
+     */
     @Transactional
-    public List<TftBadgeDto> renewAccountBadges(RiotAccount account) {
-        // 각 뱃지 타입별로 진행도 업데이트
-        for (TftBadgeProgress.BadgeType badgeType : TftBadgeProgress.BadgeType.values()) {
-            updateBadgeProgress(account, badgeType);
+    public List<TftBadgeDto> renewAccountBadges(RiotAccount account, List<TftMatch> recentMatches) {
+        TftBadgeWindow window = badgeWindowRepository.findByRiotAccountId(account.getId())
+            .orElseGet(() -> new TftBadgeWindow(account));
+
+        // 최신순 최근 N경기 기준으로 구성 (늦게 저장된 과거 매치도 N경기 안이면 반영)
+        Map<Long, TftMatch> matchesById = new LinkedHashMap<>();
+        recentMatches.stream()
+            .sorted(Comparator.comparing(TftMatch::getGameCreation).thenComparing(TftMatch::getId).reversed())
+            .forEach(match -> matchesById.putIfAbsent(match.getId(), match));
+        boolean changed = window.sync(new ArrayList<>(matchesById.keySet()),
+            matchId -> TftAchievementCalculator.achievementMaskOf(matchesById.get(matchId), account.getPuuid()));
+
+        Map<TftBadgeProgress.BadgeType, TftBadgeProgress> progresses = new EnumMap<>(TftBadgeProgress.BadgeType.class);
+        for (TftBadgeProgress progress : badgeProgressRepository.findByRiotAccount(account)) {
+            progresses.put(progress.getBadgeType(), progress);
         }
 
-        // 업데이트된 배지 반환
-        return getBadges(account);
-    }
-
-    private void updateBadgeProgress(RiotAccount account, TftBadgeProgress.BadgeType badgeType) {
-        // 진행도 조회 또는 생성
-        TftBadgeProgress progress = badgeProgressRepository
-            .findByRiotAccountAndBadgeType(account, badgeType)
-            .orElseGet(() -> new TftBadgeProgress(account, badgeType));
-
-        // 최근 N경기의 업적 달성 횟수 조회
-        int recentCount = achievementRepository.countRecentAchievements(
-            account.getPuuid(),
-            badgeType.getAchievementType().toString(),
-            RECENT_MATCHES_COUNT
-        );
-
-        // 진행도 업데이트
-        progress.updateProgress(recentCount);
-        badgeProgressRepository.save(progress);
-    }
-
-    // 업적 계산 헬퍼 메서드들
-    private TftMatchParticipant findMostExpensiveSquad(List<TftMatchParticipant> participants) {
-        return Collections.max(participants, Comparator.comparing(this::calculateSquadValue));
-    }
+        // 윈도우 구성이 그대로이고 뱃지도 모두 있으면 그대로 반환
+        if (!changed && progresses.size() == TftBadgeProgress.BadgeType.values().length) {
+            return progresses.values().stream()
+                .map(TftBadgeDto::from)
+                .collect(Collectors.toList());
+        }
 
-    private int calculateSquadValue(TftMatchParticipant participant) {
-        return participant.getUnits().stream()
-            .mapToInt(unit -> {
-                int basePrice = switch (unit.rarity()) {
-                    case 0 -> 1;  // 1원 유닛
-                    case 1 -> 2;  // 2원 유닛
-                    case 2 -> 3;  // 3원 유닛
-                    case 4 -> 4;  // 4원 유닛
-                    case 6 -> 5;  // 5원 유닛
-                    default -> 0;
-                };
-                return basePrice * (int) Math.pow(3, unit.tier() - 1);
-            })
-            .sum();
-    }
+        List<TftBadgeProgress> updated = Arrays.stream(TftBadgeProgress.BadgeType.values())
+            .map(badgeType -> progresses.getOrDefault(badgeType, new TftBadgeProgress(account, badgeType)))
+            .toList();
+        for (TftBadgeProgress progress : updated) {
+            progress.updateProgress(window.count(progress.getBadgeType().getAchievementType()));
+        }
 
-    private TftMatchParticipant findHighestDamageDealer(List<TftMatchParticipant> participants) {
-        return Collections.max(participants, 
-            Comparator.comparing(TftMatchParticipant::getTotalDamageToPlayers));
-    }
+        badgeWindowRepository.save(window);
+        // 신규 뱃지는 INSERT, 기존 뱃지는 dirty checking으로 flush 시점에 배치 UPDATE
+        badgeProgressRepository.saveAll(updated);
 
-    private TftMatchParticipant findMostEliminations(List<TftMatchParticipant> participants) {
-        return Collections.max(participants, 
-            Comparator.comparing(TftMatchParticipant::getPlayersEliminated));
+        return updated.stream()
+            .map(TftBadgeDto::from)
+            .collect(Collectors.toList());
     }
 
     /**
@@ -190,32 +148,16 @@ public class TftBadgeService {
 
     /**
      * 계정의 뱃지를 초기화하거나 가져옵니다.
-     * 뱃지가 없는 경우 새로 생성하고, 있는 경우 기존 뱃지를 반환합니다.
+     * 뱃지가 없는 경우 저장된 최근 매치로 뱃지 윈도우를 구성해 새로 생성하고, 있는 경우 기존 뱃지를 반환합니다.
+     * 이후 갱신과 같은 윈도우 기준으로 계산하므로 업적 집계 결과와 진행도가 어긋나지 않습니다.
      */
     private List<TftBadgeDto> initializeOrGetBadges(RiotAccount account) {
         List<TftBadgeProgress> existingBadges = badgeProgressRepository.findByRiotAccount(account);
         
         if (existingBadges.isEmpty()) {
-            // 뱃지가 없는 경우, 모든 뱃지 타입에 대해 새로운 진행도 생성
-            List<TftBadgeProgress> newBadges = Arrays.stream(TftBadgeProgress.BadgeType.values())
-                .map(badgeType -> {
-                    TftBadgeProgress progress = new TftBadgeProgress(account, badgeType);
-                    // 최근 N경기의 업적 달성 횟수 조회 및 설정
-                    int recentCount = achievementRepository.countRecentAchievements(
-                        account.getPuuid(),
-                        badgeType.getAchievementType().toString(),
-                        RECENT_MATCHES_COUNT
-                    );
-                    progress.updateProgress(recentCount);
-                    return progress;
-                })
-                .collect(Collectors.toList());
-            
-            // 새로운 뱃지들 저장
-            badgeProgressRepository.saveAll(newBadges);
-            return newBadges.stream()
-                .map(TftBadgeDto::from)
-                .collect(Collectors.toList());
+            // 뱃지가 없는 경우, Riot API 호출 없이 DB에 저장된 최근 매치만으로 윈도우와 모든 뱃지 진행도를 생성
+            return renewAccountBadges(account, tftMatchRepository.findRecentMatchesWithParticipants(
+                account.getPuuid(), TftBadgeWindow.CAPACITY));
         }
         
         // 기존 뱃지가 있는 경우, 그대로 반환
@@ -223,14 +165,4 @@ public class TftBadgeService {
             .map(TftBadgeDto::from)
             .collect(Collectors.toList());
     }
-
-    /**
-     * 계정의 뱃지를 가져옵니다.
-     */
-    private List<TftBadgeDto> getBadges(RiotAccount account) {
-        List<TftBadgeProgress> existingBadges = badgeProgressRepository.findByRiotAccount(account);
-        return existingBadges.stream()
-                .map(TftBadgeDto::from)
-                .collect(Collectors.toList());
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.glennsyj.rivals.api.tft.service;
+
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot.Resolution;
+import com.glennsyj.rivals.api.tft.repository.TftLeagueEntrySnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 리그 엔트리 변화 기록(tft_league_entry_snapshots) 관리
+ *
+ * 엔트리가 저장될 때마다 값이 바뀐 경우에만 RAW 행을 추가하고, 주기적으로 다운샘플링한다.
+ * - raw-retention-days가 지난 RAW 행: 시간 단위 마지막 값만 남기고 HOURLY로 전환
+ * - hourly-retention-days가 지난 HOURLY 행: 일 단위 마지막 값만 남기고 DAILY로 전환
+ */
+@Service
+public class TftLeagueEntryHistoryManager {
+
+    private static final String HOURLY_BUCKET = "%Y-%m-%d %H";
+    private static final String DAILY_BUCKET = "%Y-%m-%d";
+
+    private final Logger logger = LoggerFactory.getLogger(TftLeagueEntryHistoryManager.class);
+
+    private final TftLeagueEntrySnapshotRepository snapshotRepository;
+    private final Duration rawRetention;
+    private final Duration hourlyRetention;
+
+    public TftLeagueEntryHistoryManager(
+            TftLeagueEntrySnapshotRepository snapshotRepository,
+            @Value("${rivals.tft.league-history.raw-retention-days:7}") long rawRetentionDays,
+            @Value("${rivals.tft.league-history.hourly-retention-days:90}") long hourlyRetentionDays) {
+        this.snapshotRepository = snapshotRepository;
+        this.rawRetention = Duration.ofDays(rawRetentionDays);
+        this.hourlyRetention = Duration.ofDays(hourlyRetentionDays);
+    }
+
+    /**
+     * 저장된 엔트리를 같은 트랜잭션에서 기록
+     * 백그라운드 갱신이나 재검증처럼 값이 그대로인 갱신은 마지막 기록과 같으므로 행을 추가하지 않음
+     */
+    @EventListener
+    @Transactional
+    public void onLeagueEntriesRenewed(LeagueEntriesRenewedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TftLeagueEntrySnapshot> snapshots = event.entries().stream()
+                .filter(entry -> snapshotRepository
+                        .findFirstByAccountIdAndQueueTypeOrderByCapturedAtDesc(entry.getAccount().getId(), entry.getQueueType())
+                        .map(last -> !last.hasSameValues(entry))
+                        .orElse(true))
+                .map(entry -> new TftLeagueEntrySnapshot(entry, now))
+                .toList();
+        if (!snapshots.isEmpty()) {
+            snapshotRepository.saveAll(snapshots);
+        }
+    }
+
+    /**
+     * from 이후 기록을 오래된 순으로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<TftLeagueEntrySnapshot> findHistory(Long accountId, TftLeagueEntry.QueueType queueType,
+                                                    LocalDateTime from) {
+        return snapshotRepository
+                .findAllByAccountIdAndQueueTypeAndCapturedAtGreaterThanEqualOrderByCapturedAtAsc(
+                        accountId, queueType, from);
+    }
+
+    @Scheduled(
+            initialDelayString = "${rivals.tft.league-history.initial-delay-ms:60000}",
+            fixedDelayString = "${rivals.tft.league-history.downsample-interval-ms:3600000}")
+    @Transactional
+    public void downsample() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 기준 시각을 버킷 경계에 맞춰, 한 버킷의 행이 기준 시각 앞뒤로 나뉘어 일부만 전환되지 않도록 함
+        LocalDateTime rawBefore = now.minus(rawRetention).truncatedTo(ChronoUnit.HOURS);
+        int rawDeleted = snapshotRepository.deleteSupersededInBucket(Resolution.RAW.name(), HOURLY_BUCKET, rawBefore);
+        snapshotRepository.promote(Resolution.RAW.name(), Resolution.HOURLY.name(), rawBefore);
+
+        LocalDateTime hourlyBefore = now.minus(hourlyRetention).truncatedTo(ChronoUnit.DAYS);
+        int hourlyDeleted = snapshotRepository.deleteSupersededInBucket(Resolution.HOURLY.name(), DAILY_BUCKET, hourlyBefore);
+        snapshotRepository.promote(Resolution.HOURLY.name(), Resolution.DAILY.name(), hourlyBefore);
+
+        if (rawDeleted + hourlyDeleted > 0) {
+            logger.debug("Downsampled league entry history: {} raw, {} hourly row(s) removed", rawDeleted, hourlyDeleted);
+        }
+    }
+}
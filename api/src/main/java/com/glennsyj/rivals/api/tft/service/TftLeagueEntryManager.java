@@ -7,14 +7,13 @@ import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
 import com.glennsyj.rivals.api.tft.model.entry.TftLeagueEntryResponse;
 import com.glennsyj.rivals.api.tft.repository.TftLeagueEntryRepository;
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Isolation;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,14 +22,17 @@ public class TftLeagueEntryManager {
     private final TftLeagueEntryRepository tftLeagueEntryRepository;
     private final RiotAccountRepository riotAccountRepository;
     private final TftApiClient tftApiClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TftLeagueEntryManager(
             TftLeagueEntryRepository tftLeagueEntryRepository,
             RiotAccountRepository riotAccountRepository,
-            TftApiClient tftApiClient) {
+            TftApiClient tftApiClient,
+            ApplicationEventPublisher eventPublisher) {
         this.tftLeagueEntryRepository = tftLeagueEntryRepository;
         this.riotAccountRepository = riotAccountRepository;
         this.tftApiClient = tftApiClient;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -70,80 +72,83 @@ public class TftLeagueEntryManager {
      * @return
      *
      */
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    @Transactional
     public List<TftLeagueEntry> findOrCreateLeagueEntries(Long accountId) {
-        try {
-            List<TftLeagueEntry> entries = tftLeagueEntryRepository.findLatestEntriesForEachQueueTypeByAccountId(accountId);
+        List<TftLeagueEntry> entries = tftLeagueEntryRepository.findAllByAccount_Id(accountId);
 
-            if (!entries.isEmpty()) {
-                return entries;
-            }
+        if (!entries.isEmpty()) {
+            return entries;
+        }
 
-            RiotAccount account = riotAccountRepository.findById(accountId)
-                    .orElseThrow(() -> new IllegalStateException("계정을 찾을 수 없습니다: " + accountId));
+        RiotAccount account = riotAccountRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalStateException("계정을 찾을 수 없습니다: " + accountId));
 
-            List<TftLeagueEntryResponse> responses = tftApiClient.getLeagueEntries(account.getPuuid());
+        List<TftLeagueEntryResponse> responses = tftApiClient.getLeagueEntries(account.getPuuid());
 
-            List<TftLeagueEntry> newEntries = new ArrayList<>(responses.size());
+        if (responses.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            if (responses.isEmpty()) {
-                return newEntries;
-            }
+        // 동시에 같은 계정을 처음 조회해도 (account_id, queue_type) 기준 upsert이므로 중복 행이 생기지 않음
+        return upsertAndPublish(account, responses);
+    }
 
-            for (TftLeagueEntryResponse response : responses) {
-                newEntries.add(new TftLeagueEntry(account, response));
-            }
+    /**
+     * Riot API 호출 없이 DB에 저장된 QueueType 별 최신 Entry만 조회
+     */
+    @Transactional(readOnly = true)
+    public List<TftLeagueEntry> findStoredLeagueEntries(Long accountId) {
+        return tftLeagueEntryRepository.findAllByAccount_Id(accountId);
+    }
 
-            return tftLeagueEntryRepository.saveAll(newEntries);
-        } catch (OptimisticLockingFailureException e) {
-            // 동시성 충돌 발생 시 재시도
-            return findOrCreateLeagueEntries(accountId);
-        }
+    /**
+     * 존재하는 계정 갱신 시 Riot API에서 Entry 정보를 받아옴
+     * 외부 호출 동안 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     * 이번 시즌 랭크 기록이 없는 계정은 빈 리스트를 반환 (갱신 자체는 정상 완료되어야 updatedAt이 기록됨)
+     *
+     * @param puuid
+     * @return
+     */
+    public List<TftLeagueEntryResponse> fetchLeagueEntries(String puuid) {
+        return tftApiClient.getLeagueEntries(puuid);
     }
 
     /**
-     * 존재하는 계정 갱신 시 Entry 정보 갱신
+     * 받아온 Entry 정보로 QueueType 별 Entry 갱신 (Riot API 호출 없음)
      *
-     * @param accountId, puuid
+     * @param accountId, responses
      * @return
      */
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
-    public List<TftLeagueEntry> renewEntry(Long accountId, String puuid) {
-        try {
-            List<TftLeagueEntryResponse> responses = tftApiClient.getLeagueEntries(puuid);
-            if (responses.isEmpty()) {
-                throw new IllegalStateException("이번 시즌 TFT 랭크 기록이 존재하지 않습니다");
-            }
-
-            RiotAccount account = riotAccountRepository.findById(accountId).orElseThrow(
-                    EntityNotFoundException::new
-            );
-
-            List<TftLeagueEntry> entries = tftLeagueEntryRepository
-                    .findLatestEntriesForEachQueueTypeByAccountId(accountId);
-
-            Map<String, TftLeagueEntry> entriesByQueueType = entries.stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getQueueType().toString(),
-                            entry -> entry
-                    ));
-
-            List<TftLeagueEntry> updatedEntries = responses.stream()
-                    .map(response -> {
-                        TftLeagueEntry entry = entriesByQueueType.get(response.queueType());
-                        if (entry != null) {
-                            entry.updateFrom(response);
-                            return entry;
-                        } else {
-                            return new TftLeagueEntry(account, response);
-                        }
-                    })
-                    .collect(Collectors.toList());
-
-            return tftLeagueEntryRepository.saveAll(updatedEntries);
-        } catch (OptimisticLockingFailureException e) {
-            // 동시성 충돌 발생 시 재시도
-            return renewEntry(accountId, puuid);
+    @Transactional
+    public List<TftLeagueEntry> saveRenewedEntries(Long accountId, List<TftLeagueEntryResponse> responses) {
+        RiotAccount account = riotAccountRepository.findById(accountId).orElseThrow(
+                EntityNotFoundException::new
+        );
+
+        // 랭크 기록이 없는 계정은 저장할 엔트리가 없음
+        if (responses.isEmpty()) {
+            return new ArrayList<>();
         }
+
+        // 기존 엔트리를 조회해서 변경하지 않고 큐타입별로 한 문장씩 덮어씀
+        return upsertAndPublish(account, responses);
+    }
+
+    private List<TftLeagueEntry> upsertAndPublish(RiotAccount account, List<TftLeagueEntryResponse> responses) {
+        List<TftLeagueEntry> entries = responses.stream()
+                .map(response -> new TftLeagueEntry(account, response))
+                .toList();
+        tftLeagueEntryRepository.upsertAll(entries);
+
+        // 이번에 받은 큐타입의 엔트리만 반환 (응답에 없는 큐타입의 기존 행은 그대로 둠)
+        Set<TftLeagueEntry.QueueType> queueTypes = entries.stream()
+                .map(TftLeagueEntry::getQueueType)
+                .collect(Collectors.toSet());
+        List<TftLeagueEntry> savedEntries = tftLeagueEntryRepository.findAllByAccount_Id(account.getId()).stream()
+                .filter(entry -> queueTypes.contains(entry.getQueueType()))
+                .toList();
+        // 라이벌리 통계, LP 기록 등 리그 점수를 따로 유지하는 곳은 같은 트랜잭션에서 함께 갱신
+        eventPublisher.publishEvent(new LeagueEntriesRenewedEvent(account.getPuuid(), savedEntries));
+        return savedEntries;
     }
 }
@@ -1,89 +1,93 @@
 package com.glennsyj.rivals.api.tft.service;
 
-import com.glennsyj.rivals.api.riot.entity.RiotAccount;
-import com.glennsyj.rivals.api.tft.TftApiClient;
-import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.common.client.retry.RiotRetryPolicy;
+import com.glennsyj.rivals.api.tft.cache.TftMatchCache;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
+import com.glennsyj.rivals.api.tft.entity.match.TftPlayerMatchIndex;
+import com.glennsyj.rivals.api.tft.entity.outbox.TftOutboxEvent;
 import com.glennsyj.rivals.api.tft.model.match.MatchSyncResult;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchCursor;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchFetchResult;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchResponse;
-import com.glennsyj.rivals.api.tft.repository.TftLeagueEntryRepository;
+import com.glennsyj.rivals.api.tft.outbox.MatchesIngestedEvent;
 import com.glennsyj.rivals.api.tft.repository.TftMatchParticipantRepository;
 import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
-import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
+import com.glennsyj.rivals.api.tft.repository.TftOutboxEventRepository;
+import com.glennsyj.rivals.api.tft.repository.TftPlayerMatchIndexRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.hibernate.Hibernate;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
 public class TftMatchManager {
+    private static final Logger logger = LoggerFactory.getLogger(TftMatchManager.class);
 
     private static final int RECENT_MATCHES_LIMIT = 20;
+    private static final int MATCH_FETCH_CONCURRENCY = 4;
+    private static final int STREAM_SAVE_BATCH_SIZE = 10;
 
     private final TftMatchParticipantRepository tftMatchParticipantRepository;
-    private final TftLeagueEntryRepository tftLeagueEntryRepository;
     private final TftMatchRepository tftMatchRepository;
-    private final RiotAccountRepository riotAccountRepository;
-    private final TftApiClient tftApiClient;
-    private final TftBadgeService tftBadgeService;
+    private final TftMatchCache tftMatchCache;
+    private final TftMatchSyncCursorManager tftMatchSyncCursorManager;
+    private final TftPlayerMatchIndexRepository tftPlayerMatchIndexRepository;
+    private final TftOutboxEventRepository tftOutboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public TftMatchManager(TftMatchParticipantRepository tftMatchParticipantRepository,
-                           TftLeagueEntryRepository tftLeagueEntryRepository,
                            TftMatchRepository tftMatchRepository,
-                           RiotAccountRepository riotAccountRepository,
-                           TftApiClient tftApiClient,
-                           TftBadgeService tftBadgeService) {
+                           TftMatchCache tftMatchCache,
+                           TftMatchSyncCursorManager tftMatchSyncCursorManager,
+                           TftPlayerMatchIndexRepository tftPlayerMatchIndexRepository,
+                           TftOutboxEventRepository tftOutboxEventRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate) {
         this.tftMatchParticipantRepository = tftMatchParticipantRepository;
-        this.tftLeagueEntryRepository = tftLeagueEntryRepository;
         this.tftMatchRepository = tftMatchRepository;
-        this.riotAccountRepository = riotAccountRepository;
-        this.tftApiClient = tftApiClient;
-        this.tftBadgeService = tftBadgeService;
+        this.tftMatchCache = tftMatchCache;
+        this.tftMatchSyncCursorManager = tftMatchSyncCursorManager;
+        this.tftPlayerMatchIndexRepository = tftPlayerMatchIndexRepository;
+        this.tftOutboxEventRepository = tftOutboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    @Transactional
+    /**
+     * Riot API 호출 동안에는 트랜잭션(커넥션)을 잡지 않고, 저장 단계만 짧은 트랜잭션으로 처리
+     */
     public MatchSyncResult findOrCreateRecentTftMatches(Long accountId, String puuid) {
         // 1. 기존 매치 조회
-        List<TftMatch> existingMatches = tftMatchRepository.findTop20ByParticipantsPuuidOrderByGameCreationDesc(puuid);
-        Set<String> existingMatchIds = existingMatches.stream()
-                .map(TftMatch::getMatchId)
-                .collect(Collectors.toSet());
+        List<TftMatch> existingMatches = tftMatchRepository.findRecentMatchesWithParticipants(puuid, RECENT_MATCHES_LIMIT);
 
-        // 2. Riot API에서 최근 매치 ID 조회
-        List<String> recentMatchIds = tftApiClient.getMatchIdsFromPuuid(puuid);
-        if (recentMatchIds.size() > RECENT_MATCHES_LIMIT) {
-            recentMatchIds = recentMatchIds.subList(0, RECENT_MATCHES_LIMIT);
-        }
-        
-        // 3. 새로운 매치 ID 필터링
-        List<String> newMatchIds = recentMatchIds.stream()
-                .filter(id -> !existingMatchIds.contains(id))
-                .toList();
-
-        // 4. 새로운 매치 상세 정보 조회 및 저장
-        List<TftMatch> newMatches = newMatchIds.isEmpty() ? List.of() :
-            Flux.fromIterable(newMatchIds)
-                .delayElements(Duration.ofMillis(51))
-                .flatMap(tftApiClient::getMatchResponseFromMatchIdMono)
-                .map(TftMatch::from)
-                .collectList()
-                .block();
+        // 2. 동기화 커서 이후의 새로운 매치 조회 및 저장
+        TftMatchFetchResult fetched = fetchNewMatches(accountId, puuid);
+        List<TftMatch> newMatches = fetched.hasCandidates()
+            ? transactionTemplate.execute(status -> saveFetchedMatches(accountId, fetched))
+            : List.of();
 
-        if (!newMatches.isEmpty()) {
-            tftMatchRepository.saveAll(newMatches);
-        }
-
-        // 5. 결과 반환 (새로운 매치가 있다면 다시 최신 20개 조회)
+        // 3. 결과 반환 (새로운 매치가 있다면 다시 최신 20개 조회)
         List<TftMatch> finalMatches = !newMatches.isEmpty() 
-            ? tftMatchRepository.findTop20ByParticipantsPuuidOrderByGameCreationDesc(puuid)
+            ? tftMatchRepository.findRecentMatchesWithParticipants(puuid, RECENT_MATCHES_LIMIT)
             : existingMatches;
 
         return MatchSyncResult.of(
@@ -93,44 +97,221 @@ public class TftMatchManager {
         );
     }
 
+    /**
+     * Riot API 호출 없이 DB에 저장된 최근 매치만 조회
+     */
+    @Transactional(readOnly = true)
+    public List<TftMatch> findStoredRecentMatches(String puuid) {
+        return tftMatchRepository.findRecentMatchesWithParticipants(puuid, RECENT_MATCHES_LIMIT);
+    }
+
+    /**
+     * 커서보다 오래된 매치를 참가자와 함께 size개 조회 (커서가 없으면 가장 최근부터)
+     */
+    @Transactional(readOnly = true)
+    public List<TftMatch> findMatchPage(String puuid, TftMatchCursor before, int size) {
+        List<Long> ids = before == null
+            ? tftMatchRepository.findRecentMatchIdsByPuuid(puuid, PageRequest.of(0, size))
+            : tftMatchRepository.findMatchIdsByPuuidBefore(puuid, before.gameCreation(), before.id(), PageRequest.of(0, size));
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return tftMatchRepository.findAllWithParticipantsByIdIn(ids);
+    }
+
+    /**
+     * 조회 단계: 동기화 커서 이후의 매치 ID와 새 매치 상세 정보를 받아옴
+     * Riot API 호출 동안 커넥션을 점유하지 않도록 트랜잭션 밖에서 호출해야 함
+     */
+    public TftMatchFetchResult fetchNewMatches(Long accountId, String puuid) {
+        List<String> candidateMatchIds = tftMatchSyncCursorManager.findCandidateMatchIds(accountId, puuid);
+        if (candidateMatchIds.isEmpty()) {
+            return TftMatchFetchResult.empty();
+        }
+
+        // DB에 이미 존재하는 MatchId는 제외 (다른 참가자의 갱신으로 저장된 매치 포함)
+        List<String> newMatchIds = tftMatchCache.findUnpersistedMatchIds(candidateMatchIds);
+        List<TftMatchResponse> responses = fetchMatches(newMatchIds);
+
+        // 일시적인 실패로 받아오지 못한 매치는 커서가 넘어가지 않도록 표시 (404 매치는 제외)
+        Set<String> fetchedMatchIds = responses.stream()
+                .map(response -> response.metadata().match_id())
+                .collect(Collectors.toSet());
+        Set<String> missingMatchIds = newMatchIds.stream()
+                .filter(matchId -> !fetchedMatchIds.contains(matchId) && !tftMatchCache.isNotFound(matchId))
+                .collect(Collectors.toSet());
+
+        return new TftMatchFetchResult(candidateMatchIds, responses, missingMatchIds);
+    }
+
+    /**
+     * 동기화 커서 이후의 매치 ID 후보 조회 (Riot API 호출, 트랜잭션 없음)
+     */
+    public List<String> findCandidateMatchIds(Long accountId, String puuid) {
+        return tftMatchSyncCursorManager.findCandidateMatchIds(accountId, puuid);
+    }
+
+    /**
+     * 여러 계정의 후보 매치 ID를 합쳐 서로 다른 매치만 한 번씩 받아온 뒤 계정별 조회 결과로 나눔
+     * 함께 게임한 계정끼리는 같은 매치를 공유하므로 상세 조회 횟수가 계정 수에 비례해 늘지 않음
+     */
+    public Map<Long, TftMatchFetchResult> fetchNewMatchesForAccounts(Map<Long, List<String>> candidateMatchIdsByAccount) {
+        Set<String> allCandidateMatchIds = candidateMatchIdsByAccount.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<String> newMatchIds = tftMatchCache.findUnpersistedMatchIds(allCandidateMatchIds);
+        Map<String, TftMatchResponse> fetched = fetchMatches(newMatchIds).stream()
+                .collect(Collectors.toMap(response -> response.metadata().match_id(), response -> response,
+                        (first, second) -> first));
+        Set<String> newMatchIdSet = new HashSet<>(newMatchIds);
+
+        Map<Long, TftMatchFetchResult> results = new LinkedHashMap<>();
+        candidateMatchIdsByAccount.forEach((accountId, candidateMatchIds) -> {
+            if (candidateMatchIds.isEmpty()) {
+                results.put(accountId, TftMatchFetchResult.empty());
+                return;
+            }
+            List<TftMatchResponse> responses = candidateMatchIds.stream()
+                    .filter(fetched::containsKey)
+                    .map(fetched::get)
+                    .toList();
+            Set<String> missingMatchIds = candidateMatchIds.stream()
+                    .filter(matchId -> newMatchIdSet.contains(matchId) && !fetched.containsKey(matchId)
+                            && !tftMatchCache.isNotFound(matchId))
+                    .collect(Collectors.toSet());
+            results.put(accountId, new TftMatchFetchResult(candidateMatchIds, responses, missingMatchIds));
+        });
+        return results;
+    }
+
+    /**
+     * 저장 단계: 받아온 매치를 저장하고 커서를 이동 (Riot API 호출 없음)
+     */
     @Transactional
-    public List<TftMatch> renewRecentTftMatches(String puuid) {
-        // 최신 Match Id부터 받아옴
-        List<String> recentMatchIds = tftApiClient.getMatchIdsFromPuuid(puuid);
-        
-        // 최신 Match Id 리스트에서 DB에 존재하는 TftMatch 엔티티를 제외하기 위한 리스트 생성
-        List<String> existingMatchIds = tftMatchRepository
-                .findByMatchIdIn(recentMatchIds)
-                .stream()
-                .map(TftMatch::getMatchId)
-                .toList();
-        
-        // 최신 MatchId에서 이미 존재하는 MatchId는 제외
-        List<String> newMatchIds = recentMatchIds.stream()
-                .filter(matchId -> !existingMatchIds.contains(matchId))
-                .toList();
-                
-        // 새로운 MatchId에 대해서 MatchResponse 받아옴
-        List<TftMatch> newMatches = newMatchIds.isEmpty() ? List.of() :
-            Flux.fromIterable(newMatchIds)
-                .delayElements(Duration.ofMillis(51))
-                .flatMap(tftApiClient::getMatchResponseFromMatchIdMono)
-                .map(TftMatch::from)
+    public List<TftMatch> saveFetchedMatches(Long accountId, TftMatchFetchResult fetched) {
+        if (!fetched.hasCandidates()) {
+            return List.of();
+        }
+
+        List<TftMatch> newMatches = saveNewMatches(fetched.responses());
+        tftMatchSyncCursorManager.advance(accountId, fetched.candidateMatchIds(), fetched.missingMatchIds());
+        return newMatches;
+    }
+
+    /**
+     * 반응형 갱신: 새 매치를 제한된 동시성으로 받아오면서 STREAM_SAVE_BATCH_SIZE개씩 짧은 트랜잭션으로 저장하고,
+     * 저장된 매치를 바로 내보냄. 동시 요청 수와 배치 크기로 조회/저장 구간에 올라가는 매치 수를 제한하고,
+     * 구독이 취소되면 남은 매치 조회를 중단함 (이때 커서는 이동하지 않으므로 나머지는 다음 갱신에서 받아옴)
+     *
+     * 커서/DB 접근 등 블로킹 구간은 boundedElastic 스케줄러에서 실행하고,
+     * 모든 배치가 저장된 뒤 받아오지 못한 매치를 제외하고 커서를 이동
+     */
+    public Flux<TftMatch> streamNewMatches(Long accountId, String puuid) {
+        return Mono.fromCallable(() -> tftMatchSyncCursorManager.findCandidateMatchIds(accountId, puuid))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(candidateMatchIds -> candidateMatchIds.isEmpty()
+                        ? Flux.<TftMatch>empty()
+                        : streamCandidates(accountId, candidateMatchIds));
+    }
+
+    private Flux<TftMatch> streamCandidates(Long accountId, List<String> candidateMatchIds) {
+        Set<String> fetchedMatchIds = ConcurrentHashMap.newKeySet();
+
+        return Mono.fromCallable(() -> tftMatchCache.findUnpersistedMatchIds(candidateMatchIds))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(newMatchIds -> Flux.fromIterable(newMatchIds)
+                        // 호출 간격은 RiotRateLimiter가 조절하므로 동시 요청 수만 제한
+                        .flatMap(this::fetchMatchOrSkip, MATCH_FETCH_CONCURRENCY)
+                        .doOnNext(response -> fetchedMatchIds.add(response.metadata().match_id()))
+                        .buffer(STREAM_SAVE_BATCH_SIZE)
+                        // 배치 저장은 한 번에 하나씩, 이전 배치가 소비된 뒤에만 다음 배치를 요청
+                        .concatMap(batch -> Mono.fromCallable(() -> transactionTemplate.execute(
+                                        status -> saveNewMatches(batch)))
+                                .subscribeOn(Schedulers.boundedElastic()), 1)
+                        .concatMapIterable(saved -> saved)
+                        .concatWith(Mono.<TftMatch>fromRunnable(() -> {
+                                    Set<String> missingMatchIds = newMatchIds.stream()
+                                            .filter(matchId -> !fetchedMatchIds.contains(matchId)
+                                                    && !tftMatchCache.isNotFound(matchId))
+                                            .collect(Collectors.toSet());
+                                    transactionTemplate.executeWithoutResult(status -> tftMatchSyncCursorManager
+                                            .advance(accountId, candidateMatchIds, missingMatchIds));
+                                })
+                                .subscribeOn(Schedulers.boundedElastic())));
+    }
+
+    private List<TftMatchResponse> fetchMatches(List<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return List.of();
+        }
+        return Flux.fromIterable(matchIds)
+                // 호출 간격은 RiotRateLimiter가 조절하므로 동시 요청 수만 제한
+                .flatMap(this::fetchMatchOrSkip, MATCH_FETCH_CONCURRENCY)
                 .collectList()
                 .block();
-                
-        if (!newMatches.isEmpty()) {
-            tftMatchRepository.saveAll(newMatches);
+    }
+
+    /**
+     * 다른 참가자의 갱신 요청이 먼저 저장했을 수 있으므로 저장 직전에 한 번 더 걸러냄
+     * 그 사이 동시에 같은 매치를 저장하는 경우는 INSERT IGNORE로 먼저 삽입한 쪽만 참가자/인덱스/아웃박스를 기록하고,
+     * 나머지는 건너뛰므로 중복 키 예외로 갱신 트랜잭션 전체가 롤백되지 않음
+     */
+    private List<TftMatch> saveNewMatches(List<TftMatchResponse> responses) {
+        if (responses.isEmpty()) {
+            return List.of();
         }
-        
-        // 배치 사이즈로 나누어 처리
-        return tftMatchRepository.findTop20ByParticipantsPuuidOrderByGameCreationDesc(puuid)
-            .stream()
-            .map(match -> {
-                // 각 매치에 대해 필요한 시점에 participants 초기화
-                Hibernate.initialize(match.getParticipants());
-                return match;
-            })
-            .toList();
+
+        Set<String> unpersisted = new HashSet<>(tftMatchCache.findUnpersistedMatchIds(
+                responses.stream().map(response -> response.metadata().match_id()).toList()));
+
+        Map<String, TftMatch> candidates = responses.stream()
+                .filter(response -> unpersisted.contains(response.metadata().match_id()))
+                .map(TftMatch::from)
+                .collect(Collectors.toMap(TftMatch::getMatchId, match -> match,
+                        (first, second) -> first, LinkedHashMap::new));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> insertedIds = tftMatchRepository.insertIgnoringDuplicates(List.copyOf(candidates.values()));
+        if (insertedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 이번 트랜잭션이 삽입한 매치만 다시 조회해 참가자를 연결
+        List<TftMatch> newMatches = tftMatchRepository.findAllById(insertedIds.values());
+        List<TftMatchParticipant> participants = new ArrayList<>();
+        for (TftMatch match : newMatches) {
+            for (TftMatchParticipant participant : List.copyOf(candidates.get(match.getMatchId()).getParticipants())) {
+                match.addParticipant(participant);
+                participants.add(participant);
+            }
+        }
+        tftMatchParticipantRepository.saveAll(participants);
+
+        // puuid 기준 조회용 인덱스는 매치와 같은 트랜잭션에서 함께 기록
+        tftPlayerMatchIndexRepository.saveAll(participants.stream()
+                .map(TftPlayerMatchIndex::from)
+                .toList());
+        // 업적 계산 등 후속 처리는 아웃박스 이벤트로 기록해 커밋 후 워커가 처리
+        tftOutboxEventRepository.saveAll(newMatches.stream()
+                .map(TftOutboxEvent::matchIngested)
+                .toList());
+        eventPublisher.publishEvent(new MatchesIngestedEvent(newMatches.size()));
+        return newMatches;
+    }
+
+    /**
+     * 기한 초과, 호출 제한, 5xx 등 일시적인 실패로 받아오지 못한 매치는 건너뛰고 나머지 결과만 저장 (다음 갱신 시 다시 시도됨)
+     * 역직렬화 오류 등 그 외의 실패는 갱신 실패로 그대로 전파
+     */
+    private Mono<TftMatchResponse> fetchMatchOrSkip(String matchId) {
+        return tftMatchCache.get(matchId)
+                .onErrorResume(RiotRetryPolicy::isTransientFailure, e -> {
+                    logger.warn("Skipping match {} after fetch failure: {}", matchId, e.getMessage());
+                    return Mono.empty();
+                });
     }
 }
@@ -0,0 +1,126 @@
+package com.glennsyj.rivals.api.tft.service;
+
+import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
+import com.glennsyj.rivals.api.tft.TftApiClient;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchSyncCursor;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchSyncCursorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 계정별 매치 동기화 커서를 기준으로 Riot API에 요청할 매치 ID 범위를 결정
+ *
+ * 커서가 없는 계정은 최근 backfillLimit개까지 페이지 단위로 받아오고,
+ * 커서가 있는 계정은 커서 시점 이후의 매치 ID를 마지막 페이지까지 모두 받아온다.
+ */
+@Service
+public class TftMatchSyncCursorManager {
+
+    private final TftMatchSyncCursorRepository tftMatchSyncCursorRepository;
+    private final TftMatchRepository tftMatchRepository;
+    private final RiotAccountRepository riotAccountRepository;
+    private final TftApiClient tftApiClient;
+    private final int pageSize;
+    private final int backfillLimit;
+
+    public TftMatchSyncCursorManager(
+            TftMatchSyncCursorRepository tftMatchSyncCursorRepository,
+            TftMatchRepository tftMatchRepository,
+            RiotAccountRepository riotAccountRepository,
+            TftApiClient tftApiClient,
+            @Value("${rivals.tft.match-sync.page-size:20}") int pageSize,
+            @Value("${rivals.tft.match-sync.backfill-limit:20}") int backfillLimit) {
+        this.tftMatchSyncCursorRepository = tftMatchSyncCursorRepository;
+        this.tftMatchRepository = tftMatchRepository;
+        this.riotAccountRepository = riotAccountRepository;
+        this.tftApiClient = tftApiClient;
+        this.pageSize = pageSize;
+        this.backfillLimit = backfillLimit;
+    }
+
+    /**
+     * 동기화가 필요한 매치 ID 후보를 최신순으로 반환
+     * Riot API를 호출하므로 트랜잭션 없이 실행 (커서 조회만 짧게 커넥션 이용)
+     */
+    public List<String> findCandidateMatchIds(Long accountId, String puuid) {
+        Optional<TftMatchSyncCursor> cursor = tftMatchSyncCursorRepository.findByRiotAccountId(accountId);
+        if (cursor.isEmpty()) {
+            return fetchMatchIds(puuid, null, backfillLimit);
+        }
+
+        String lastMatchId = cursor.get().getLastMatchId();
+        // 커서 이후 매치를 일부만 받아오면 advance가 최신 매치로 커서를 옮기면서 그 사이 매치를 건너뛰게 되므로 상한 없이 조회
+        return fetchMatchIds(puuid, cursor.get().getStartTimeSeconds(), Integer.MAX_VALUE).stream()
+                .filter(matchId -> !matchId.equals(lastMatchId))
+                .toList();
+    }
+
+    /**
+     * 후보 중 저장이 끝난 가장 최근 매치로 커서를 이동
+     * 받아오지 못한 매치가 있으면 그보다 오래된 매치까지만 이동하여 다음 갱신에서 다시 시도한다.
+     * 404로 저장되지 않은 매치는 시점을 알 수 없으므로 건너뛰고, 목록 순서상 그다음으로 오래된 저장된 매치를 기준으로 이동한다.
+     *
+     * @param candidateMatchIds 최신순 후보 매치 ID
+     * @param missingMatchIds   받아오지 못해 저장되지 않은 매치 ID
+     */
+    @Transactional
+    public void advance(Long accountId, List<String> candidateMatchIds, Set<String> missingMatchIds) {
+        int oldestMissingIndex = -1;
+        for (int i = 0; i < candidateMatchIds.size(); i++) {
+            if (missingMatchIds.contains(candidateMatchIds.get(i))) {
+                oldestMissingIndex = i;
+            }
+        }
+        if (oldestMissingIndex + 1 >= candidateMatchIds.size()) {
+            return;
+        }
+
+        List<String> settledMatchIds = candidateMatchIds.subList(oldestMissingIndex + 1, candidateMatchIds.size());
+        Map<String, Long> gameCreations = tftMatchRepository.findGameCreationsByMatchIdIn(settledMatchIds).stream()
+                .collect(Collectors.toMap(TftMatchRepository.MatchCreation::getMatchId,
+                        TftMatchRepository.MatchCreation::getGameCreation));
+
+        Optional<String> target = settledMatchIds.stream()
+                .filter(gameCreations::containsKey)
+                .findFirst();
+        if (target.isEmpty()) {
+            return;
+        }
+
+        String targetMatchId = target.get();
+        Long gameCreation = gameCreations.get(targetMatchId);
+        tftMatchSyncCursorRepository.findByRiotAccountId(accountId)
+                .ifPresentOrElse(
+                        cursor -> cursor.advance(gameCreation, targetMatchId),
+                        () -> tftMatchSyncCursorRepository.save(new TftMatchSyncCursor(
+                                riotAccountRepository.getReferenceById(accountId), gameCreation, targetMatchId))
+                );
+    }
+
+    /**
+     * 마지막 페이지(요청한 개수보다 적게 반환)까지 또는 limit개까지 페이지 단위로 조회
+     */
+    private List<String> fetchMatchIds(String puuid, Long startTime, int limit) {
+        List<String> matchIds = new ArrayList<>();
+        int start = 0;
+        while (matchIds.size() < limit) {
+            int count = Math.min(pageSize, limit - matchIds.size());
+            List<String> page = tftApiClient.getMatchIdsFromPuuid(puuid, startTime, start, count);
+            matchIds.addAll(page);
+            if (page.size() < count) {
+                break;
+            }
+            start += page.size();
+        }
+        return matchIds;
+    }
+}
@@ -0,0 +1,30 @@
+package com.glennsyj.rivals.api.tft.service;
+
+import com.glennsyj.rivals.api.tft.repository.TftPlayerMatchIndexRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 tft_player_match_index에 누락된 행을 기존 참가자 데이터로 채움
+ */
+@Component
+@ConditionalOnProperty(prefix = "rivals.tft.player-match-index", name = "backfill-on-startup", havingValue = "true")
+public class TftPlayerMatchIndexBackfillRunner implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(TftPlayerMatchIndexBackfillRunner.class);
+
+    private final TftPlayerMatchIndexRepository tftPlayerMatchIndexRepository;
+
+    public TftPlayerMatchIndexBackfillRunner(TftPlayerMatchIndexRepository tftPlayerMatchIndexRepository) {
+        this.tftPlayerMatchIndexRepository = tftPlayerMatchIndexRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int inserted = tftPlayerMatchIndexRepository.backfillMissingRows();
+        logger.info("Backfilled {} tft_player_match_index row(s)", inserted);
+    }
+}
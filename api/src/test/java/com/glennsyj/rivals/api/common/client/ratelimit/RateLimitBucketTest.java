@@ -0,0 +1,102 @@
+package com.glennsyj.rivals.api.common.client.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("모든 창에 토큰이 남아 있으면 대기 없이 소비한다")
+    void whenTokensRemain_thenNoWait() {
+        // given
+        RateLimitBucket bucket = new RateLimitBucket(RateLimit.parse("2:1,3:10"), 0);
+
+        // when & then
+        assertThat(bucket.waitNanos(0)).isZero();
+        bucket.consume(0);
+        assertThat(bucket.waitNanos(0)).isZero();
+    }
+
+    @Test
+    @DisplayName("짧은 창이 소진되면 해당 창이 초기화될 때까지 기다린다")
+    void whenShortWindowExhausted_thenWaitUntilReset() {
+        // given
+        RateLimitBucket bucket = new RateLimitBucket(RateLimit.parse("2:1,100:120"), 0);
+        bucket.consume(0);
+        bucket.consume(0);
+
+        // when & then
+        assertThat(bucket.waitNanos(SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(bucket.waitNanos(SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("긴 창이 소진되면 짧은 창이 초기화되어도 긴 창 기준으로 기다린다")
+    void whenLongWindowExhausted_thenWaitForLongWindow() {
+        // given
+        RateLimitBucket bucket = new RateLimitBucket(RateLimit.parse("20:1,3:120"), 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.consume(0);
+        }
+
+        // when & then
+        assertThat(bucket.waitNanos(2 * SECOND)).isEqualTo(118 * SECOND);
+    }
+
+    @Test
+    @DisplayName("Riot 측 사용량이 더 많으면 응답 헤더 기준으로 남은 토큰을 줄인다")
+    void whenRiotCountIsHigher_thenSyncRemaining() {
+        // given
+        RateLimitBucket bucket = new RateLimitBucket(RateLimit.parse("5:10"), 0);
+
+        // when
+        bucket.syncCounts(RateLimit.parse("5:10"), 0);
+
+        // then
+        assertThat(bucket.waitNanos(0)).isEqualTo(10 * SECOND);
+    }
+
+    @Test
+    @DisplayName("응답 헤더의 한도가 다르면 창 설정을 교체한다")
+    void whenLimitsChange_thenReconfigure() {
+        // given
+        RateLimitBucket bucket = new RateLimitBucket(RateLimit.parse("1:10"), 0);
+        bucket.consume(0);
+        assertThat(bucket.waitNanos(0)).isPositive();
+
+        // when
+        bucket.reconfigure(RateLimit.parse("20:1,100:120"));
+
+        // then
+        assertThat(bucket.waitNanos(0)).isZero();
+        assertThat(bucket.availableRatio(0)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Retry-After 동안에는 토큰을 내주지 않는다")
+    void whenBlocked_thenWaitUntilBlockEnds() {
+        // given
+        RateLimitBucket bucket = new RateLimitBucket(RateLimit.parse("20:1"), 0);
+
+        // when
+        bucket.blockUntil(3 * SECOND);
+
+        // then
+        assertThat(bucket.waitNanos(SECOND)).isEqualTo(2 * SECOND);
+        assertThat(bucket.waitNanos(3 * SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 헤더 값은 무시한다")
+    void whenHeaderMalformed_thenIgnore() {
+        assertThat(RateLimit.parse("20:1,abc,5:x")).containsExactly(new RateLimit(20, 1));
+        assertThat(RateLimit.parse(null)).isEqualTo(List.of());
+    }
+}
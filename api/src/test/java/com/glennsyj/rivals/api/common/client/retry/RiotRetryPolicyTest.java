@@ -0,0 +1,86 @@
+package com.glennsyj.rivals.api.common.client.retry;
+
+import com.glennsyj.rivals.api.common.client.exception.RiotRateLimitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RiotRetryPolicyTest {
+
+    private final RiotRetryPolicy retryPolicy = new RiotRetryPolicy(2, 10, 50, 2000, 20);
+
+    @Test
+    @DisplayName("5xx 응답은 백오프 후 재시도하여 성공 결과를 반환한다")
+    void whenServerErrorThenSuccess_thenRetry() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> apiCall = Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(errorOf(503, HttpHeaders.EMPTY))
+                : Mono.just("ok"));
+
+        // when
+        String result = retryPolicy.apply("test-endpoint", apiCall).block();
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Retry-After가 요청 기한을 넘으면 기다리지 않고 즉시 실패한다")
+    void whenRetryAfterExceedsDeadline_thenFailFast() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Retry-After", "60");
+        Mono<String> apiCall = Mono.error(errorOf(429, headers));
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> retryPolicy.apply("test-endpoint", apiCall).block())
+                .isInstanceOf(RiotRateLimitException.class)
+                .satisfies(e -> assertThat(((RiotRateLimitException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(60)));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않는다")
+    void whenClientError_thenNoRetry() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> apiCall = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(errorOf(404, HttpHeaders.EMPTY));
+        });
+
+        // when & then
+        assertThatThrownBy(() -> retryPolicy.apply("test-endpoint", apiCall).block())
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("엔드포인트 별 재시도 예산을 모두 쓰면 재시도하지 않는다")
+    void whenBudgetExhausted_thenNoRetry() {
+        // given
+        RetryBudget budget = new RetryBudget(2, Duration.ofMinutes(1).toNanos());
+
+        // when & then
+        assertThat(budget.tryConsume("a", 0)).isTrue();
+        assertThat(budget.tryConsume("a", 0)).isTrue();
+        assertThat(budget.tryConsume("a", 0)).isFalse();
+        assertThat(budget.tryConsume("b", 0)).isTrue();
+        assertThat(budget.tryConsume("a", Duration.ofMinutes(1).toNanos())).isTrue();
+    }
+
+    private WebClientResponseException errorOf(int status, HttpHeaders headers) {
+        return WebClientResponseException.create(status, "error", headers, new byte[0], null);
+    }
+}
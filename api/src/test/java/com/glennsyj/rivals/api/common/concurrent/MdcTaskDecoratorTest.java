@@ -0,0 +1,53 @@
+package com.glennsyj.rivals.api.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MdcTaskDecoratorTest {
+
+    private final MdcTaskDecorator decorator = new MdcTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("작업을 제출한 스레드의 MDC를 작업 스레드에서 그대로 사용한다")
+    void whenDecorated_thenPropagateSubmitterMdc() throws Exception {
+        // given
+        MDC.put("traceId", "trace-1");
+        AtomicReference<String> captured = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> captured.set(MDC.get("traceId")));
+        MDC.clear();
+
+        // when
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        // then
+        assertThat(captured.get()).isEqualTo("trace-1");
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 작업 스레드의 기존 MDC로 되돌린다")
+    void whenTaskFinished_thenRestorePreviousMdc() {
+        // given
+        MDC.put("traceId", "trace-1");
+        Runnable task = decorator.decorate(() -> assertThat(MDC.get("traceId")).isEqualTo("trace-1"));
+        MDC.put("traceId", "worker-trace");
+
+        // when
+        task.run();
+
+        // then
+        assertThat(MDC.get("traceId")).isEqualTo("worker-trace");
+    }
+}
@@ -0,0 +1,105 @@
+package com.glennsyj.rivals.api.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 호출은 작업을 한 번만 수행하고 결과를 공유한다")
+    void whenConcurrentCallsWithSameKey_thenExecuteOnce() throws Exception {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        futures.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("puuid", () -> {
+            started.countDown();
+            await(release);
+            return executions.incrementAndGet();
+        }), executor));
+        started.await(1, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 3; i++) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> singleFlight.execute("puuid", executions::incrementAndGet), executor));
+        }
+        // 뒤따르는 호출들이 진행 중인 작업에 합류할 시간을 줌
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (CompletableFuture<Integer> future : futures) {
+            assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.isInFlight("puuid")).isFalse();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 예외를 그대로 전달하고 다음 호출은 새로 수행한다")
+    void whenWorkFails_thenPropagateAndAllowRetry() {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("puuid", () -> {
+            throw new IllegalStateException("fail");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("puuid", () -> 2)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("leader가 Error로 실패해도 대기 중인 호출에 예외를 전달한다")
+    void whenLeaderThrowsError_thenFollowersAreReleased() throws Exception {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("puuid", () -> {
+            started.countDown();
+            await(release);
+            throw new AssertionError("fail");
+        }), executor);
+        started.await(1, TimeUnit.SECONDS);
+        CompletableFuture<Integer> follower = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("puuid", () -> 2), executor);
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThat(singleFlight.isInFlight("puuid")).isFalse();
+        executor.shutdown();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -122,6 +122,19 @@ class RiotAccountTest {
         assertThat(account).isNotEqualTo(other);
     }
 
+    @Test
+    void Riot_ID_조회_키는_대소문자와_앞뒤_공백을_무시한다() {
+        // given
+        RiotAccount account = new RiotAccount("Hide On Bush", "KR1", "puuid-key");
+
+        // when & then
+        assertThat(account.getRiotIdKey()).isEqualTo("hide on bush#kr1");
+        assertThat(RiotAccount.riotIdKeyOf(" hide on BUSH ", "kr1 ")).isEqualTo(account.getRiotIdKey());
+
+        account.updateGameIdentity("Faker", "T1");
+        assertThat(account.getRiotIdKey()).isEqualTo("faker#t1");
+    }
+
     @Test
     void null과_비교시_false를_반환한다() {
         // given
@@ -1,24 +1,30 @@
 package com.glennsyj.rivals.api.riot.service;
 
+import com.glennsyj.rivals.api.config.EntityTestUtil;
 import com.glennsyj.rivals.api.riot.RiotAccountClient;
+import com.glennsyj.rivals.api.riot.cache.RiotIdCache;
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.model.RiotAccountRef;
 import com.glennsyj.rivals.api.riot.model.RiotAccountResponse;
 import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
-import static java.lang.Thread.sleep;
-import static org.assertj.core.api.Assertions.within;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -31,13 +37,23 @@ class RiotAccountManagerTest {
     @Mock
     private RiotAccountClient apiClient;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RiotIdCache riotIdCache;
+
     private RiotAccountManager manager;
 
+    @BeforeEach
+    void setUp() {
+        riotIdCache = new RiotIdCache(new SimpleMeterRegistry(), 100, 30, 60);
+        manager = new RiotAccountManager(repository, apiClient, riotIdCache, transactionManager);
+    }
+
     @Test
     void API_호출_실패시_예외_전파() {
         // given
-        when(repository.findByGameNameAndTagLine(any(), any()))
+        when(repository.findByRiotIdKey(any()))
                 .thenReturn(Optional.empty());
         when(apiClient.getAccountInfo(any(), any()))
                 .thenThrow(new IllegalStateException("API Error"));
@@ -51,10 +67,12 @@ class RiotAccountManagerTest {
     @Test
     void DB에_계정이_없으면_API_호출하고_저장() {
         // given
-        when(repository.findByGameNameAndTagLine("Hide", "KR1"))
+        when(repository.findByRiotIdKey("hide#kr1"))
                 .thenReturn(Optional.empty());
         when(apiClient.getAccountInfo("Hide", "KR1"))
-                .thenReturn(new RiotAccountResponse("Hide", "KR1", "puuid123", "0"));
+                .thenReturn(new RiotAccountResponse("puuid123", "Hide", "KR1", "0"));
+        when(repository.save(any(RiotAccount.class)))
+                .thenAnswer(invocation -> withId(invocation.getArgument(0), 1L));
 
         // when
         manager.findOrRegisterAccount("Hide", "KR1");
@@ -66,9 +84,13 @@ class RiotAccountManagerTest {
     @Test
     void 계정_갱신시_업데이트_시간_변경() throws InterruptedException {
         // given
-        RiotAccount account = new RiotAccount("Hide", "KR1", "puuid123");
+        RiotAccount account = withId(new RiotAccount("Hide", "KR1", "puuid123"), 1L);
         LocalDateTime beforeUpdate = account.getUpdatedAt();
-        when(repository.findByGameNameAndTagLine("Hide", "KR1"))
+        when(repository.findByRiotIdKey("hide#kr1"))
+                .thenReturn(Optional.of(account));
+        when(apiClient.getAccountByPuuid("puuid123"))
+                .thenReturn(new RiotAccountResponse("puuid123", "Hide", "KR1", "0"));
+        when(repository.findById(1L))
                 .thenReturn(Optional.of(account));
 
         // when
@@ -79,4 +101,134 @@ class RiotAccountManagerTest {
         assertThat(account.getUpdatedAt())
                 .isAfter(beforeUpdate);
     }
+
+    @Test
+    @DisplayName("대소문자가 다른 Riot ID로 조회해도 캐시된 같은 계정을 PK로 조회한다")
+    void findOrRegisterAccount_CaseInsensitiveCacheHit() {
+        // given
+        RiotAccount account = withId(new RiotAccount("Hide", "KR1", "puuid123"), 1L);
+        when(repository.findByRiotIdKey("hide#kr1"))
+                .thenReturn(Optional.of(account));
+        when(repository.findById(1L))
+                .thenReturn(Optional.of(account));
+        manager.findOrRegisterAccount("Hide", "KR1");
+
+        // when
+        RiotAccount found = manager.findOrRegisterAccount(" hIDE ", "kr1");
+
+        // then
+        assertThat(found).isSameAs(account);
+        verify(repository, times(1)).findByRiotIdKey(any());
+        verify(apiClient, never()).getAccountInfo(any(), any());
+    }
+
+    @Test
+    @DisplayName("Riot API가 404를 응답한 Riot ID는 네거티브 캐시 기간 동안 다시 요청하지 않는다")
+    void findOrRegisterAccount_NegativeCache() {
+        // given
+        WebClientResponseException notFound = WebClientResponseException.create(
+                HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, new byte[0], null);
+        when(repository.findByRiotIdKey("nobody#kr1"))
+                .thenReturn(Optional.empty());
+        when(apiClient.getAccountInfo("Nobody", "KR1"))
+                .thenThrow(new IllegalStateException("Riot API 요청 실패", notFound));
+        assertThatThrownBy(() -> manager.findOrRegisterAccount("Nobody", "KR1"))
+                .isInstanceOf(IllegalStateException.class);
+
+        // when & then
+        assertThatThrownBy(() -> manager.findOrRegisterAccount("nobody", "kr1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("소환사를 찾을 수 없습니다");
+        verify(apiClient, times(1)).getAccountInfo(any(), any());
+    }
+
+    @Test
+    @DisplayName("갱신 중 이름 변경을 확인하면 계정 이름을 바꾸고 이전 Riot ID 캐시를 무효화한다")
+    void renewAccount_InvalidatesRenamedRiotId() {
+        // given
+        RiotAccount account = withId(new RiotAccount("Hide", "KR1", "puuid123"), 1L);
+        when(repository.findByRiotIdKey("hide#kr1"))
+                .thenReturn(Optional.of(account));
+        when(apiClient.getAccountByPuuid("puuid123"))
+                .thenReturn(new RiotAccountResponse("puuid123", "Seek", "KR2", "0"));
+        when(repository.findById(1L))
+                .thenReturn(Optional.of(account));
+
+        // when
+        manager.renewAccount("Hide", "KR1");
+
+        // then
+        assertThat(account.getFullGameName()).isEqualTo("Seek#KR2");
+        assertThat(riotIdCache.findAccount("hide#kr1")).isEmpty();
+        assertThat(riotIdCache.findAccount("seek#kr2").map(RiotAccountRef::id)).contains(1L);
+    }
+
+    @Test
+    @DisplayName("계정 갱신 시 Riot API 호출은 트랜잭션을 시작하기 전에 끝낸다")
+    void renewAccount_CallsRiotApiOutsideTransaction() {
+        // given
+        RiotAccount account = withId(new RiotAccount("Hide", "KR1", "puuid123"), 1L);
+        when(repository.findByRiotIdKey("hide#kr1"))
+                .thenReturn(Optional.of(account));
+        when(apiClient.getAccountByPuuid("puuid123"))
+                .thenReturn(new RiotAccountResponse("puuid123", "Hide", "KR1", "0"));
+        when(repository.findById(1L))
+                .thenReturn(Optional.of(account));
+
+        // when
+        manager.renewAccount("Hide", "KR1");
+
+        // then
+        InOrder order = inOrder(apiClient, transactionManager, repository);
+        order.verify(apiClient).getAccountByPuuid("puuid123");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(repository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("새 계정 등록 시 Riot API 호출은 트랜잭션을 시작하기 전에 끝내고 저장만 트랜잭션으로 처리한다")
+    void findOrRegisterAccount_CallsRiotApiOutsideTransaction() {
+        // given
+        when(repository.findByRiotIdKey("hide#kr1"))
+                .thenReturn(Optional.empty());
+        when(apiClient.getAccountInfo("Hide", "KR1"))
+                .thenReturn(new RiotAccountResponse("puuid123", "Hide", "KR1", "0"));
+        when(repository.findByPuuid("puuid123"))
+                .thenReturn(Optional.empty());
+        when(repository.save(any(RiotAccount.class)))
+                .thenAnswer(invocation -> withId(invocation.getArgument(0), 1L));
+
+        // when
+        manager.findOrRegisterAccount("Hide", "KR1");
+
+        // then
+        InOrder order = inOrder(apiClient, transactionManager, repository);
+        order.verify(apiClient).getAccountInfo("Hide", "KR1");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(repository).save(any(RiotAccount.class));
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("식별 정보만 조회할 때 캐시에 있으면 DB를 조회하지 않는다")
+    void findRefByGameNameAndTagLine_CacheHitSkipsDatabase() {
+        // given
+        RiotAccount account = withId(new RiotAccount("Hide", "KR1", "puuid123"), 1L);
+        when(repository.findByRiotIdKey("hide#kr1"))
+                .thenReturn(Optional.of(account));
+        manager.findRefByGameNameAndTagLine("Hide", "KR1");
+
+        // when
+        Optional<RiotAccountRef> found = manager.findRefByGameNameAndTagLine("hide", "kr1");
+
+        // then
+        assertThat(found).contains(new RiotAccountRef(1L, "puuid123", "Hide", "KR1"));
+        verify(repository, times(1)).findByRiotIdKey(any());
+        verify(repository, never()).findById(any());
+    }
+
+    private static RiotAccount withId(RiotAccount account, Long id) {
+        EntityTestUtil.setId(account, id);
+        return account;
+    }
 }
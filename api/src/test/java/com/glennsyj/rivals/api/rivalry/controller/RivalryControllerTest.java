@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.glennsyj.rivals.api.rivalry.entity.RivalSide;
 import com.glennsyj.rivals.api.rivalry.model.RivalryCreationDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryDetailDto;
+import com.glennsyj.rivals.api.rivalry.model.RivalryMatchPageDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryParticipantDto;
 import com.glennsyj.rivals.api.rivalry.service.RivalryService;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchCursor;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -117,4 +120,31 @@ class RivalryControllerTest {
                 .andExpect(status().isNotFound())
                 .andDo(print());
     }
+
+    @Test
+    @DisplayName("라이벌 공통 매치 조회 시 limit은 최대 크기로 제한하고 커서를 그대로 넘긴다")
+    void getSharedMatches_Success() throws Exception {
+        // given
+        when(rivalryService.findSharedMatchPage(eq(1L), eq(new TftMatchCursor(1000L, 10L)), eq(50)))
+                .thenReturn(new RivalryMatchPageDto(List.of(), "900,9"));
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/rivalries/1/matches")
+                        .param("before", "1000,10")
+                        .param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matches").isArray())
+                .andExpect(jsonPath("$.nextCursor").value("900,9"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("라이벌 공통 매치 조회 시 커서 형식이 잘못되면 400 Bad Request를 반환한다")
+    void getSharedMatches_InvalidCursor() throws Exception {
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/rivalries/1/matches")
+                        .param("before", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
 }
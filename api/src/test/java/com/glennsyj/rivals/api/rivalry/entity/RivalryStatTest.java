@@ -0,0 +1,74 @@
+package com.glennsyj.rivals.api.rivalry.entity;
+
+import com.glennsyj.rivals.api.config.EntityTestUtil;
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RivalryStatTest {
+
+    private RivalryParticipant participant;
+
+    @BeforeEach
+    void setUp() {
+        Rivalry rivalry = new Rivalry();
+        EntityTestUtil.setId(rivalry, 1L);
+        participant = new RivalryParticipant(new RiotAccount("user1", "tag1", "puuid1"), rivalry, RivalSide.LEFT);
+    }
+
+    @Test
+    @DisplayName("초기 집계 기준 시각 이전에 저장된 매치만 초기 집계에 포함된 것으로 본다")
+    void whenCheckAggregatedInitially_thenCompareWithAggregatedBefore() {
+        // given
+        LocalDateTime aggregatedBefore = LocalDateTime.of(2025, 1, 1, 10, 0);
+        RivalryStat stat = new RivalryStat(participant, "puuid1", null);
+        stat.initialize(0, 0, 0, 0, 0, 0, 0, aggregatedBefore);
+
+        // when & then
+        assertThat(stat.isAggregatedInitially(aggregatedBefore.minusSeconds(1))).isTrue();
+        assertThat(stat.isAggregatedInitially(aggregatedBefore)).isFalse();
+        assertThat(stat.isAggregatedInitially(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("새 매치를 반영하면 순위 통계와 상대 진영 맞대결 결과가 함께 누적된다")
+    void whenApplyMatch_thenAccumulatePlacementAndHeadToHead() {
+        // given
+        RivalryStat stat = new RivalryStat(participant, "puuid1", null);
+        stat.initialize(2, 9, 1, 0, 1, 1, 0, LocalDateTime.now());
+
+        // when
+        stat.applyMatch(1, List.of(3, 5));
+        stat.applyMatch(6, List.of());
+
+        // then
+        assertThat(stat.getMatchCount()).isEqualTo(4);
+        assertThat(stat.getAveragePlacement()).isEqualTo(4.0);
+        assertThat(stat.getTopFourRate()).isEqualTo(0.5);
+        assertThat(stat.getFirstPlaceCount()).isEqualTo(1);
+        assertThat(stat.getSharedMatchCount()).isEqualTo(2);
+        assertThat(stat.getHeadToHeadWins()).isEqualTo(3);
+        assertThat(stat.getHeadToHeadLosses()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("시작 시점 랭크가 없으면 처음 반영된 랭크 점수를 기준으로 변화량을 계산한다")
+    void whenNoBaseline_thenUseFirstLadderPointsAsBaseline() {
+        // given
+        RivalryStat stat = new RivalryStat(participant, "puuid1", null);
+
+        // when
+        stat.updateLadderPoints(1250);
+        stat.updateLadderPoints(1330);
+
+        // then
+        assertThat(stat.getBaselineLadderPoints()).isEqualTo(1250);
+        assertThat(stat.getLadderPointsDelta()).isEqualTo(80);
+    }
+}
@@ -9,11 +9,16 @@ import com.glennsyj.rivals.api.rivalry.entity.RivalryParticipant;
 import com.glennsyj.rivals.api.rivalry.model.ParticipantStatDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryCreationDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryDetailDto;
+import com.glennsyj.rivals.api.rivalry.model.RivalryMatchDto;
+import com.glennsyj.rivals.api.rivalry.model.RivalryMatchPageDto;
 import com.glennsyj.rivals.api.rivalry.model.RivalryParticipantDto;
 import com.glennsyj.rivals.api.rivalry.repository.RivalryRepository;
 import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
 import com.glennsyj.rivals.api.tft.model.entry.TftLeagueEntryResponse;
 import com.glennsyj.rivals.api.tft.repository.TftLeagueEntryRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,14 +26,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +52,12 @@ class RivalryServiceTest {
     @Mock
     private TftLeagueEntryRepository tftLeagueEntryRepository;
 
+    @Mock
+    private RivalryStatService rivalryStatService;
+
+    @Mock
+    private TftMatchRepository tftMatchRepository;
+
     @InjectMocks
     private RivalryService rivalryService;
 
@@ -178,6 +193,67 @@ class RivalryServiceTest {
                 .isInstanceOf(EntityNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("양 진영이 함께한 매치를 limit개 조회하고 다음 페이지가 있으면 커서를 반환한다")
+    void findSharedMatchPage_Success() {
+        // given
+        RiotAccount account1 = new RiotAccount("user1", "tag1", "puuid1");
+        RiotAccount account2 = new RiotAccount("user2", "tag2", "puuid2");
+        Rivalry rivalry = new Rivalry();
+        EntityTestUtil.setId(rivalry, 1L);
+        rivalry.addParticipant(new RivalryParticipant(account1, rivalry, RivalSide.LEFT));
+        rivalry.addParticipant(new RivalryParticipant(account2, rivalry, RivalSide.RIGHT));
+
+        TftMatch match = createMatch(10L, 1000L, "puuid1", "puuid2", "puuid3");
+
+        when(rivalryRepository.findById(1L)).thenReturn(Optional.of(rivalry));
+        when(tftMatchRepository.findSharedMatchIds(eq(Set.of("puuid1")), eq(Set.of("puuid2")), any(Pageable.class)))
+                .thenReturn(List.of(10L, 9L));
+        when(tftMatchRepository.findAllWithParticipantsByIdIn(List.of(10L))).thenReturn(List.of(match));
+
+        // when
+        RivalryMatchPageDto result = rivalryService.findSharedMatchPage(1L, null, 1);
+
+        // then
+        assertThat(result.matches().size()).isEqualTo(1);
+        assertThat(result.nextCursor()).isEqualTo("1000,10");
+        RivalryMatchDto matchDto = result.matches().get(0);
+        assertThat(matchDto.leftParticipants().get(0).puuid()).isEqualTo("puuid1");
+        assertThat(matchDto.rightParticipants().get(0).puuid()).isEqualTo("puuid2");
+    }
+
+    @Test
+    @DisplayName("한쪽 진영에 참가자가 없으면 매치를 조회하지 않고 빈 페이지를 반환한다")
+    void findSharedMatchPage_OneSided() {
+        // given
+        RiotAccount account1 = new RiotAccount("user1", "tag1", "puuid1");
+        Rivalry rivalry = new Rivalry();
+        EntityTestUtil.setId(rivalry, 1L);
+        rivalry.addParticipant(new RivalryParticipant(account1, rivalry, RivalSide.LEFT));
+
+        when(rivalryRepository.findById(1L)).thenReturn(Optional.of(rivalry));
+
+        // when
+        RivalryMatchPageDto result = rivalryService.findSharedMatchPage(1L, null, 20);
+
+        // then
+        assertThat(result.matches().isEmpty()).isTrue();
+        assertThat(result.nextCursor()).isNull();
+        verifyNoInteractions(tftMatchRepository);
+    }
+
+    // 테스트용 TftMatch 생성 헬퍼 메서드 (순위는 puuid 순서대로)
+    private TftMatch createMatch(Long id, Long gameCreation, String... puuids) {
+        TftMatch match = new TftMatch("KR_" + id, "5", gameCreation, id, gameCreation, 1800.0,
+                "14.1", null, 22, 1100, "standard", "TFTSet13", 13, null);
+        EntityTestUtil.setId(match, id);
+        for (int i = 0; i < puuids.length; i++) {
+            match.addParticipant(new TftMatchParticipant(puuids[i], 0, 30, 0, 9, i + 1, 0,
+                    null, null, 0.0, 0, i < 4, null, List.of(), List.of()));
+        }
+        return match;
+    }
+
     // 테스트용 TftLeagueEntry 생성 헬퍼 메서드
     private TftLeagueEntry createMockTftEntry(RiotAccount account, String tier, String rank) {
         TftLeagueEntryResponse response = new TftLeagueEntryResponse(
@@ -0,0 +1,194 @@
+package com.glennsyj.rivals.api.rivalry.service;
+
+import com.glennsyj.rivals.api.config.EntityTestUtil;
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.rivalry.entity.RivalSide;
+import com.glennsyj.rivals.api.rivalry.entity.Rivalry;
+import com.glennsyj.rivals.api.rivalry.entity.RivalryAppliedMatch;
+import com.glennsyj.rivals.api.rivalry.entity.RivalryParticipant;
+import com.glennsyj.rivals.api.rivalry.entity.RivalryStat;
+import com.glennsyj.rivals.api.rivalry.repository.RivalryAppliedMatchRepository;
+import com.glennsyj.rivals.api.rivalry.repository.RivalryStatRepository;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
+import com.glennsyj.rivals.api.tft.outbox.MatchesProcessedEvent;
+import com.glennsyj.rivals.api.tft.repository.TftLeagueEntryRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RivalryStatServiceTest {
+
+    @Mock
+    private RivalryStatRepository rivalryStatRepository;
+
+    @Mock
+    private RivalryAppliedMatchRepository rivalryAppliedMatchRepository;
+
+    @Mock
+    private TftLeagueEntryRepository tftLeagueEntryRepository;
+
+    @Mock
+    private TftMatchRepository tftMatchRepository;
+
+    @InjectMocks
+    private RivalryStatService rivalryStatService;
+
+    private RivalryStat left;
+    private RivalryStat right;
+
+    @BeforeEach
+    void setUp() {
+        Rivalry rivalry = new Rivalry();
+        EntityTestUtil.setId(rivalry, 1L);
+        left = new RivalryStat(new RivalryParticipant(new RiotAccount("user1", "tag1", "puuid1"), rivalry, RivalSide.LEFT),
+                "puuid1", null);
+        right = new RivalryStat(new RivalryParticipant(new RiotAccount("user2", "tag2", "puuid2"), rivalry, RivalSide.RIGHT),
+                "puuid2", null);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 매치는 건너뛰고, 나중에 처리된 더 오래된 매치는 반영한다")
+    void whenOlderMatchProcessedLate_thenApplyOnlyUnappliedMatches() {
+        // given: 100번 매치는 이미 반영되었고, 그보다 id가 작은 90번 매치가 늦게 처리됨
+        TftMatch applied = match(100L, participant("puuid1"), participant("puuid2"));
+        TftMatch late = match(90L, participant("puuid1", 5), participant("puuid2", 3));
+
+        when(rivalryStatRepository.findRivalryIdsByPuuidIn(anySet())).thenReturn(List.of(1L));
+        when(rivalryStatRepository.findAllByRivalryIdIn(List.of(1L))).thenReturn(List.of(left, right));
+        when(rivalryAppliedMatchRepository.findAppliedMatchIds(1L, List.of(100L, 90L))).thenReturn(List.of(100L));
+
+        // when
+        rivalryStatService.onMatchesProcessed(new MatchesProcessedEvent(List.of(applied, late)));
+
+        // then
+        assertThat(left.getMatchCount()).isEqualTo(1);
+        assertThat(left.getHeadToHeadLosses()).isEqualTo(1);
+        assertThat(right.getMatchCount()).isEqualTo(1);
+        assertThat(right.getHeadToHeadWins()).isEqualTo(1);
+        verify(rivalryAppliedMatchRepository).saveAll(argThat((List<RivalryAppliedMatch> saved) ->
+                saved.size() == 1 && saved.get(0).getRivalryId().equals(1L) && saved.get(0).getMatchId().equals(90L)));
+    }
+
+    @Test
+    @DisplayName("라이벌리 참가자가 없는 매치는 반영 기록을 남기지 않고 다른 참가자의 통계도 바꾸지 않는다")
+    void whenNoParticipantPlayed_thenRecordNothing() {
+        // given
+        TftMatch solo = match(110L, participant("puuid1", 2), participant("puuid3", 1));
+        TftMatch other = match(120L, participant("puuid3", 4));
+
+        when(rivalryStatRepository.findRivalryIdsByPuuidIn(anySet())).thenReturn(List.of(1L));
+        when(rivalryStatRepository.findAllByRivalryIdIn(List.of(1L))).thenReturn(List.of(left, right));
+        when(rivalryAppliedMatchRepository.findAppliedMatchIds(1L, List.of(110L, 120L))).thenReturn(List.of());
+
+        // when
+        rivalryStatService.onMatchesProcessed(new MatchesProcessedEvent(List.of(solo, other)));
+
+        // then
+        assertThat(left.getMatchCount()).isEqualTo(1);
+        assertThat(left.getSharedMatchCount()).isZero();
+        assertThat(right.getMatchCount()).isZero();
+        verify(rivalryAppliedMatchRepository).saveAll(argThat((List<RivalryAppliedMatch> saved) ->
+                saved.size() == 1 && saved.get(0).getMatchId().equals(110L)));
+    }
+
+    @Test
+    @DisplayName("초기 집계 기준 시각 이전에 저장된 매치는 반영 기록을 조회하지 않고 건너뛴다")
+    void whenMatchStoredBeforeAggregation_thenSkipWithoutAppliedLookup() {
+        // given
+        LocalDateTime aggregatedBefore = LocalDateTime.of(2025, 1, 1, 10, 0);
+        left.initialize(0, 0, 0, 0, 0, 0, 0, aggregatedBefore);
+        right.initialize(0, 0, 0, 0, 0, 0, 0, aggregatedBefore);
+
+        // 초기 집계에 포함된 매치는 id로 반영 기록을 조회하지 않음
+        TftMatch aggregated = mock(TftMatch.class);
+        when(aggregated.getParticipants()).thenReturn(List.of(participant("puuid1"), participant("puuid2")));
+        when(aggregated.getCreatedAt()).thenReturn(aggregatedBefore.minusMinutes(5));
+        TftMatch recent = match(200L, participant("puuid1", 1), participant("puuid2", 8));
+        when(recent.getCreatedAt()).thenReturn(aggregatedBefore.plusSeconds(5));
+
+        when(rivalryStatRepository.findRivalryIdsByPuuidIn(anySet())).thenReturn(List.of(1L));
+        when(rivalryStatRepository.findAllByRivalryIdIn(List.of(1L))).thenReturn(List.of(left, right));
+        when(rivalryAppliedMatchRepository.findAppliedMatchIds(1L, List.of(200L))).thenReturn(List.of());
+
+        // when
+        rivalryStatService.onMatchesProcessed(new MatchesProcessedEvent(List.of(aggregated, recent)));
+
+        // then
+        assertThat(left.getMatchCount()).isEqualTo(1);
+        assertThat(left.getHeadToHeadWins()).isEqualTo(1);
+        assertThat(right.getMatchCount()).isEqualTo(1);
+        verify(rivalryAppliedMatchRepository).saveAll(argThat((List<RivalryAppliedMatch> saved) ->
+                saved.size() == 1 && saved.get(0).getMatchId().equals(200L)));
+    }
+
+    @Test
+    @DisplayName("라이벌리 생성 시 기준 시각 이전 매치는 집계 쿼리로, 이후 매치는 직접 반영하고 그 매치만 반영 기록을 남긴다")
+    void whenInitialize_thenRecordAppliedOnlyForMatchesAfterAggregation() {
+        // given
+        RiotAccount account1 = new RiotAccount("user1", "tag1", "puuid1");
+        RiotAccount account2 = new RiotAccount("user2", "tag2", "puuid2");
+        EntityTestUtil.setId(account1, 11L);
+        EntityTestUtil.setId(account2, 12L);
+        Rivalry rivalry = new Rivalry();
+        EntityTestUtil.setId(rivalry, 2L);
+        rivalry.addParticipant(new RivalryParticipant(account1, rivalry, RivalSide.LEFT));
+        rivalry.addParticipant(new RivalryParticipant(account2, rivalry, RivalSide.RIGHT));
+
+        TftMatch recent = match(300L, participant("puuid1", 2), participant("puuid2", 5));
+        when(rivalryStatRepository.findMatchIdsStoredSince(anySet(), any(LocalDateTime.class)))
+                .thenReturn(List.of(300L));
+        when(tftMatchRepository.findAllWithParticipantsByIdIn(List.of(300L))).thenReturn(List.of(recent));
+
+        // when
+        rivalryStatService.initialize(rivalry);
+
+        // then
+        ArgumentCaptor<List<RivalryStat>> statsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(rivalryStatRepository).saveAll(statsCaptor.capture());
+        RivalryStat leftStat = statsCaptor.getValue().get(0);
+        assertThat(leftStat.getMatchCount()).isEqualTo(1);
+        assertThat(leftStat.getHeadToHeadWins()).isEqualTo(1);
+        verify(rivalryStatRepository).aggregatePlacements(anySet(), any(LocalDateTime.class));
+        verify(rivalryAppliedMatchRepository).saveAll(argThat((List<RivalryAppliedMatch> saved) ->
+                saved.size() == 1 && saved.get(0).getRivalryId().equals(2L) && saved.get(0).getMatchId().equals(300L)));
+    }
+
+    private TftMatch match(Long id, TftMatchParticipant... participants) {
+        TftMatch match = mock(TftMatch.class);
+        when(match.getId()).thenReturn(id);
+        when(match.getParticipants()).thenReturn(List.of(participants));
+        return match;
+    }
+
+    private TftMatchParticipant participant(String puuid, int placement) {
+        TftMatchParticipant participant = participant(puuid);
+        when(participant.getPlacement()).thenReturn(placement);
+        return participant;
+    }
+
+    // 이미 반영된 매치의 참가자처럼 순위를 읽지 않는 경우
+    private TftMatchParticipant participant(String puuid) {
+        TftMatchParticipant participant = mock(TftMatchParticipant.class);
+        when(participant.getPuuid()).thenReturn(puuid);
+        return participant;
+    }
+}
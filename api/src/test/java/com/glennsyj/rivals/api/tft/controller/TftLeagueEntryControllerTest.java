@@ -1,9 +1,12 @@
 package com.glennsyj.rivals.api.tft.controller;
 
+import com.glennsyj.rivals.api.common.web.DataSnapshot;
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
-import com.glennsyj.rivals.api.riot.service.RiotAccountManager;
 import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
-import com.glennsyj.rivals.api.tft.service.TftLeagueEntryManager;
+import com.glennsyj.rivals.api.tft.facade.TftFacade;
+import com.glennsyj.rivals.api.tft.facade.TftSnapshotReader;
+import com.glennsyj.rivals.api.tft.model.entry.TftLeagueHistoryPointDto;
+import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,10 +16,13 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
-import static org.mockito.ArgumentMatchers.anyLong;
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,10 +34,10 @@ public class TftLeagueEntryControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private TftLeagueEntryManager leagueEntryManager;
+    private TftSnapshotReader tftSnapshotReader;
 
     @MockitoBean
-    private RiotAccountManager riotAccountManager;
+    private TftFacade tftFacade;
 
     private RiotAccount account;
     private Long accountId;
@@ -69,30 +75,27 @@ public class TftLeagueEntryControllerTest {
     @Test
     void 존재하는_유저_TFT_정보_불러오기_성공() throws Exception {
         // given
-        when(riotAccountManager.findOrRegisterAccount(account.getGameName(), account.getTagLine()))
-                .thenReturn(account);
-        when(leagueEntryManager.findOrCreateEntry(anyLong()))
-                .thenReturn(entry);
+        when(tftSnapshotReader.readLeagueEntries(account.getGameName(), account.getTagLine()))
+                .thenReturn(DataSnapshot.of(List.of(TftStatusDto.from(entry)), LocalDateTime.now()));
         // when & then
         mockMvc.perform(
                         MockMvcRequestBuilders.get("/api/v1/tft/entries/{encodedFullName}",
                                 account.getFullGameName()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.rank").value(entry.getRank().toString()))
-                .andExpect(jsonPath("$.tier").value(entry.getTier().toString()))
-                .andExpect(jsonPath("$.leaguePoints").value(entry.getLeaguePoints()))
-                .andExpect(jsonPath("$.wins").value(entry.getWins()))
-                .andExpect(jsonPath("$.losses").value(entry.getLosses()))
-                .andExpect(jsonPath("$.hotStreak").value(entry.isHotStreak()))
+                .andExpect(header().exists(DataSnapshot.DATA_AGE_HEADER))
+                .andExpect(jsonPath("$[0].rank").value(entry.getRank().toString()))
+                .andExpect(jsonPath("$[0].tier").value(entry.getTier().toString()))
+                .andExpect(jsonPath("$[0].leaguePoints").value(entry.getLeaguePoints()))
+                .andExpect(jsonPath("$[0].wins").value(entry.getWins()))
+                .andExpect(jsonPath("$[0].losses").value(entry.getLosses()))
+                .andExpect(jsonPath("$[0].hotStreak").value(entry.isHotStreak()))
                 .andDo(print());
     }
 
     @Test
     void 존재하는_유저_TFT_정보_없음() throws Exception {
         // given
-        when(riotAccountManager.findOrRegisterAccount(account.getGameName(), account.getTagLine()))
-                .thenReturn(account);
-        when(leagueEntryManager.findOrCreateEntry(anyLong()))
+        when(tftSnapshotReader.readLeagueEntries(account.getGameName(), account.getTagLine()))
                 .thenThrow(IllegalStateException.class);
         // when & then
         mockMvc.perform(
@@ -102,4 +105,30 @@ public class TftLeagueEntryControllerTest {
                 .andDo(print());
 
     }
+
+    @Test
+    void LP_기록_조회_성공() throws Exception {
+        // given
+        TftLeagueHistoryPointDto point = new TftLeagueHistoryPointDto(
+                "DIAMOND", "I", 10, 2710, 5, 2, "RAW", LocalDateTime.now());
+        when(tftFacade.findLeagueHistory("Hide", "KR1", TftLeagueEntry.QueueType.RANKED_TFT, 30))
+                .thenReturn(List.of(point));
+        // when & then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/v1/tft/entries/{gameName}/{tagLine}/history", "Hide", "KR1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].ladderPoints").value(2710))
+                .andExpect(jsonPath("$[0].resolution").value("RAW"))
+                .andDo(print());
+    }
+
+    @Test
+    void LP_기록_조회시_잘못된_큐_타입() throws Exception {
+        // when & then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/v1/tft/entries/{gameName}/{tagLine}/history", "Hide", "KR1")
+                                .param("queueType", "NORMAL"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
 }
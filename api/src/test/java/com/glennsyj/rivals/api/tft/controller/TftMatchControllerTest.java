@@ -1,9 +1,13 @@
 package com.glennsyj.rivals.api.tft.controller;
 
+import com.glennsyj.rivals.api.common.web.DataSnapshot;
 import com.glennsyj.rivals.api.config.EntityTestUtil;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
 import com.glennsyj.rivals.api.tft.facade.TftFacade;
+import com.glennsyj.rivals.api.tft.facade.TftSnapshotReader;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchCursor;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchPageDto;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchParticipantDto;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchTrait;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchUnit;
@@ -17,10 +21,13 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -33,6 +40,9 @@ class TftMatchControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockitoBean
+    private TftSnapshotReader tftSnapshotReader;
+
     @MockitoBean
     private TftFacade tftFacade;
 
@@ -81,13 +91,15 @@ class TftMatchControllerTest {
         String gameName = "testGame";
         String tagLine = "testTag";
 
-        when(tftFacade.findAndProcessMatches(gameName, tagLine))
-                .thenReturn(mockMatchDtos);
+        when(tftSnapshotReader.readRecentMatches(gameName, tagLine))
+                .thenReturn(DataSnapshot.of(mockMatchDtos, LocalDateTime.now().minusMinutes(10)));
 
         // When & Then
         mockMvc.perform(get("/api/v1/tft/matches/{gameName}/{tagLine}", gameName, tagLine))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().exists(DataSnapshot.DATA_AGE_HEADER))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$[0].id").value("1"))
                 .andExpect(jsonPath("$[0].matchId").value("TEST_MATCH_ID"))
                 .andExpect(jsonPath("$[0].gameCreation").value(1234567890))
@@ -112,7 +124,7 @@ class TftMatchControllerTest {
         String gameName = "testGame";
         String tagLine = "testTag";
 
-        when(tftFacade.findAndProcessMatches(gameName, tagLine))
+        when(tftSnapshotReader.readRecentMatches(gameName, tagLine))
                 .thenThrow(new IllegalStateException("계정 갱신을 먼저 진행해주세요."));
 
         // When & Then
@@ -129,7 +141,7 @@ class TftMatchControllerTest {
         String gameName = "testGame";
         String tagLine = "testTag";
 
-        when(tftFacade.findAndProcessMatches(gameName, tagLine))
+        when(tftSnapshotReader.readRecentMatches(gameName, tagLine))
                 .thenThrow(new IllegalStateException("계정을 찾을 수 없습니다."));
 
         // When & Then
@@ -138,4 +150,57 @@ class TftMatchControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$").doesNotExist());
     }
+
+    @Test
+    @DisplayName("GET /api/v1/tft/matches/{gameName}/{tagLine}?limit&before - 커서 기반 페이지 조회")
+    void getMatchPage_Success() throws Exception {
+        // Given
+        String gameName = "testGame";
+        String tagLine = "testTag";
+        TftMatchCursor cursor = new TftMatchCursor(1234567890L, 10L);
+
+        when(tftFacade.findMatchPage(gameName, tagLine, cursor, 1))
+                .thenReturn(new TftMatchPageDto(mockMatchDtos, "1234567000,9"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tft/matches/{gameName}/{tagLine}", gameName, tagLine)
+                        .param("before", "1234567890,10")
+                        .param("limit", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matches[0].matchId").value("TEST_MATCH_ID"))
+                .andExpect(jsonPath("$.nextCursor").value("1234567000,9"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tft/matches/{gameName}/{tagLine}?limit&before - 실패 (잘못된 커서)")
+    void getMatchPage_InvalidCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/tft/matches/{gameName}/{tagLine}", "testGame", "testTag")
+                        .param("before", "invalid")
+                        .param("limit", "10"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tft/matches/{gameName}/{tagLine}?before - limit 없이도 기본 크기로 페이지 조회")
+    void getMatchPage_WithoutLimit() throws Exception {
+        // Given
+        String gameName = "testGame";
+        String tagLine = "testTag";
+        TftMatchCursor cursor = new TftMatchCursor(1234567890L, 10L);
+
+        when(tftFacade.findMatchPage(gameName, tagLine, cursor, 20))
+                .thenReturn(new TftMatchPageDto(mockMatchDtos, null));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tft/matches/{gameName}/{tagLine}", gameName, tagLine)
+                        .param("before", "1234567890,10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matches[0].matchId").value("TEST_MATCH_ID"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+        verify(tftSnapshotReader, never()).readRecentMatches(anyString(), anyString());
+    }
 }
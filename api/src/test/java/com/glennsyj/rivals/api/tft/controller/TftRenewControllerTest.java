@@ -1,31 +1,49 @@
 package com.glennsyj.rivals.api.tft.controller;
 
 import com.glennsyj.rivals.api.common.config.SecurityConfig;
+import com.glennsyj.rivals.api.riot.model.RiotAccountDto;
 import com.glennsyj.rivals.api.tft.facade.TftFacade;
 import com.glennsyj.rivals.api.tft.facade.exception.TftRenewException;
+import com.glennsyj.rivals.api.tft.facade.exception.TftRenewRejectedException;
 import com.glennsyj.rivals.api.tft.model.badge.TftBadgeDto;
 import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
 import com.glennsyj.rivals.api.tft.model.match.TftRecentMatchDto;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchTrait;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchUnit;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchParticipantDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewRequestDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewResponseDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftBulkRenewResultDto;
 import com.glennsyj.rivals.api.tft.model.renew.TftRenewDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftRenewEvent;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TftRenewController.class)
@@ -114,4 +132,123 @@ class TftRenewControllerTest {
                 .andExpect(status().isInternalServerError())
                 .andDo(print());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void TFT_데이터_갱신_거절시_503과_Retry_After를_반환() throws Exception {
+        // given
+        String gameName = "Busy";
+        String tagLine = "KR1";
+
+        when(tftFacade.renewAllTftData(gameName, tagLine))
+                .thenThrow(new TftRenewRejectedException("갱신 요청이 많아 처리할 수 없습니다",
+                        Duration.ofMillis(2500), new RuntimeException()));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/tft/renew/{gameName}/{tagLine}", gameName, tagLine))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andDo(print());
+    }
+
+    @Test
+    void TFT_갱신_진행상황을_SSE로_스트리밍() throws Exception {
+        // given
+        String gameName = "Hide";
+        String tagLine = "KR1";
+
+        when(tftFacade.streamRenewProgress(gameName, tagLine))
+                .thenReturn(Flux.just(
+                        TftRenewEvent.accountResolved(new RiotAccountDto("puuid", gameName, tagLine, "1", null)),
+                        TftRenewEvent.badgesUpdated(List.of())
+                ));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/tft/renew/{gameName}/{tagLine}/stream", gameName, tagLine)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:account-resolved")))
+                .andExpect(content().string(containsString("event:badges-updated")))
+                .andDo(print());
+    }
+
+    @Test
+    void TFT_스트리밍_갱신_요청이_거절되면_503과_Retry_After를_반환() throws Exception {
+        // given
+        String gameName = "Hide";
+        String tagLine = "KR1";
+
+        when(tftFacade.streamRenewedMatches(gameName, tagLine))
+                .thenReturn(Flux.error(new TftRenewRejectedException("갱신 요청이 많아 처리할 수 없습니다",
+                        Duration.ofSeconds(5), new RuntimeException())));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/tft/renew/{gameName}/{tagLine}/reactive", gameName, tagLine)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                .andDo(print());
+    }
+
+    @Test
+    void TFT_갱신_진행상황_스트리밍이_거절되면_503을_반환() throws Exception {
+        // given
+        String gameName = "Hide";
+        String tagLine = "KR1";
+
+        when(tftFacade.streamRenewProgress(gameName, tagLine))
+                .thenReturn(Flux.error(new TftRenewRejectedException("갱신 요청이 많아 처리할 수 없습니다",
+                        Duration.ofSeconds(5), new RuntimeException())));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/tft/renew/{gameName}/{tagLine}/stream", gameName, tagLine)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                .andDo(print());
+    }
+
+    @Test
+    void TFT_일괄_갱신시_계정별_결과를_반환() throws Exception {
+        // given
+        TftBulkRenewRequestDto.RiotId hide = new TftBulkRenewRequestDto.RiotId("Hide", "KR1");
+        TftBulkRenewRequestDto.RiotId missing = new TftBulkRenewRequestDto.RiotId("NotExist", "KR1");
+
+        when(tftFacade.renewBulk(List.of(hide, missing)))
+                .thenReturn(new TftBulkRenewResponseDto(List.of(
+                        TftBulkRenewResultDto.success(hide,
+                                new TftRenewDto(List.of(), List.of(), List.of(), LocalDateTime.now())),
+                        TftBulkRenewResultDto.failed(missing, "계정을 찾을 수 없습니다")
+                ), 3));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/tft/renew/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"riotIds": [
+                                  {"gameName": "Hide", "tagLine": "KR1"},
+                                  {"gameName": "NotExist", "tagLine": "KR1"}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("SUCCESS"))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.fetchedMatchCount").value(3))
+                .andDo(print());
+    }
+}
@@ -0,0 +1,78 @@
+package com.glennsyj.rivals.api.tft.entity.achievement;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TftBadgeWindowTest {
+
+    @Test
+    @DisplayName("윈도우 크기를 넘으면 가장 오래된 경기의 업적부터 밀려난다")
+    void whenSyncOverCapacity_thenEvictOldest() {
+        // given
+        TftBadgeWindow window = new TftBadgeWindow(null);
+        int firstPlace = TftBadgeWindow.maskOf(AchievementType.FIRST_PLACE);
+        int topFour = TftBadgeWindow.maskOf(AchievementType.TOP_FOUR);
+
+        // 처음 5경기(id 1~5)는 1등, 이후 경기는 상위 4등만 달성
+        window.sync(newestFirst(1, TftBadgeWindow.CAPACITY), matchId -> matchId <= 5 ? firstPlace | topFour : topFour);
+
+        // when
+        window.sync(newestFirst(3, TftBadgeWindow.CAPACITY + 2), matchId -> topFour);
+
+        // then
+        assertThat(window.getSize()).isEqualTo(TftBadgeWindow.CAPACITY);
+        assertThat(window.count(AchievementType.FIRST_PLACE)).isEqualTo(3);
+        assertThat(window.count(AchievementType.TOP_FOUR)).isEqualTo(TftBadgeWindow.CAPACITY);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 경기는 다시 계산하지 않고 구성이 같으면 변경하지 않는다")
+    void whenSyncSameMatches_thenKeepWindow() {
+        // given
+        TftBadgeWindow window = new TftBadgeWindow(null);
+        window.sync(List.of(2L, 1L), matchId -> TftBadgeWindow.maskOf(AchievementType.FIRST_PLACE));
+
+        // when
+        boolean changed = window.sync(List.of(2L, 1L), matchId -> {
+            throw new AssertionError("이미 반영된 경기를 다시 계산함: " + matchId);
+        });
+
+        // then
+        assertThat(changed).isFalse();
+        assertThat(window.contains(2L)).isTrue();
+        assertThat(window.contains(3L)).isFalse();
+        assertThat(window.count(AchievementType.FIRST_PLACE)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("더 최근 경기 이후에 저장된 과거 경기도 최근 N경기 안이면 반영한다")
+    void whenOlderMatchStoredLate_thenApply() {
+        // given: 3번 경기가 2번 경기보다 먼저 저장됨
+        TftBadgeWindow window = new TftBadgeWindow(null);
+        window.sync(List.of(3L, 1L), matchId -> TftBadgeWindow.maskOf(AchievementType.TOP_FOUR));
+
+        // when
+        boolean changed = window.sync(List.of(3L, 2L, 1L),
+            matchId -> TftBadgeWindow.maskOf(AchievementType.FIRST_PLACE));
+
+        // then
+        assertThat(changed).isTrue();
+        assertThat(window.getMatchIds()).containsExactly(3L, 2L, 1L);
+        assertThat(window.count(AchievementType.FIRST_PLACE)).isEqualTo(1);
+        assertThat(window.count(AchievementType.TOP_FOUR)).isEqualTo(2);
+    }
+
+    // [from, to] 범위의 경기 id를 최신순으로 반환
+    private static List<Long> newestFirst(long from, long to) {
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(from, to).boxed().toList());
+        Collections.reverse(ids);
+        return ids;
+    }
+}
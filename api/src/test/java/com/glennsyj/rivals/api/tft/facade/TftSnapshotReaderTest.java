@@ -0,0 +1,130 @@
+package com.glennsyj.rivals.api.tft.facade;
+
+import com.glennsyj.rivals.api.common.web.DataSnapshot;
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.service.RiotAccountManager;
+import com.glennsyj.rivals.api.tft.model.entry.TftStatusDto;
+import com.glennsyj.rivals.api.tft.model.match.TftRecentMatchDto;
+import com.glennsyj.rivals.api.tft.model.renew.TftRenewDto;
+import com.glennsyj.rivals.api.tft.scheduler.RenewPriorityQueue;
+import com.glennsyj.rivals.api.tft.service.TftLeagueEntryManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TftSnapshotReaderTest {
+
+    @Mock
+    private TftFacade tftFacade;
+
+    @Mock
+    private TftLeagueEntryManager tftLeagueEntryManager;
+
+    @Mock
+    private RiotAccountManager riotAccountManager;
+
+    @Mock
+    private TftRevalidator tftRevalidator;
+
+    @Mock
+    private RenewPriorityQueue renewPriorityQueue;
+
+    @Mock
+    private RiotAccount account;
+
+    private TftSnapshotReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new TftSnapshotReader(tftFacade, tftLeagueEntryManager, riotAccountManager,
+                tftRevalidator, renewPriorityQueue, true, 300);
+        given(account.getId()).willReturn(1L);
+        given(riotAccountManager.findOrRegisterAccount("name", "KR1")).willReturn(account);
+    }
+
+    @Test
+    @DisplayName("저장된 매치가 오래되었으면 DB 데이터를 바로 응답하고 비동기 갱신을 요청한다")
+    void whenStoredMatchesAreStale_thenServeAndRevalidate() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.now().minusHours(1);
+        List<TftRecentMatchDto> stored = List.of(mock(TftRecentMatchDto.class));
+        given(account.getUpdatedAt()).willReturn(updatedAt);
+        given(tftFacade.findStoredMatches(account)).willReturn(stored);
+        given(tftRevalidator.tryMarkPending(1L)).willReturn(true);
+
+        // when
+        DataSnapshot<List<TftRecentMatchDto>> result = reader.readRecentMatches("name", "KR1");
+
+        // then
+        assertThat(result.data()).isEqualTo(stored);
+        assertThat(result.refreshedAt()).isEqualTo(updatedAt);
+        verify(tftRevalidator).revalidate(account);
+        verify(tftFacade, never()).findAndProcessMatches(any(RiotAccount.class));
+    }
+
+    @Test
+    @DisplayName("저장된 매치가 ttl 이내이면 갱신을 요청하지 않는다")
+    void whenStoredMatchesAreFresh_thenServeWithoutRevalidation() {
+        // given
+        given(account.getUpdatedAt()).willReturn(LocalDateTime.now().minusMinutes(1));
+        given(tftFacade.findStoredMatches(account)).willReturn(List.of(mock(TftRecentMatchDto.class)));
+
+        // when
+        reader.readRecentMatches("name", "KR1");
+
+        // then
+        verify(tftRevalidator, never()).revalidate(any());
+    }
+
+    @Test
+    @DisplayName("한 번도 갱신되지 않은 계정은 전체 갱신을 동기적으로 수행한다")
+    void whenNeverSynced_thenRenewSynchronously() {
+        // given
+        LocalDateTime renewedAt = LocalDateTime.now();
+        List<TftRecentMatchDto> matches = List.of(mock(TftRecentMatchDto.class));
+        given(account.getUpdatedAt()).willReturn(null);
+        given(tftFacade.renewAllTftData(account))
+                .willReturn(new TftRenewDto(List.of(), matches, List.of(), renewedAt));
+
+        // when
+        DataSnapshot<List<TftRecentMatchDto>> result = reader.readRecentMatches("name", "KR1");
+
+        // then
+        assertThat(result.data()).isEqualTo(matches);
+        assertThat(result.refreshedAt()).isEqualTo(renewedAt);
+        verify(tftFacade, never()).findStoredMatches(any());
+        verify(tftRevalidator, never()).revalidate(any());
+    }
+
+    @Test
+    @DisplayName("갱신된 적 있는 계정은 랭크 정보가 없어도 Riot API를 호출하지 않고 빈 데이터를 응답한다")
+    void whenSyncedButUnranked_thenServeEmptyWithoutRiotCall() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(1);
+        given(account.getUpdatedAt()).willReturn(updatedAt);
+        given(tftLeagueEntryManager.findStoredLeagueEntries(1L)).willReturn(List.of());
+
+        // when
+        DataSnapshot<List<TftStatusDto>> result = reader.readLeagueEntries("name", "KR1");
+
+        // then
+        assertThat(result.data()).isEmpty();
+        assertThat(result.refreshedAt()).isEqualTo(updatedAt);
+        verify(tftLeagueEntryManager, never()).findOrCreateLeagueEntries(any());
+        verify(tftFacade, never()).renewAllTftData(any(RiotAccount.class));
+    }
+}
@@ -0,0 +1,136 @@
+package com.glennsyj.rivals.api.tft.outbox;
+
+import com.glennsyj.rivals.api.config.EntityTestUtil;
+import com.glennsyj.rivals.api.tft.cache.TftMatchCache;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
+import com.glennsyj.rivals.api.tft.entity.outbox.TftOutboxEvent;
+import com.glennsyj.rivals.api.tft.entity.outbox.TftOutboxEventType;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import com.glennsyj.rivals.api.tft.repository.TftOutboxEventRepository;
+import com.glennsyj.rivals.api.tft.service.TftBadgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TftOutboxProcessorTest {
+
+    @Mock
+    private TftOutboxEventRepository tftOutboxEventRepository;
+
+    @Mock
+    private TftMatchRepository tftMatchRepository;
+
+    @Mock
+    private TftBadgeService tftBadgeService;
+
+    @Mock
+    private TftMatchCache tftMatchCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TftOutboxProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new TftOutboxProcessor(tftOutboxEventRepository, tftMatchRepository, tftBadgeService,
+                tftMatchCache, transactionTemplate, eventPublisher, 10, 5, 30, 24);
+
+        // 트랜잭션 없이 콜백을 바로 실행
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("대기 중인 매치 이벤트를 한 번에 처리하고 처리 완료로 표시한다")
+    void whenEventsPending_thenProcessInBatch() {
+        // given
+        TftOutboxEvent first = createEvent(1L, 100L);
+        TftOutboxEvent second = createEvent(2L, 200L);
+        given(tftOutboxEventRepository.claimPending(any(), eq(5), eq(10)))
+                .willReturn(List.of(first, second));
+
+        TftMatch match1 = mock(TftMatch.class);
+        TftMatch match2 = mock(TftMatch.class);
+        given(match1.getMatchId()).willReturn("KR_100");
+        given(match2.getMatchId()).willReturn("KR_200");
+        given(tftMatchRepository.findAllWithParticipantsByIdIn(List.of(100L, 200L)))
+                .willReturn(List.of(match1, match2));
+
+        // when
+        processor.drain();
+
+        // then
+        verify(tftBadgeService).processMatchAchievements(List.of(match1, match2));
+        verify(tftMatchCache).evict("KR_100");
+        verify(tftMatchCache).evict("KR_200");
+        assertThat(first.getProcessedAt()).isNotNull();
+        assertThat(second.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("배치 처리가 실패하면 하나씩 다시 처리하고 실패한 이벤트만 재시도 대기로 미룬다")
+    void whenBatchFails_thenIsolateFailedEvent() {
+        // given
+        TftOutboxEvent healthy = createEvent(1L, 100L);
+        TftOutboxEvent broken = createEvent(2L, 200L);
+        given(tftOutboxEventRepository.claimPending(any(), eq(5), anyInt()))
+                .willReturn(List.of(healthy, broken))   // 배치 처리
+                .willReturn(List.of(healthy))           // 하나씩 처리
+                .willReturn(List.of(broken))
+                .willReturn(List.of());
+
+        TftMatch match = mock(TftMatch.class);
+        given(match.getMatchId()).willReturn("KR_100");
+        given(tftMatchRepository.findAllWithParticipantsByIdIn(List.of(100L, 200L)))
+                .willThrow(new IllegalStateException("broken"));
+        given(tftMatchRepository.findAllWithParticipantsByIdIn(List.of(100L)))
+                .willReturn(List.of(match));
+        given(tftMatchRepository.findAllWithParticipantsByIdIn(List.of(200L)))
+                .willThrow(new IllegalStateException("broken"));
+        given(tftOutboxEventRepository.findById(2L)).willReturn(Optional.of(broken));
+        willAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        processor.drain();
+
+        // then
+        verify(tftBadgeService).processMatchAchievements(List.of(match));
+        assertThat(healthy.getProcessedAt()).isNotNull();
+        assertThat(broken.getProcessedAt()).isNull();
+        assertThat(broken.getAttempts()).isEqualTo(1);
+        assertThat(broken.getLastError()).isEqualTo("broken");
+    }
+
+    private TftOutboxEvent createEvent(Long id, Long matchId) {
+        TftOutboxEvent event = new TftOutboxEvent(TftOutboxEventType.MATCH_INGESTED, matchId);
+        EntityTestUtil.setId(event, id);
+        return event;
+    }
+}
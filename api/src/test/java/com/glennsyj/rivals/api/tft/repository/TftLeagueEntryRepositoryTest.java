@@ -11,10 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -64,27 +62,50 @@ class TftLeagueEntryRepositoryTest {
     }
 
     @Test
-    @DisplayName("QueueType 별로 엔트리를 저장하면 가장 최근 엔트리를 불러온다.")
-    void findLatestEntriesForEachQueueTypeByAccountId_ShouldReturnLatestEntryForEachQueueType() {
+    @DisplayName("같은 계정/큐타입으로 upsert하면 행을 추가하지 않고 현재 엔트리를 덮어쓴다.")
+    void upsertAll_ShouldKeepOneEntryForEachQueueType() {
         // given
         RiotAccount account = new RiotAccount("gameName", "tagLine", "puuid");
-        account = riotAccountRepository.save(account);
-        LocalDateTime now = LocalDateTime.now();
-        // 각 QueueType별로 2개의 엔트리 저장 (이전 데이터 + 최신 데이터)
-        TftLeagueEntry oldRankedEntry = createEntry(account, TftLeagueEntry.QueueType.RANKED_TFT, now.minusDays(1));
-        TftLeagueEntry latestRankedEntry = createEntry(account, TftLeagueEntry.QueueType.RANKED_TFT, now);
+        account = riotAccountRepository.saveAndFlush(account);
+
+        tftLeagueEntryRepository.upsertAll(List.of(
+                createEntry(account, TftLeagueEntry.QueueType.RANKED_TFT, 100),
+                createEntry(account, TftLeagueEntry.QueueType.RANKED_TFT_TURBO, 100)));
+
+        // when
+        tftLeagueEntryRepository.upsertAll(List.of(
+                createEntry(account, TftLeagueEntry.QueueType.RANKED_TFT, 150)));
+        List<TftLeagueEntry> result = tftLeagueEntryRepository.findAllByAccount_Id(account.getId());
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+        TftLeagueEntry ranked = result.stream()
+                .filter(entry -> entry.getQueueType() == TftLeagueEntry.QueueType.RANKED_TFT)
+                .findFirst()
+                .orElseThrow();
+        assertThat(ranked.getLeaguePoints()).isEqualTo(150);
+        assertThat(ranked.getVersion()).isEqualTo(1L);
+    }
 
-        TftLeagueEntry oldTurboEntry = createEntry(account, TftLeagueEntry.QueueType.RANKED_TFT_TURBO, now.minusDays(1));
-        TftLeagueEntry latestTurboEntry = createEntry(account, TftLeagueEntry.QueueType.RANKED_TFT_TURBO, now);
+    @Test
+    @DisplayName("여러 계정의 특정 큐타입 현재 엔트리를 한 번에 조회한다.")
+    void findAllByAccountIdInAndQueueType_ShouldReturnOneEntryPerAccount() {
+        // given
+        RiotAccount account1 = riotAccountRepository.saveAndFlush(new RiotAccount("user1", "KR1", "puuid1"));
+        RiotAccount account2 = riotAccountRepository.saveAndFlush(new RiotAccount("user2", "KR1", "puuid2"));
 
-        tftLeagueEntryRepository.saveAll(List.of(oldRankedEntry, latestRankedEntry, oldTurboEntry, latestTurboEntry));
+        tftLeagueEntryRepository.upsertAll(List.of(
+                createEntry(account1, TftLeagueEntry.QueueType.RANKED_TFT, 100),
+                createEntry(account1, TftLeagueEntry.QueueType.RANKED_TFT_TURBO, 100),
+                createEntry(account2, TftLeagueEntry.QueueType.RANKED_TFT, 200)));
 
         // when
-        List<TftLeagueEntry> result = tftLeagueEntryRepository.findLatestEntriesForEachQueueTypeByAccountId(account.getId());
+        List<TftLeagueEntry> result = tftLeagueEntryRepository.findAllByAccount_IdInAndQueueType(
+                List.of(account1.getId(), account2.getId()), TftLeagueEntry.QueueType.RANKED_TFT);
 
         // then
         assertThat(result.size()).isEqualTo(2);
-        assertThat(result.containsAll(List.of(latestRankedEntry, latestTurboEntry)))
+        assertThat(result.stream().allMatch(entry -> entry.getQueueType() == TftLeagueEntry.QueueType.RANKED_TFT))
                 .isEqualTo(true);
     }
 
@@ -108,7 +129,7 @@ class TftLeagueEntryRepositoryTest {
         );
     }
 
-    private TftLeagueEntry createEntry(RiotAccount account, TftLeagueEntry.QueueType queueType, LocalDateTime updatedAt) {
+    private TftLeagueEntry createEntry(RiotAccount account, TftLeagueEntry.QueueType queueType, int leaguePoints) {
         TftLeagueEntryResponse response = new TftLeagueEntryResponse(
                 account.getPuuid(),
                 "test-leagueId",
@@ -116,7 +137,7 @@ class TftLeagueEntryRepositoryTest {
                 queueType.name(),
                 TftLeagueEntry.Tier.GOLD.name(),
                 TftLeagueEntry.Rank.I.name(),
-                100,  // leaguePoints
+                leaguePoints,
                 10,   // wins
                 5,    // losses
                 false, // hotStreak
@@ -126,11 +147,6 @@ class TftLeagueEntryRepositoryTest {
                 null   // miniSeries
         );
 
-        TftLeagueEntry entry = new TftLeagueEntry(account, response);
-
-        // updatedAt 설정을 위한 리플렉션 사용
-        ReflectionTestUtils.setField(entry, "updatedAt", updatedAt);
-
-        return entry;
+        return new TftLeagueEntry(account, response);
     }
 }
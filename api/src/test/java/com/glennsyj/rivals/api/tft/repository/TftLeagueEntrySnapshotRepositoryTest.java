@@ -0,0 +1,94 @@
+package com.glennsyj.rivals.api.tft.repository;
+
+import com.glennsyj.rivals.api.config.TestContainerConfig;
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot.Resolution;
+import com.glennsyj.rivals.api.tft.model.entry.TftLeagueEntryResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestContainerConfig.class)
+@Testcontainers
+class TftLeagueEntrySnapshotRepositoryTest {
+
+    private static final String HOURLY_BUCKET = "%Y-%m-%d %H";
+
+    @Autowired
+    private TftLeagueEntrySnapshotRepository snapshotRepository;
+
+    @Autowired
+    private RiotAccountRepository riotAccountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("버킷 경계에 맞춘 기준 시각 이전 행만 버킷별 마지막 값으로 줄여 전환하고, 이후 행은 그대로 둔다")
+    void downsample_ShouldOnlyTouchBucketsBeforeAlignedCutoff() {
+        // given
+        RiotAccount account = riotAccountRepository.saveAndFlush(new RiotAccount("user", "KR1", "puuid"));
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        // 기준 시각 이전 버킷(09시) 2행, 이후 버킷(10시) 2행 (기록 순서대로 저장해 id 순서를 시각 순서와 맞춤)
+        snapshotRepository.saveAndFlush(createSnapshot(account, 10, cutoff.minusMinutes(50)));
+        snapshotRepository.saveAndFlush(createSnapshot(account, 20, cutoff.minusMinutes(20)));
+        snapshotRepository.saveAndFlush(createSnapshot(account, 30, cutoff.plusMinutes(10)));
+        snapshotRepository.saveAndFlush(createSnapshot(account, 40, cutoff.plusMinutes(40)));
+
+        // when
+        int deleted = snapshotRepository.deleteSupersededInBucket(Resolution.RAW.name(), HOURLY_BUCKET, cutoff);
+        int promoted = snapshotRepository.promote(Resolution.RAW.name(), Resolution.HOURLY.name(), cutoff);
+        entityManager.clear();
+
+        // then
+        List<TftLeagueEntrySnapshot> result = snapshotRepository
+                .findAllByAccountIdAndQueueTypeAndCapturedAtGreaterThanEqualOrderByCapturedAtAsc(
+                        account.getId(), TftLeagueEntry.QueueType.RANKED_TFT, cutoff.minusDays(1));
+        assertThat(deleted).isEqualTo(1);
+        assertThat(promoted).isEqualTo(1);
+        assertThat(result)
+                .extracting(TftLeagueEntrySnapshot::getLeaguePoints, TftLeagueEntrySnapshot::getResolution)
+                .containsExactly(
+                        tuple(20, Resolution.HOURLY),
+                        tuple(30, Resolution.RAW),
+                        tuple(40, Resolution.RAW));
+    }
+
+    private TftLeagueEntrySnapshot createSnapshot(RiotAccount account, int leaguePoints, LocalDateTime capturedAt) {
+        TftLeagueEntryResponse response = new TftLeagueEntryResponse(
+                account.getPuuid(),
+                "test-leagueId",
+                "test-summonerId",
+                TftLeagueEntry.QueueType.RANKED_TFT.name(),
+                TftLeagueEntry.Tier.GOLD.name(),
+                TftLeagueEntry.Rank.I.name(),
+                leaguePoints,
+                10,   // wins
+                5,    // losses
+                false, // hotStreak
+                false, // veteran
+                false, // freshBlood
+                false, // inactive
+                null   // miniSeries
+        );
+
+        return new TftLeagueEntrySnapshot(new TftLeagueEntry(account, response), capturedAt);
+    }
+}
@@ -5,6 +5,7 @@ import com.glennsyj.rivals.api.tft.entity.achievement.AchievementType;
 import com.glennsyj.rivals.api.tft.entity.achievement.TftMatchAchievement;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
+import com.glennsyj.rivals.api.tft.entity.match.TftPlayerMatchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,15 +13,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -34,6 +36,9 @@ class TftMatchAchievementRepositoryTest {
     @Autowired
     private TftMatchAchievementRepository achievementRepository;
 
+    @Autowired
+    private TftPlayerMatchIndexRepository playerMatchIndexRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -51,8 +56,9 @@ class TftMatchAchievementRepositoryTest {
             TftMatchParticipant participant = createTestParticipant(TEST_PUUID);
             match.addParticipant(participant);
             
-            // 매치 저장
+            // 매치 저장 (최근 경기 조회는 tft_player_match_index를 이용)
             matchRepository.save(match);
+            playerMatchIndexRepository.save(TftPlayerMatchIndex.from(participant));
             
             // 매치 업적 추가 (3번째마다 MOST_EXPENSIVE_SQUAD 업적 달성)
             if (i % 3 == 0) {
@@ -84,60 +90,35 @@ class TftMatchAchievementRepositoryTest {
     }
 
     @Test
-    @DisplayName("최근 20경기 중 특정 업적 달성 횟수를 정확히 계산한다")
-    void countRecentAchievements() {
-        // Debug: 전체 매치 정보 출력
-        List<TftMatch> allMatches = matchRepository.findAll();
-        System.out.println("\n=== 전체 매치 목록 ===");
-        allMatches.stream()
-            .sorted((m1, m2) -> m2.getGameCreation().compareTo(m1.getGameCreation()))
-            .forEach(match -> {
-                System.out.printf("Match ID: %s, Creation: %d%n", 
-                    match.getMatchId(), match.getGameCreation());
-            });
-
-        // Debug: 최근 20경기 매치 ID 출력
-        List<TftMatch> recentMatches = matchRepository
-            .findTop20ByParticipantsPuuidOrderByGameCreationDesc(TEST_PUUID);
-        System.out.println("\n=== 최근 20경기 매치 ID ===");
-        recentMatches.forEach(match -> 
-            System.out.println("Match ID: " + match.getMatchId()));
-
-        // Debug: 업적 정보 출력
-        List<TftMatchAchievement> achievements = achievementRepository.findAll();
-        Map<AchievementType, Long> achievementCounts = achievements.stream()
-            .filter(a -> a.getAchiever().getPuuid().equals(TEST_PUUID))
-            .filter(a -> recentMatches.contains(a.getMatch()))
-            .collect(Collectors.groupingBy(
-                TftMatchAchievement::getType,
-                Collectors.counting()
-            ));
-
-        System.out.println("\n=== 업적 달성 현황 ===");
-        achievementCounts.forEach((type, count) -> 
-            System.out.printf("%s: %d회%n", type, count));
-
+    @DisplayName("최근 20경기의 업적 달성 횟수를 업적 종류별로 한 번에 집계한다")
+    void countRecentAchievementsByType() {
         // when
-        int expensiveSquadCount = achievementRepository.countRecentAchievements(
+        Map<AchievementType, Integer> counts = achievementRepository.countRecentAchievementsByType(
             TEST_PUUID,
-            AchievementType.MOST_EXPENSIVE_SQUAD.name(),
             RECENT_MATCHES
         );
 
-        int firstPlaceCount = achievementRepository.countRecentAchievements(
-            TEST_PUUID,
-            AchievementType.FIRST_PLACE.name(),
-            RECENT_MATCHES
-        );
-
-        // Debug: 실제 쿼리 결과 출력
-        System.out.println("\n=== 쿼리 결과 ===");
-        System.out.printf("MOST_EXPENSIVE_SQUAD count: %d%n", expensiveSquadCount);
-        System.out.printf("FIRST_PLACE count: %d%n", firstPlaceCount);
-
         // then
-        assertThat(expensiveSquadCount).isEqualTo(7);
-        assertThat(firstPlaceCount).isEqualTo(4);
+        assertThat(counts)
+            .containsEntry(AchievementType.MOST_EXPENSIVE_SQUAD, 7)
+            .containsEntry(AchievementType.FIRST_PLACE, 4)
+            .doesNotContainKey(AchievementType.TOP_FOUR);
+    }
+
+    @Test
+    @DisplayName("같은 매치의 같은 참가자 업적은 중복 저장할 수 없다")
+    void whenDuplicateAchievement_thenViolateUniqueConstraint() {
+        // given
+        TftMatch match = createTestMatch("match-duplicate");
+        TftMatchParticipant participant = createTestParticipant(TEST_PUUID);
+        match.addParticipant(participant);
+        matchRepository.save(match);
+        achievementRepository.save(new TftMatchAchievement(match, AchievementType.TOP_FOUR, participant, 4));
+
+        // when & then
+        assertThatThrownBy(() -> achievementRepository.saveAndFlush(
+            new TftMatchAchievement(match, AchievementType.TOP_FOUR, participant, 4)))
+            .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     private TftMatch createTestMatch(String matchId) {
@@ -3,16 +3,20 @@ package com.glennsyj.rivals.api.tft.repository;
 import com.glennsyj.rivals.api.config.TestContainerConfig;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
+import com.glennsyj.rivals.api.tft.entity.match.TftPlayerMatchIndex;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +29,9 @@ class TftMatchRepositoryTest {
     @Autowired
     private TftMatchRepository tftMatchRepository;
 
+    @Autowired
+    private TftPlayerMatchIndexRepository tftPlayerMatchIndexRepository;
+
     @Test
     @DisplayName("특정 puuid를 가진 참가자의 최근 20개 매치를 조회한다")
     void findTop20ByParticipantsPuuidOrderByGameCreationDesc() {
@@ -61,6 +68,107 @@ class TftMatchRepositoryTest {
                         .anyMatch(participant -> participant.getPuuid().equals(testPuuid)));
     }
 
+    @Test
+    @DisplayName("최근 매치를 참가자와 함께 페이지 크기만큼 조회한다")
+    void findRecentMatchesWithParticipants() {
+        // given
+        String testPuuid = "test-puuid";
+        for (int i = 0; i < 25; i++) {
+            TftMatch match = createTestMatch("match-" + i);
+            match.addParticipant(createTestParticipant(testPuuid));
+            match.addParticipant(createTestParticipant("other-puuid-" + i));
+            saveWithIndex(match);
+        }
+
+        // when
+        List<TftMatch> matches = tftMatchRepository.findRecentMatchesWithParticipants(testPuuid, 20);
+
+        // then
+        assertThat(matches).hasSize(20);
+        assertThat(matches)
+                .isSortedAccordingTo((m1, m2) -> m2.getGameCreation().compareTo(m1.getGameCreation()));
+        assertThat(matches)
+                .allMatch(match -> Hibernate.isInitialized(match.getParticipants()))
+                .allMatch(match -> match.getParticipants().size() == 2);
+    }
+
+    @Test
+    @DisplayName("keyset 커서로 이어서 조회하면 중복이나 누락 없이 모든 매치를 순서대로 조회한다")
+    void findMatchIdsByPuuidBefore() {
+        // given
+        String testPuuid = "test-puuid";
+        for (int i = 0; i < 25; i++) {
+            TftMatch match = createTestMatch("match-" + i);
+            match.addParticipant(createTestParticipant(testPuuid));
+            saveWithIndex(match);
+        }
+
+        // when
+        List<Long> firstPage = tftMatchRepository.findRecentMatchIdsByPuuid(testPuuid, PageRequest.of(0, 10));
+        TftMatch last = tftMatchRepository.findById(firstPage.get(firstPage.size() - 1)).orElseThrow();
+        List<Long> secondPage = tftMatchRepository.findMatchIdsByPuuidBefore(
+                testPuuid, last.getGameCreation(), last.getId(), PageRequest.of(0, 100));
+
+        // then
+        assertThat(firstPage).hasSize(10);
+        assertThat(secondPage).hasSize(15);
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+    }
+
+    @Test
+    @DisplayName("인덱스 행이 없는 기존 참가자만 백필한다")
+    void backfillMissingRows() {
+        // given
+        TftMatch indexed = createTestMatch("match-indexed");
+        indexed.addParticipant(createTestParticipant("test-puuid"));
+        saveWithIndex(indexed);
+
+        TftMatch legacy = createTestMatch("match-legacy");
+        legacy.addParticipant(createTestParticipant("test-puuid"));
+        legacy.addParticipant(createTestParticipant("other-puuid"));
+        tftMatchRepository.saveAndFlush(legacy);
+
+        // when
+        int inserted = tftPlayerMatchIndexRepository.backfillMissingRows();
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(tftPlayerMatchIndexRepository.count()).isEqualTo(3);
+        assertThat(tftMatchRepository.findRecentMatchIdsByPuuid("test-puuid", PageRequest.of(0, 10)))
+                .containsExactlyInAnyOrder(indexed.getId(), legacy.getId());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 matchId는 예외 없이 건너뛰고 새로 삽입한 매치의 id만 반환한다")
+    void insertIgnoringDuplicates() {
+        // given
+        TftMatch existing = tftMatchRepository.saveAndFlush(createTestMatch("match-existing"));
+
+        // when
+        Map<String, Long> inserted = tftMatchRepository.insertIgnoringDuplicates(
+                List.of(createTestMatch("match-existing"), createTestMatch("match-new")));
+        Map<String, Long> insertedAgain = tftMatchRepository.insertIgnoringDuplicates(
+                List.of(createTestMatch("match-new")));
+
+        // then
+        assertThat(inserted).containsOnlyKeys("match-new");
+        assertThat(insertedAgain).isEmpty();
+        assertThat(tftMatchRepository.findById(inserted.get("match-new")))
+                .get()
+                .extracting(TftMatch::getMatchId)
+                .isEqualTo("match-new");
+        assertThat(tftMatchRepository.findMatchIdsIn(List.of("match-existing", "match-new")))
+                .containsExactlyInAnyOrder("match-existing", "match-new");
+        assertThat(existing.getId()).isNotIn(inserted.values());
+    }
+
+    private void saveWithIndex(TftMatch match) {
+        tftMatchRepository.save(match);
+        tftPlayerMatchIndexRepository.saveAll(match.getParticipants().stream()
+                .map(TftPlayerMatchIndex::from)
+                .toList());
+    }
+
     private TftMatch createTestMatch(String matchId) {
         return new TftMatch(
                 matchId, 
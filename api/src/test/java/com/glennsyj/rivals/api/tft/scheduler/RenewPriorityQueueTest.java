@@ -0,0 +1,61 @@
+package com.glennsyj.rivals.api.tft.scheduler;
+
+import com.glennsyj.rivals.api.config.EntityTestUtil;
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenewPriorityQueueTest {
+
+    private final RenewPriorityQueue queue = new RenewPriorityQueue(30, 1000, 2.0, 3.0, 30, 10);
+
+    @Test
+    @DisplayName("조회가 많은 계정과 라이벌 참여 계정을 우선으로 뽑는다")
+    void whenPolling_thenPreferHotAndRivalryAccounts() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        RiotAccount hot = createAccount(1L, now.minusHours(1));
+        RiotAccount rival = createAccount(2L, now.minusHours(1));
+        RiotAccount cold = createAccount(3L, now.minusHours(1));
+        queue.recordLookup(1L);
+        queue.recordLookup(1L);
+        queue.recordLookup(1L);
+
+        // when
+        List<RiotAccount> result = queue.poll(List.of(cold, rival, hot), Set.of(2L), 2, now);
+
+        // then
+        assertThat(result).extracting(RiotAccount::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("최근에 갱신된 계정과 cooldown 중인 계정은 뽑지 않는다")
+    void whenFreshOrCoolingDown_thenSkip() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        RiotAccount fresh = createAccount(1L, now.minusMinutes(5));
+        RiotAccount stale = createAccount(2L, now.minusHours(2));
+        queue.recordLookup(1L);
+
+        // when
+        List<RiotAccount> first = queue.poll(List.of(fresh, stale), Set.of(), 2, now);
+        List<RiotAccount> second = queue.poll(List.of(fresh, stale), Set.of(), 2, now.plusMinutes(1));
+
+        // then
+        assertThat(first).extracting(RiotAccount::getId).containsExactly(2L);
+        assertThat(second).isEmpty();
+    }
+
+    private RiotAccount createAccount(Long id, LocalDateTime updatedAt) {
+        RiotAccount account = new RiotAccount("name" + id, "KR1", "puuid-" + id);
+        EntityTestUtil.setId(account, id);
+        EntityTestUtil.setFieldWithValue(account, "updatedAt", updatedAt);
+        return account;
+    }
+}
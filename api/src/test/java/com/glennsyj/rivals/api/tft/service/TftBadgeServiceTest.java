@@ -3,6 +3,7 @@ package com.glennsyj.rivals.api.tft.service;
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
 import com.glennsyj.rivals.api.tft.entity.achievement.AchievementType;
 import com.glennsyj.rivals.api.tft.entity.achievement.TftBadgeProgress;
+import com.glennsyj.rivals.api.tft.entity.achievement.TftBadgeWindow;
 import com.glennsyj.rivals.api.tft.entity.achievement.TftMatchAchievement;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatchParticipant;
@@ -10,7 +11,9 @@ import com.glennsyj.rivals.api.tft.model.badge.TftBadgeBulkResponseDto;
 import com.glennsyj.rivals.api.tft.model.badge.TftBadgeDto;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchUnit;
 import com.glennsyj.rivals.api.tft.repository.TftBadgeProgressRepository;
+import com.glennsyj.rivals.api.tft.repository.TftBadgeWindowRepository;
 import com.glennsyj.rivals.api.tft.repository.TftMatchAchievementRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
 import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,6 +43,12 @@ class TftBadgeServiceTest {
     @Mock
     private TftBadgeProgressRepository badgeProgressRepository;
 
+    @Mock
+    private TftBadgeWindowRepository badgeWindowRepository;
+
+    @Mock
+    private TftMatchRepository tftMatchRepository;
+
     @Mock
     private RiotAccountRepository riotAccountRepository;
 
@@ -90,7 +99,7 @@ class TftBadgeServiceTest {
         ));
 
         // When
-        tftBadgeService.processMatchAchievements(match);
+        tftBadgeService.processMatchAchievements(List.of(match));
 
         // Then
         verify(achievementRepository).saveAll(achievementsCaptor.capture());
@@ -124,57 +133,107 @@ class TftBadgeServiceTest {
     }
 
     @Test
-    void renewAccountBadges_ShouldUpdateBadgeProgress() {
+    @DisplayName("뱃지 갱신 시 윈도우에 반영되지 않은 새 매치만 반영하고 집계 쿼리를 실행하지 않는다")
+    void renewAccountBadges_ShouldApplyOnlyNewMatches() {
         // Given
         RiotAccount account = mock(RiotAccount.class);
+        when(account.getId()).thenReturn(1L);
         when(account.getPuuid()).thenReturn("test-puuid");
-        
-        // MVP 뱃지에 대한 기존 진행도
+
+        // 이전 갱신에서 1등한 매치(old)가 이미 반영된 윈도우
+        TftBadgeWindow window = new TftBadgeWindow(account);
+        window.sync(List.of(1L), matchId -> TftBadgeWindow.maskOf(AchievementType.FIRST_PLACE)
+            | TftBadgeWindow.maskOf(AchievementType.TOP_FOUR));
+        when(badgeWindowRepository.findByRiotAccountId(1L)).thenReturn(Optional.of(window));
+
+        TftMatch oldMatch = mock(TftMatch.class);
+        when(oldMatch.getGameCreation()).thenReturn(1000L);
+        when(oldMatch.getId()).thenReturn(1L);
+
+        // 새 매치에서도 1등 (최고 데미지, 최다 처치, 가장 비싼 스쿼드 포함)
+        TftMatch newMatch = mock(TftMatch.class);
+        when(newMatch.getGameCreation()).thenReturn(2000L);
+        when(newMatch.getId()).thenReturn(2L);
+        TftMatchParticipant me = createParticipant(1, 3, 1500, List.of(
+            new TftMatchUnit("TFT9_Ahri", List.of(), "Ahri", 4, 2)
+        ));
+        when(me.getPuuid()).thenReturn("test-puuid");
+        TftMatchParticipant other = createParticipant(2, 1, 500, List.of(
+            new TftMatchUnit("TFT9_Annie", List.of(), "Annie", 1, 1)
+        ));
+        when(other.getPuuid()).thenReturn("other-puuid");
+        when(newMatch.getParticipants()).thenReturn(List.of(me, other));
+
         TftBadgeProgress existingMvpProgress = new TftBadgeProgress(account, TftBadgeProgress.BadgeType.MVP);
-        
-        // BadgeType별로 다른 응답 설정
-        when(badgeProgressRepository.findByRiotAccountAndBadgeType(eq(account), eq(TftBadgeProgress.BadgeType.MVP)))
-            .thenReturn(Optional.of(existingMvpProgress));
-        when(badgeProgressRepository.findByRiotAccountAndBadgeType(eq(account), argThat(badgeType -> 
-            badgeType != TftBadgeProgress.BadgeType.MVP)))
-            .thenReturn(Optional.empty());
+        existingMvpProgress.updateProgress(1);
+        when(badgeProgressRepository.findByRiotAccount(account))
+            .thenReturn(List.of(existingMvpProgress));
+
+        // When
+        List<TftBadgeDto> badges = tftBadgeService.renewAccountBadges(account, List.of(newMatch, oldMatch));
+
+        // Then
+        verifyNoInteractions(achievementRepository);
+        verify(oldMatch, never()).getParticipants();
+        verify(badgeWindowRepository).save(window);
+        verify(badgeProgressRepository).saveAll(argThat((List<TftBadgeProgress> saved) ->
+            saved.size() == TftBadgeProgress.BadgeType.values().length && saved.contains(existingMvpProgress)));
+
+        assertThat(window.getMatchIds()).containsExactly(2L, 1L);
+        assertThat(existingMvpProgress.getAchievementCount()).isEqualTo(2);
+        assertThat(badges).hasSize(TftBadgeProgress.BadgeType.values().length);
+        assertThat(badges)
+            .filteredOn(badge -> badge.badgeType().equals("STEADY"))
+            .extracting(TftBadgeDto::currentCount)
+            .containsExactly(2);
+        assertThat(badges)
+            .filteredOn(badge -> badge.badgeType().equals("LUXURY"))
+            .extracting(TftBadgeDto::currentCount)
+            .containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("새로 반영할 매치가 없고 뱃지가 모두 있으면 저장하지 않는다")
+    void renewAccountBadges_ShouldSkipWrites_WhenNothingNew() {
+        // Given
+        RiotAccount account = mock(RiotAccount.class);
+        when(account.getId()).thenReturn(1L);
 
-        // BadgeType별로 다른 업적 카운트 설정
-        when(achievementRepository.countRecentAchievements(
-            eq("test-puuid"),
-            eq(AchievementType.FIRST_PLACE.toString()),
-            eq(20)
-        )).thenReturn(5);
-        when(achievementRepository.countRecentAchievements(
-            eq("test-puuid"),
-            argThat(achievementType -> !achievementType.equals(AchievementType.FIRST_PLACE.toString())),
-            eq(20)
-        )).thenReturn(0);
+        TftBadgeWindow window = new TftBadgeWindow(account);
+        window.sync(List.of(1L), matchId -> TftBadgeWindow.maskOf(AchievementType.TOP_FOUR));
+        when(badgeWindowRepository.findByRiotAccountId(1L)).thenReturn(Optional.of(window));
+
+        TftMatch oldMatch = mock(TftMatch.class);
+        when(oldMatch.getId()).thenReturn(1L);
+
+        when(badgeProgressRepository.findByRiotAccount(account))
+            .thenReturn(Arrays.stream(TftBadgeProgress.BadgeType.values())
+                .map(type -> new TftBadgeProgress(account, type))
+                .toList());
 
         // When
-        tftBadgeService.renewAccountBadges(account);
+        List<TftBadgeDto> badges = tftBadgeService.renewAccountBadges(account, List.of(oldMatch));
 
         // Then
-        // 모든 뱃지 타입에 대해 save가 호출되었는지 확인
-        verify(badgeProgressRepository, times(TftBadgeProgress.BadgeType.values().length))
-            .save(any(TftBadgeProgress.class));
-        
-        // MVP 뱃지의 진행도가 정확히 업데이트되었는지 확인
-        assertThat(existingMvpProgress.getAchievementCount()).isEqualTo(5);
+        assertThat(badges).hasSize(TftBadgeProgress.BadgeType.values().length);
+        verify(badgeWindowRepository, never()).save(any());
+        verify(badgeProgressRepository, never()).saveAll(anyList());
     }
 
     @Test
     void findAllBadges_ShouldReturnAllBadges_WhenBadgesDoesNotExistYet() {
         // Given
         RiotAccount account = mock(RiotAccount.class);
+        when(account.getId()).thenReturn(1L);
         when(account.getPuuid()).thenReturn("test-puuid");
 
         when(badgeProgressRepository.findByRiotAccount(account))
             .thenReturn(List.of());
+        when(badgeWindowRepository.findByRiotAccountId(1L)).thenReturn(Optional.empty());
 
-        // 모든 BadgeType에 대해 countRecentAchievements가 호출될 때 0을 반환하도록 설정
-        when(achievementRepository.countRecentAchievements(anyString(), anyString(), anyInt()))
-            .thenReturn(0);
+        // 저장된 최근 경기가 없는 경우
+        when(tftMatchRepository.findRecentMatchesWithParticipants("test-puuid", TftBadgeWindow.CAPACITY))
+            .thenReturn(List.of());
 
         // When
         List<TftBadgeDto> badges = tftBadgeService.findAllBadges(account);
@@ -202,6 +261,47 @@ class TftBadgeServiceTest {
 
         // saveAll이 호출되었는지 확인
         verify(badgeProgressRepository).saveAll(anyList());
+        verifyNoInteractions(achievementRepository);
+    }
+
+    @Test
+    @DisplayName("뱃지가 없으면 저장된 최근 매치로 윈도우를 구성해 업적 집계 쿼리 없이 진행도를 계산한다")
+    void findAllBadges_ShouldBuildWindowFromStoredMatches_WhenBadgesDoesNotExistYet() {
+        // Given
+        RiotAccount account = mock(RiotAccount.class);
+        when(account.getId()).thenReturn(1L);
+        when(account.getPuuid()).thenReturn("test-puuid");
+
+        when(badgeProgressRepository.findByRiotAccount(account))
+            .thenReturn(List.of());
+        when(badgeWindowRepository.findByRiotAccountId(1L)).thenReturn(Optional.empty());
+
+        // 저장된 최근 매치에서 1등
+        TftMatch storedMatch = mock(TftMatch.class);
+        when(storedMatch.getId()).thenReturn(1L);
+        TftMatchParticipant me = createParticipant(1, 3, 1500, List.of(
+            new TftMatchUnit("TFT9_Ahri", List.of(), "Ahri", 4, 2)
+        ));
+        when(me.getPuuid()).thenReturn("test-puuid");
+        TftMatchParticipant other = createParticipant(2, 1, 500, List.of(
+            new TftMatchUnit("TFT9_Annie", List.of(), "Annie", 1, 1)
+        ));
+        when(other.getPuuid()).thenReturn("other-puuid");
+        when(storedMatch.getParticipants()).thenReturn(List.of(me, other));
+        when(tftMatchRepository.findRecentMatchesWithParticipants("test-puuid", TftBadgeWindow.CAPACITY))
+            .thenReturn(List.of(storedMatch));
+
+        // When
+        List<TftBadgeDto> badges = tftBadgeService.findAllBadges(account);
+
+        // Then
+        verifyNoInteractions(achievementRepository);
+        verify(badgeWindowRepository).save(argThat(window -> window.getMatchIds().equals(List.of(1L))));
+        assertThat(badges).hasSize(TftBadgeProgress.BadgeType.values().length);
+        assertThat(badges)
+            .filteredOn(badge -> badge.badgeType().equals("STEADY"))
+            .extracting(TftBadgeDto::currentCount)
+            .containsExactly(1);
     }
 
     @Test
@@ -0,0 +1,128 @@
+package com.glennsyj.rivals.api.tft.service;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntry;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot;
+import com.glennsyj.rivals.api.tft.entity.entry.TftLeagueEntrySnapshot.Resolution;
+import com.glennsyj.rivals.api.tft.repository.TftLeagueEntrySnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TftLeagueEntryHistoryManagerTest {
+
+    @Mock
+    private TftLeagueEntrySnapshotRepository snapshotRepository;
+
+    private TftLeagueEntryHistoryManager historyManager;
+
+    @BeforeEach
+    void setUp() {
+        historyManager = new TftLeagueEntryHistoryManager(snapshotRepository, 7, 90);
+    }
+
+    @Test
+    @DisplayName("저장된 엔트리마다 RAW 기록을 한 행씩 추가한다")
+    void whenEntriesRenewed_thenAppendRawSnapshots() {
+        // given
+        RiotAccount account = mock(RiotAccount.class);
+        when(account.getId()).thenReturn(1L);
+        TftLeagueEntry entry = mock(TftLeagueEntry.class);
+        when(entry.getAccount()).thenReturn(account);
+        when(entry.getQueueType()).thenReturn(TftLeagueEntry.QueueType.RANKED_TFT);
+        when(entry.getTier()).thenReturn(TftLeagueEntry.Tier.GOLD);
+        when(entry.getRank()).thenReturn(TftLeagueEntry.Rank.II);
+        when(entry.getLeaguePoints()).thenReturn(42);
+        when(snapshotRepository.findFirstByAccountIdAndQueueTypeOrderByCapturedAtDesc(1L, TftLeagueEntry.QueueType.RANKED_TFT))
+                .thenReturn(Optional.empty());
+
+        // when
+        historyManager.onLeagueEntriesRenewed(new LeagueEntriesRenewedEvent("puuid", List.of(entry)));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TftLeagueEntrySnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(snapshotRepository).saveAll(captor.capture());
+        TftLeagueEntrySnapshot snapshot = captor.getValue().get(0);
+        assertThat(snapshot.getAccountId()).isEqualTo(1L);
+        assertThat(snapshot.getLeaguePoints()).isEqualTo(42);
+        assertThat(snapshot.getResolution()).isEqualTo(Resolution.RAW);
+    }
+
+    @Test
+    @DisplayName("티어, 랭크, LP, 승/패가 마지막 기록과 같으면 RAW 기록을 추가하지 않는다")
+    void whenEntryUnchanged_thenSkipSnapshot() {
+        // given
+        RiotAccount account = mock(RiotAccount.class);
+        when(account.getId()).thenReturn(1L);
+        TftLeagueEntry entry = mock(TftLeagueEntry.class);
+        when(entry.getAccount()).thenReturn(account);
+        when(entry.getQueueType()).thenReturn(TftLeagueEntry.QueueType.RANKED_TFT);
+        when(entry.getTier()).thenReturn(TftLeagueEntry.Tier.GOLD);
+        when(entry.getRank()).thenReturn(TftLeagueEntry.Rank.II);
+        when(entry.getLeaguePoints()).thenReturn(42);
+        when(entry.getWins()).thenReturn(10);
+        when(entry.getLosses()).thenReturn(12);
+
+        TftLeagueEntrySnapshot last = new TftLeagueEntrySnapshot(entry, LocalDateTime.now().minusHours(1));
+        when(snapshotRepository.findFirstByAccountIdAndQueueTypeOrderByCapturedAtDesc(1L, TftLeagueEntry.QueueType.RANKED_TFT))
+                .thenReturn(Optional.of(last));
+
+        // when
+        historyManager.onLeagueEntriesRenewed(new LeagueEntriesRenewedEvent("puuid", List.of(entry)));
+
+        // then
+        verify(snapshotRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("다운샘플링은 버킷별 마지막 값만 남긴 뒤 해상도를 낮춘다")
+    void whenDownsample_thenDeleteSupersededBeforePromote() {
+        // when
+        historyManager.downsample();
+
+        // then
+        InOrder order = inOrder(snapshotRepository);
+        order.verify(snapshotRepository).deleteSupersededInBucket(eq("RAW"), eq("%Y-%m-%d %H"), any(LocalDateTime.class));
+        order.verify(snapshotRepository).promote(eq("RAW"), eq("HOURLY"), any(LocalDateTime.class));
+        order.verify(snapshotRepository).deleteSupersededInBucket(eq("HOURLY"), eq("%Y-%m-%d"), any(LocalDateTime.class));
+        order.verify(snapshotRepository).promote(eq("HOURLY"), eq("DAILY"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("다운샘플링 기준 시각은 버킷 경계(시간/일)에 맞춘다")
+    void whenDownsample_thenAlignCutoffToBucket() {
+        // when
+        historyManager.downsample();
+
+        // then
+        ArgumentCaptor<LocalDateTime> rawBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(snapshotRepository).promote(eq("RAW"), eq("HOURLY"), rawBefore.capture());
+        assertThat(rawBefore.getValue()).isEqualTo(rawBefore.getValue().truncatedTo(ChronoUnit.HOURS));
+
+        ArgumentCaptor<LocalDateTime> hourlyBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(snapshotRepository).promote(eq("HOURLY"), eq("DAILY"), hourlyBefore.capture());
+        assertThat(hourlyBefore.getValue()).isEqualTo(hourlyBefore.getValue().truncatedTo(ChronoUnit.DAYS));
+    }
+}
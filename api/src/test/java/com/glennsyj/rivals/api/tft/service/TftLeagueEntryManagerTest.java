@@ -1,5 +1,6 @@
 package com.glennsyj.rivals.api.tft.service;
 
+import com.glennsyj.rivals.api.config.EntityTestUtil;
 import com.glennsyj.rivals.api.riot.entity.RiotAccount;
 import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
 import com.glennsyj.rivals.api.tft.TftApiClient;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,9 +22,11 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class TftLeagueEntryManagerTest {
@@ -35,6 +39,9 @@ class TftLeagueEntryManagerTest {
     
     @Mock
     private TftApiClient tftApiClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     
     @InjectMocks
     private TftLeagueEntryManager tftLeagueEntryManager;
@@ -87,38 +94,72 @@ class TftLeagueEntryManagerTest {
     }
 
     @Test
-    @DisplayName("renewEntry: 기존 엔트리들을 갱신하고 새로운 큐타입의 엔트리를 생성한다")
-    void renewEntry_ShouldUpdateExistingEntriesAndCreateNewOnes() {
+    @DisplayName("saveRenewedEntries: 기존 엔트리들을 갱신하고 새로운 큐타입의 엔트리를 생성한다")
+    void saveRenewedEntries_ShouldUpdateExistingEntriesAndCreateNewOnes() {
         // given
         Long accountId = 1L;
         String puuid = "test-puuid";
         RiotAccount account = new RiotAccount("test", "KR1", puuid);
-
-        // 기존 엔트리 (RANKED_TFT)
-        TftLeagueEntry existingEntry = createMockEntry();
+        EntityTestUtil.setId(account, accountId);
 
         // 새로운 응답 (RANKED_TFT와 RANKED_TFT_TURBO)
         TftLeagueEntryResponse response1 = createMockResponse(); // RANKED_TFT
         TftLeagueEntryResponse response2 = createMockResponseWithQueueType("RANKED_TFT_TURBO");
         List<TftLeagueEntryResponse> responses = List.of(response1, response2);
 
+        // upsert 후 다시 조회한 현재 엔트리 (응답에 없는 큐타입의 기존 행 포함)
+        List<TftLeagueEntry> currentEntries = List.of(
+                new TftLeagueEntry(account, response1),
+                new TftLeagueEntry(account, response2),
+                new TftLeagueEntry(account, createMockResponseWithQueueType("RANKED_TFT_DOUBLE_UP")));
+
         // Mocking
         when(riotAccountRepository.findById(accountId))
                 .thenReturn(Optional.of(account));
-        when(tftApiClient.getLeagueEntries(puuid))
-                .thenReturn(responses);
-        when(tftLeagueEntryRepository.findLatestEntriesForEachQueueTypeByAccountId(accountId))
-                .thenReturn(List.of());  // 기존 엔트리 없음
-        when(tftLeagueEntryRepository.saveAll(any()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(tftLeagueEntryRepository.findAllByAccount_Id(accountId))
+                .thenReturn(currentEntries);
 
         // when
-        List<TftLeagueEntry> results = tftLeagueEntryManager.renewEntry(accountId, puuid);
+        List<TftLeagueEntry> results = tftLeagueEntryManager.saveRenewedEntries(accountId, responses);
 
         // then
         assertThat(results).hasSize(2);
         assertThat(results).allMatch(entry -> entry.getAccount().equals(account));
-        verify(tftLeagueEntryRepository).saveAll(any());
+        verify(tftLeagueEntryRepository).upsertAll(argThat(entries -> entries.size() == 2));
+        verify(eventPublisher).publishEvent(any(LeagueEntriesRenewedEvent.class));
+        verify(tftApiClient, never()).getLeagueEntries(anyString());
+    }
+
+    @Test
+    @DisplayName("fetchLeagueEntries: 이번 시즌 랭크 기록이 없으면 빈 리스트를 반환한다")
+    void fetchLeagueEntries_ShouldReturnEmpty_WhenUnranked() {
+        // given
+        when(tftApiClient.getLeagueEntries("test-puuid"))
+                .thenReturn(List.of());
+
+        // when
+        List<TftLeagueEntryResponse> responses = tftLeagueEntryManager.fetchLeagueEntries("test-puuid");
+
+        // then
+        assertThat(responses).isEmpty();
+    }
+
+    @Test
+    @DisplayName("saveRenewedEntries: 랭크 기록이 없는 계정은 아무것도 저장하지 않고 빈 리스트를 반환한다")
+    void saveRenewedEntries_ShouldSaveNothing_WhenUnranked() {
+        // given
+        RiotAccount account = new RiotAccount("test", "KR1", "test-puuid");
+        EntityTestUtil.setId(account, 1L);
+        when(riotAccountRepository.findById(1L))
+                .thenReturn(Optional.of(account));
+
+        // when
+        List<TftLeagueEntry> result = tftLeagueEntryManager.saveRenewedEntries(1L, List.of());
+
+        // then
+        assertThat(result).isEmpty();
+        verify(tftLeagueEntryRepository, never()).upsertAll(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -130,7 +171,7 @@ class TftLeagueEntryManagerTest {
         TftLeagueEntry existingEntry2 = createMockEntryWithQueueType("RANKED_TFT_TURBO");
         List<TftLeagueEntry> existingEntries = List.of(existingEntry1, existingEntry2);
 
-        when(tftLeagueEntryRepository.findLatestEntriesForEachQueueTypeByAccountId(accountId))
+        when(tftLeagueEntryRepository.findAllByAccount_Id(accountId))
             .thenReturn(existingEntries);
 
         // when
@@ -148,21 +189,22 @@ class TftLeagueEntryManagerTest {
         // given
         Long accountId = 1L;
         RiotAccount account = new RiotAccount("test", "KR1", "test-puuid");
+        EntityTestUtil.setId(account, accountId);
         TftLeagueEntryResponse response1 = createMockResponse();
         TftLeagueEntryResponse response2 = createMockResponseWithQueueType("RANKED_TFT_TURBO");
         List<TftLeagueEntryResponse> responses = List.of(response1, response2);
 
-        when(tftLeagueEntryRepository.findLatestEntriesForEachQueueTypeByAccountId(accountId))
-            .thenReturn(List.of());
-        when(riotAccountRepository.findById(accountId))
-            .thenReturn(Optional.of(account));
-        when(tftApiClient.getLeagueEntries(account.getPuuid()))
-            .thenReturn(responses);
-        when(tftLeagueEntryRepository.saveAll(any()))
+        // 처음에는 엔트리가 없고, upsert 후 다시 조회하면 저장된 엔트리가 조회됨
+        when(tftLeagueEntryRepository.findAllByAccount_Id(accountId))
+            .thenReturn(List.of())
             .thenReturn(List.of(
                 new TftLeagueEntry(account, response1),
                 new TftLeagueEntry(account, response2)
             ));
+        when(riotAccountRepository.findById(accountId))
+            .thenReturn(Optional.of(account));
+        when(tftApiClient.getLeagueEntries(account.getPuuid()))
+            .thenReturn(responses);
 
         // when
         List<TftLeagueEntry> result = tftLeagueEntryManager.findOrCreateLeagueEntries(accountId);
@@ -170,7 +212,7 @@ class TftLeagueEntryManagerTest {
         // then
         assertThat(result).hasSize(2);
         assertThat(result).allMatch(entry -> entry.getAccount().equals(account));
-        verify(tftLeagueEntryRepository).saveAll(any());
+        verify(tftLeagueEntryRepository).upsertAll(argThat(entries -> entries.size() == 2));
     }
 
     private TftLeagueEntry createMockEntry() {
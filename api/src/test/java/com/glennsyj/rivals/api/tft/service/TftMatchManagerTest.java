@@ -1,29 +1,48 @@
 package com.glennsyj.rivals.api.tft.service;
 
+import com.glennsyj.rivals.api.common.client.exception.RiotRateLimitException;
 import com.glennsyj.rivals.api.config.EntityTestUtil;
-import com.glennsyj.rivals.api.tft.TftApiClient;
+import com.glennsyj.rivals.api.tft.cache.TftMatchCache;
 import com.glennsyj.rivals.api.tft.entity.match.TftMatch;
 import com.glennsyj.rivals.api.tft.model.match.MatchSyncResult;
+import com.glennsyj.rivals.api.tft.model.match.TftMatchFetchResult;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchInfo;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchMetadata;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchParticipant;
 import com.glennsyj.rivals.api.tft.model.match.TftMatchResponse;
+import com.glennsyj.rivals.api.tft.outbox.MatchesIngestedEvent;
 import com.glennsyj.rivals.api.tft.repository.TftMatchParticipantRepository;
 import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import com.glennsyj.rivals.api.tft.repository.TftOutboxEventRepository;
+import com.glennsyj.rivals.api.tft.repository.TftPlayerMatchIndexRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -38,19 +57,41 @@ class TftMatchManagerTest {
     private TftMatchRepository tftMatchRepository;
 
     @Mock
-    private TftApiClient tftApiClient;
+    private TftMatchSyncCursorManager tftMatchSyncCursorManager;
+
+    @Mock
+    private TftMatchCache tftMatchCache;
+
+    @Mock
+    private TftPlayerMatchIndexRepository tftPlayerMatchIndexRepository;
+
+    @Mock
+    private TftOutboxEventRepository tftOutboxEventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private TftMatchManager tftMatchManager;
 
+    @BeforeEach
+    void setUp() {
+        // 저장 단계 트랜잭션은 콜백을 바로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     @DisplayName("매치 조회 시 기존 매치가 없고 새로운 매치도 없는 경우")
     void whenNoMatches_thenReturnEmptyResult() {
         // given
         String puuid = "test-puuid";
-        given(tftMatchRepository.findTop20ByParticipantsPuuidOrderByGameCreationDesc(puuid))
+        given(tftMatchRepository.findRecentMatchesWithParticipants(puuid, 20))
                 .willReturn(Collections.emptyList());
-        given(tftApiClient.getMatchIdsFromPuuid(puuid))
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, puuid))
                 .willReturn(Collections.emptyList());
 
         // when
@@ -60,8 +101,8 @@ class TftMatchManagerTest {
         assertThat(result.allMatches()).isEmpty();
         assertThat(result.newMatches()).isEmpty();
         assertThat(result.hasNewMatches()).isFalse();
-        verify(tftApiClient).getMatchIdsFromPuuid(puuid);
-        verify(tftMatchRepository, never()).saveAll(any());
+        verify(tftMatchSyncCursorManager).findCandidateMatchIds(1L, puuid);
+        verify(tftMatchRepository, never()).insertIgnoringDuplicates(any());
     }
 
     @Test
@@ -71,9 +112,9 @@ class TftMatchManagerTest {
         String puuid = "test-puuid";
         List<TftMatch> existingMatches = List.of(createTftMatch("match-1"));
         
-        given(tftMatchRepository.findTop20ByParticipantsPuuidOrderByGameCreationDesc(puuid))
+        given(tftMatchRepository.findRecentMatchesWithParticipants(puuid, 20))
                 .willReturn(existingMatches);
-        given(tftApiClient.getMatchIdsFromPuuid(puuid))
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, puuid))
                 .willReturn(List.of("match-1"));
 
         // when
@@ -83,7 +124,8 @@ class TftMatchManagerTest {
         assertThat(result.allMatches()).isEqualTo(existingMatches);
         assertThat(result.newMatches()).isEmpty();
         assertThat(result.hasNewMatches()).isFalse();
-        verify(tftMatchRepository, never()).saveAll(any());
+        verify(tftMatchRepository, never()).insertIgnoringDuplicates(any());
+        verify(tftOutboxEventRepository, never()).saveAll(any());
     }
 
     @Test
@@ -92,18 +134,17 @@ class TftMatchManagerTest {
         // given
         String puuid = "test-puuid";
         List<String> matchIds = List.of("match-1", "match-2");
-        TftMatchResponse mockResponse = createMockMatchResponse();
-        List<TftMatch> newMatches = List.of(TftMatch.from(mockResponse));
-        List<TftMatch> allMatches = new ArrayList<>(newMatches);
+        List<TftMatch> allMatches = List.of(createTftMatch("match-1"), createTftMatch("match-2"));
 
-        given(tftMatchRepository.findTop20ByParticipantsPuuidOrderByGameCreationDesc(puuid))
+        given(tftMatchRepository.findRecentMatchesWithParticipants(puuid, 20))
                 .willReturn(allMatches);
-        given(tftApiClient.getMatchIdsFromPuuid(puuid))
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, puuid))
                 .willReturn(matchIds);
-        given(tftApiClient.getMatchResponseFromMatchId(any()))
-                .willReturn(mockResponse);
-        given(tftMatchRepository.saveAll(any()))
-                .willReturn(newMatches);
+        given(tftMatchCache.findUnpersistedMatchIds(any()))
+                .willAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+        given(tftMatchCache.get(any()))
+                .willAnswer(invocation -> Mono.just(createMockMatchResponse(invocation.getArgument(0))));
+        givenMatchesInsertedByThisTransaction();
 
         // when
         MatchSyncResult result = tftMatchManager.findOrCreateRecentTftMatches(1L, puuid);
@@ -112,51 +153,220 @@ class TftMatchManagerTest {
         assertThat(result.allMatches()).isEqualTo(allMatches);
         assertThat(result.newMatches()).hasSize(2);
         assertThat(result.hasNewMatches()).isTrue();
-        verify(tftMatchRepository).saveAll(any());
+        verify(tftMatchRepository).insertIgnoringDuplicates(any());
+        verify(tftMatchParticipantRepository).saveAll(any());
+        verify(tftPlayerMatchIndexRepository).saveAll(any());
+        // 업적 계산은 요청 스레드에서 하지 않고 아웃박스 이벤트만 기록
+        verify(tftOutboxEventRepository).saveAll(any());
+        verify(eventPublisher).publishEvent(any(MatchesIngestedEvent.class));
     }
 
     @Test
-    @DisplayName("매치 갱신 시 새로운 매치가 있는 경우")
-    void whenRenewingWithNewMatches_thenSaveAndReturnMatches() {
+    @DisplayName("조회 단계에서 받아오지 못한 매치는 저장 단계의 커서 이동에서 제외한다")
+    void whenFetchingAndSavingNewMatches_thenExcludeMissingFromCursor() {
         // given
         String puuid = "test-puuid";
         List<String> matchIds = List.of("match-1", "match-2", "match-3");
-        List<TftMatch> existingMatches = List.of(createTftMatch("match-1"));
-        TftMatchResponse mockResponse = createMockMatchResponse();
-        List<TftMatch> allMatches = List.of(
-            createTftMatch("match-1"),
-            createTftMatch("match-2"),
-            createTftMatch("match-3")
-        );
 
-        given(tftApiClient.getMatchIdsFromPuuid(puuid))
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, puuid))
                 .willReturn(matchIds);
-        given(tftMatchRepository.findByMatchIdIn(matchIds))
-                .willReturn(existingMatches);
-        given(tftApiClient.getMatchResponseFromMatchId(any()))
-                .willReturn(mockResponse);
-        given(tftMatchRepository.findTop20ByParticipantsPuuidOrderByGameCreationDesc(puuid))
-                .willReturn(allMatches);
+        given(tftMatchCache.findUnpersistedMatchIds(matchIds))
+                .willReturn(List.of("match-2", "match-3"));
+        given(tftMatchCache.findUnpersistedMatchIds(List.of("match-2")))
+                .willReturn(List.of("match-2"));
+        given(tftMatchCache.get("match-2"))
+                .willReturn(Mono.just(createMockMatchResponse("match-2")));
+        given(tftMatchCache.get("match-3"))
+                .willReturn(Mono.error(timeout()));
+        givenMatchesInsertedByThisTransaction();
+
+        // when
+        TftMatchFetchResult fetched = tftMatchManager.fetchNewMatches(1L, puuid);
+        List<TftMatch> saved = tftMatchManager.saveFetchedMatches(1L, fetched);
+
+        // then
+        assertThat(fetched.missingMatchIds()).containsExactly("match-3");
+        assertThat(saved).extracting(TftMatch::getMatchId).containsExactly("match-2");
+        verify(tftMatchSyncCursorManager).advance(1L, matchIds, Set.of("match-3"));
+
+        // 조회 단계는 DB에 쓰지 않고, Riot API 호출이 모두 끝난 뒤에 저장
+        InOrder inOrder = inOrder(tftMatchCache, tftMatchRepository);
+        inOrder.verify(tftMatchCache, times(2)).get(any());
+        inOrder.verify(tftMatchRepository).insertIgnoringDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("반응형 갱신 시 새 매치를 배치로 저장하며 내보내고 마지막에 커서를 이동한다")
+    void whenStreamingNewMatches_thenSaveInBatchesAndAdvanceCursor() {
+        // given
+        String puuid = "test-puuid";
+        List<String> matchIds = List.of("match-1", "match-2", "match-3");
+
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, puuid))
+                .willReturn(matchIds);
+        given(tftMatchCache.findUnpersistedMatchIds(any()))
+                .willAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+        given(tftMatchCache.get("match-1"))
+                .willReturn(Mono.just(createMockMatchResponse("match-1")));
+        given(tftMatchCache.get("match-2"))
+                .willReturn(Mono.just(createMockMatchResponse("match-2")));
+        given(tftMatchCache.get("match-3"))
+                .willReturn(Mono.error(timeout()));
+        givenMatchesInsertedByThisTransaction();
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        List<TftMatch> streamed = tftMatchManager.streamNewMatches(1L, puuid).collectList().block();
+
+        // then
+        assertThat(streamed)
+                .extracting(TftMatch::getMatchId)
+                .containsExactlyInAnyOrder("match-1", "match-2");
+        verify(tftMatchRepository).insertIgnoringDuplicates(any());
+        verify(tftOutboxEventRepository).saveAll(any());
+        verify(tftMatchSyncCursorManager).advance(1L, matchIds, Set.of("match-3"));
+    }
+
+    @Test
+    @DisplayName("반응형 갱신 시 후보 매치가 없으면 아무것도 저장하지 않는다")
+    void whenStreamingWithoutCandidates_thenEmpty() {
+        // given
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, "test-puuid"))
+                .willReturn(Collections.emptyList());
+
+        // when
+        List<TftMatch> streamed = tftMatchManager.streamNewMatches(1L, "test-puuid").collectList().block();
+
+        // then
+        assertThat(streamed).isEmpty();
+        verifyNoInteractions(tftMatchCache, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("여러 계정의 새 매치를 합쳐 겹치는 매치는 한 번만 조회하고 계정별로 나눈다")
+    void whenFetchingForAccounts_thenFetchSharedMatchOnce() {
+        // given
+        Map<Long, List<String>> candidates = new LinkedHashMap<>();
+        candidates.put(1L, List.of("match-shared", "match-1"));
+        candidates.put(2L, List.of("match-shared", "match-2"));
+        candidates.put(3L, List.of());
+
+        given(tftMatchCache.findUnpersistedMatchIds(any()))
+                .willAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+        given(tftMatchCache.get("match-shared"))
+                .willReturn(Mono.just(createMockMatchResponse("match-shared")));
+        given(tftMatchCache.get("match-1"))
+                .willReturn(Mono.just(createMockMatchResponse("match-1")));
+        given(tftMatchCache.get("match-2"))
+                .willReturn(Mono.error(timeout()));
+
+        // when
+        Map<Long, TftMatchFetchResult> results = tftMatchManager.fetchNewMatchesForAccounts(candidates);
+
+        // then
+        verify(tftMatchCache, times(1)).get("match-shared");
+        assertThat(results.get(1L).responses())
+                .extracting(response -> response.metadata().match_id())
+                .containsExactly("match-shared", "match-1");
+        assertThat(results.get(1L).missingMatchIds()).isEmpty();
+        assertThat(results.get(2L).responses())
+                .extracting(response -> response.metadata().match_id())
+                .containsExactly("match-shared");
+        assertThat(results.get(2L).missingMatchIds()).containsExactly("match-2");
+        assertThat(results.get(3L).hasCandidates()).isFalse();
+    }
+
+    @Test
+    @DisplayName("일시적인 실패가 아닌 매치 조회 오류는 건너뛰지 않고 갱신 실패로 전파한다")
+    void whenFetchFailsWithNonTransientError_thenPropagate() {
+        // given
+        String puuid = "test-puuid";
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, puuid))
+                .willReturn(List.of("match-1"));
+        given(tftMatchCache.findUnpersistedMatchIds(any()))
+                .willReturn(List.of("match-1"));
+        given(tftMatchCache.get("match-1"))
+                .willReturn(Mono.error(new IllegalArgumentException("Cannot deserialize")));
+
+        // when & then
+        assertThatThrownBy(() -> tftMatchManager.fetchNewMatches(1L, puuid))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(tftMatchSyncCursorManager, never()).advance(any(), any(), any());
+        verify(tftMatchRepository, never()).insertIgnoringDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 같은 매치를 먼저 삽입했으면 중복 키 예외 없이 건너뛰고 커서는 이동한다")
+    void whenMatchInsertedConcurrently_thenSkipWithoutFailing() {
+        // given
+        String puuid = "test-puuid";
+        List<String> matchIds = List.of("match-1");
+        given(tftMatchSyncCursorManager.findCandidateMatchIds(1L, puuid))
+                .willReturn(matchIds);
+        given(tftMatchCache.findUnpersistedMatchIds(any()))
+                .willReturn(matchIds);
+        given(tftMatchCache.get("match-1"))
+                .willReturn(Mono.just(createMockMatchResponse("match-1")));
+        given(tftMatchRepository.insertIgnoringDuplicates(any()))
+                .willReturn(Map.of());
 
         // when
-        List<TftMatch> result = tftMatchManager.renewRecentTftMatches(puuid);
+        List<TftMatch> result = tftMatchManager.saveFetchedMatches(1L, tftMatchManager.fetchNewMatches(1L, puuid));
 
         // then
-        assertThat(result).hasSize(3);
-        verify(tftMatchRepository).saveAll(any());
-        verify(tftApiClient, times(2)).getMatchResponseFromMatchId(any());
+        assertThat(result).isEmpty();
+        verify(tftMatchSyncCursorManager).advance(1L, matchIds, Set.of());
+        verifyNoInteractions(tftMatchParticipantRepository, tftPlayerMatchIndexRepository,
+                tftOutboxEventRepository, eventPublisher);
+    }
+
+    /**
+     * 넘긴 매치를 모두 이번 트랜잭션이 삽입한 것으로 보고, 다시 조회하면 참가자 없는 매치 행을 반환
+     */
+    private void givenMatchesInsertedByThisTransaction() {
+        Map<Long, TftMatch> stored = new HashMap<>();
+        given(tftMatchRepository.insertIgnoringDuplicates(any())).willAnswer(invocation -> {
+            Map<String, Long> ids = new LinkedHashMap<>();
+            for (TftMatch match : invocation.<List<TftMatch>>getArgument(0)) {
+                Long id = stored.size() + 1L;
+                TftMatch row = new TftMatch(match.getMatchId(), match.getDataVersion(), match.getGameCreation(),
+                        match.getGameId(), match.getGameDateTime(), match.getGameLength(), match.getGameVersion(),
+                        match.getGameVariation(), match.getMapId(), match.getQueueId(), match.getTftGameType(),
+                        match.getTftSetCoreName(), match.getTftSetNumber(), match.getEndOfGameResult());
+                EntityTestUtil.setId(row, id);
+                stored.put(id, row);
+                ids.put(match.getMatchId(), id);
+            }
+            return ids;
+        });
+        given(tftMatchRepository.findAllById(any())).willAnswer(invocation -> {
+            List<TftMatch> rows = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(id -> rows.add(stored.get(id)));
+            return rows;
+        });
+    }
+
+    private static RiotRateLimitException timeout() {
+        return new RiotRateLimitException("Riot API 응답 대기 시간 초과", Duration.ZERO, null);
     }
 
     private TftMatchResponse createMockMatchResponse() {
+        return createMockMatchResponse("match-1");
+    }
+
+    private TftMatchResponse createMockMatchResponse(String matchId) {
         return new TftMatchResponse(
-            createMockMatchMetadata(),
+            createMockMatchMetadata(matchId),
             createMockMatchInfo()
         );
     }
 
-    private TftMatchMetadata createMockMatchMetadata() {
+    private TftMatchMetadata createMockMatchMetadata(String matchId) {
         return new TftMatchMetadata(
-            "match-1",
+            matchId,
             "version-1",
             List.of("test-puuid")
         );
@@ -0,0 +1,162 @@
+package com.glennsyj.rivals.api.tft.service;
+
+import com.glennsyj.rivals.api.riot.entity.RiotAccount;
+import com.glennsyj.rivals.api.riot.repository.RiotAccountRepository;
+import com.glennsyj.rivals.api.tft.TftApiClient;
+import com.glennsyj.rivals.api.tft.entity.match.TftMatchSyncCursor;
+import com.glennsyj.rivals.api.tft.repository.TftMatchRepository;
+import com.glennsyj.rivals.api.tft.repository.TftMatchSyncCursorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TftMatchSyncCursorManagerTest {
+
+    @Mock
+    private TftMatchSyncCursorRepository tftMatchSyncCursorRepository;
+
+    @Mock
+    private TftMatchRepository tftMatchRepository;
+
+    @Mock
+    private RiotAccountRepository riotAccountRepository;
+
+    @Mock
+    private TftApiClient tftApiClient;
+
+    private TftMatchSyncCursorManager cursorManager;
+
+    @BeforeEach
+    void setUp() {
+        // 페이지 크기 2, 최대 5개까지 백필
+        cursorManager = new TftMatchSyncCursorManager(
+                tftMatchSyncCursorRepository, tftMatchRepository, riotAccountRepository, tftApiClient, 2, 5);
+    }
+
+    @Test
+    @DisplayName("커서가 없는 계정은 backfillLimit까지 페이지 단위로 매치 ID를 받아온다")
+    void whenNoCursor_thenBackfillByPages() {
+        // given
+        String puuid = "test-puuid";
+        given(tftMatchSyncCursorRepository.findByRiotAccountId(1L)).willReturn(Optional.empty());
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, null, 0, 2)).willReturn(List.of("m-5", "m-4"));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, null, 2, 2)).willReturn(List.of("m-3", "m-2"));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, null, 4, 1)).willReturn(List.of("m-1"));
+
+        // when
+        List<String> result = cursorManager.findCandidateMatchIds(1L, puuid);
+
+        // then
+        assertThat(result).containsExactly("m-5", "m-4", "m-3", "m-2", "m-1");
+    }
+
+    @Test
+    @DisplayName("커서가 있는 계정은 커서 시점 이후의 매치만 받아오고 마지막 매치는 제외한다")
+    void whenCursorExists_thenFetchOnlyNewerMatches() {
+        // given
+        String puuid = "test-puuid";
+        TftMatchSyncCursor cursor = new TftMatchSyncCursor(mock(RiotAccount.class), 1_700_000_000_500L, "m-1");
+        given(tftMatchSyncCursorRepository.findByRiotAccountId(1L)).willReturn(Optional.of(cursor));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, 1_700_000_000L, 0, 2)).willReturn(List.of("m-2", "m-1"));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, 1_700_000_000L, 2, 2)).willReturn(List.of());
+
+        // when
+        List<String> result = cursorManager.findCandidateMatchIds(1L, puuid);
+
+        // then
+        assertThat(result).containsExactly("m-2");
+    }
+
+    @Test
+    @DisplayName("커서 이후 backfillLimit보다 많이 플레이했어도 커서까지 모든 페이지를 받아온다")
+    void whenCursorGapExceedsBackfillLimit_thenFetchUntilCursor() {
+        // given
+        String puuid = "test-puuid";
+        TftMatchSyncCursor cursor = new TftMatchSyncCursor(mock(RiotAccount.class), 1_700_000_000_500L, "m-1");
+        given(tftMatchSyncCursorRepository.findByRiotAccountId(1L)).willReturn(Optional.of(cursor));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, 1_700_000_000L, 0, 2)).willReturn(List.of("m-7", "m-6"));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, 1_700_000_000L, 2, 2)).willReturn(List.of("m-5", "m-4"));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, 1_700_000_000L, 4, 2)).willReturn(List.of("m-3", "m-2"));
+        given(tftApiClient.getMatchIdsFromPuuid(puuid, 1_700_000_000L, 6, 2)).willReturn(List.of("m-1"));
+
+        // when
+        List<String> result = cursorManager.findCandidateMatchIds(1L, puuid);
+
+        // then
+        assertThat(result).containsExactly("m-7", "m-6", "m-5", "m-4", "m-3", "m-2");
+    }
+
+    @Test
+    @DisplayName("받아오지 못한 매치가 있으면 그보다 오래된 매치까지만 커서를 이동한다")
+    void whenMissingMatchExists_thenAdvanceBeforeIt() {
+        // given
+        TftMatchSyncCursor cursor = new TftMatchSyncCursor(mock(RiotAccount.class), 1000L, "m-0");
+        given(tftMatchRepository.findGameCreationsByMatchIdIn(List.of("m-1")))
+                .willReturn(List.of(matchCreation("m-1", 2000L)));
+        given(tftMatchSyncCursorRepository.findByRiotAccountId(1L)).willReturn(Optional.of(cursor));
+
+        // when
+        cursorManager.advance(1L, List.of("m-3", "m-2", "m-1"), Set.of("m-2"));
+
+        // then
+        assertThat(cursor.getLastMatchId()).isEqualTo("m-1");
+        assertThat(cursor.getLastGameCreation()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 후보를 받아오지 못했다면 커서를 이동하지 않는다")
+    void whenOldestMatchMissing_thenKeepCursor() {
+        // when
+        cursorManager.advance(1L, List.of("m-2", "m-1"), Set.of("m-1"));
+
+        // then
+        verify(tftMatchRepository, never()).findGameCreationsByMatchIdIn(any());
+        verify(tftMatchSyncCursorRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("가장 최근 후보가 404로 저장되지 않았으면 건너뛰고 그다음 저장된 매치로 커서를 이동한다")
+    void whenNewestMatchNotFound_thenAdvancePastIt() {
+        // given
+        TftMatchSyncCursor cursor = new TftMatchSyncCursor(mock(RiotAccount.class), 1000L, "m-0");
+        given(tftMatchRepository.findGameCreationsByMatchIdIn(List.of("m-3", "m-2", "m-1")))
+                .willReturn(List.of(matchCreation("m-2", 3000L), matchCreation("m-1", 2000L)));
+        given(tftMatchSyncCursorRepository.findByRiotAccountId(1L)).willReturn(Optional.of(cursor));
+
+        // when
+        cursorManager.advance(1L, List.of("m-3", "m-2", "m-1"), Set.of());
+
+        // then
+        assertThat(cursor.getLastMatchId()).isEqualTo("m-2");
+        assertThat(cursor.getLastGameCreation()).isEqualTo(3000L);
+    }
+
+    private TftMatchRepository.MatchCreation matchCreation(String matchId, Long gameCreation) {
+        return new TftMatchRepository.MatchCreation() {
+            @Override
+            public String getMatchId() {
+                return matchId;
+            }
+
+            @Override
+            public Long getGameCreation() {
+                return gameCreation;
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+import http from "k6/http";
+import { check } from "k6";
+import { Counter, Trend } from "k6/metrics";
+import { SharedArray } from "k6/data";
+import papaparse from "https://jslib.k6.io/papaparse/5.1.1/index.js";
+
+// --- 플랫폼 스레드 vs 가상 스레드 비교 테스트 ---
+// 같은 스크립트를 두 가지 모드로 띄운 백엔드에 각각 실행하고 결과를 비교합니다.
+// 1. 플랫폼 스레드(기본): SPRING_PROFILES_ACTIVE=dev ./gradlew bootRun
+// 2. 가상 스레드:        SPRING_PROFILES_ACTIVE=dev,virtual-threads ./gradlew bootRun -PjavaVersion=21
+//
+// 갱신 요청의 대부분은 Riot API 응답 대기 시간이므로, 동시 갱신 요청 수를 늘려가며
+// 처리량(renew_completed)과 응답 시간, 503(갱신 풀 포화) 비율을 비교합니다.
+// Riot API 호출 속도 자체는 백엔드의 RiotRateLimiter가 제한하므로,
+// 개발용 키로는 이미 저장된 소환사(새 매치가 적은 계정)를 대상으로 실행하는 것을 권장합니다.
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080";
+const MODE = __ENV.MODE || "platform";
+
+const summoners = new SharedArray("summoner list", function () {
+  return papaparse
+    .parse(open("./summoner-list.csv"), { header: true, skipEmptyLines: true })
+    .data;
+});
+
+// 모드별 결과를 구분하기 위해 모든 지표에 mode 태그를 붙입니다.
+const renewDuration = new Trend("renew_duration", true);
+const renewCompleted = new Counter("renew_completed");
+const renewRejected = new Counter("renew_rejected");
+
+export const options = {
+  tags: { mode: MODE },
+  scenarios: {
+    concurrent_renew: {
+      executor: "ramping-vus",
+      startVUs: 0,
+      stages: [
+        { duration: "30s", target: 50 },
+        { duration: "1m", target: 200 },
+        { duration: "1m", target: 200 },
+        { duration: "20s", target: 0 },
+      ],
+      gracefulRampDown: "30s",
+    },
+  },
+  thresholds: {
+    // 503은 의도된 부하 차단이므로 실패율에서 제외하고, 그 외 오류만 1% 미만으로 제한합니다.
+    "checks{type:renew}": ["rate>0.99"],
+    renew_duration: ["p(95)<5000"],
+  },
+};
+
+export default function () {
+  const summoner = summoners[Math.floor(Math.random() * summoners.length)];
+  const gameName = encodeURIComponent(summoner.gameName);
+  const tagLine = encodeURIComponent(summoner.tagLine);
+
+  const res = http.get(`${BASE_URL}/api/v1/tft/renew/${gameName}/${tagLine}`, {
+    tags: { name: "renew" },
+    timeout: "30s",
+  });
+
+  check(
+    res,
+    { "renew - 200 or 503": (r) => r.status === 200 || r.status === 503 },
+    { type: "renew" }
+  );
+
+  if (res.status === 200) {
+    renewCompleted.add(1);
+    renewDuration.add(res.timings.duration);
+  } else if (res.status === 503) {
+    renewRejected.add(1);
+  }
+}
+
+export function handleSummary(data) {
+  // 두 모드의 결과 파일을 나란히 비교할 수 있도록 모드별로 저장합니다.
+  return {
+    [`summary-${MODE}.json`]: JSON.stringify(data, null, 2),
+    stdout: textSummary(data),
+  };
+}
+
+function textSummary(data) {
+  const metric = (name, key) =>
+    data.metrics[name] ? data.metrics[name].values[key] : 0;
+  return [
+    `\n[${MODE}] 갱신 비교 결과`,
+    `  completed        : ${metric("renew_completed", "count")} (${metric("renew_completed", "rate").toFixed(2)}/s)`,
+    `  rejected (503)   : ${metric("renew_rejected", "count")}`,
+    `  duration p(95)   : ${metric("renew_duration", "p(95)").toFixed(0)}ms`,
+    `  max VUs          : ${metric("vus_max", "max")}`,
+    "",
+  ].join("\n");
+}